@@ -2,12 +2,16 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.PaymentProviderRequestDto;
 import com.example.demo.dto.PaymentPendingResponseDto;
+import com.example.demo.dto.PaymentStatusQueryDto;
+import com.example.demo.dto.PaymentStatusResponseDto;
 import com.example.demo.service.PaymentService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/payment")
@@ -16,8 +20,28 @@ public class ToTalPaymentController {
     private final PaymentService paymentService;
 
     @PostMapping
-    public ResponseEntity<PaymentPendingResponseDto> processPayment(@RequestBody PaymentProviderRequestDto request) {
-        PaymentPendingResponseDto response = paymentService.processPayment(request);
+    public ResponseEntity<PaymentPendingResponseDto> processPayment(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody PaymentProviderRequestDto request) {
+        PaymentPendingResponseDto response = paymentService.processPayment(idempotencyKey, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{externalPaymentId}")
+    public ResponseEntity<PaymentStatusResponseDto> getPaymentStatus(@PathVariable String externalPaymentId) {
+        PaymentStatusResponseDto response = paymentService.getPaymentStatus(externalPaymentId);
+        return response == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/status")
+    public ResponseEntity<List<PaymentStatusResponseDto>> getPaymentStatuses(@RequestBody PaymentStatusQueryDto request) {
+        List<PaymentStatusResponseDto> response = paymentService.getPaymentStatuses(request.externalPaymentIds());
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/{externalPaymentId}/cancel")
+    public ResponseEntity<PaymentStatusResponseDto> cancelPayment(@PathVariable String externalPaymentId) {
+        PaymentStatusResponseDto response = paymentService.cancelPayment(externalPaymentId);
+        return response == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(response);
+    }
+}
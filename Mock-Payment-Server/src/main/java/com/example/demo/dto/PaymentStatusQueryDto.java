@@ -0,0 +1,10 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * 결제 상태 일괄 조회 요청 DTO
+ */
+public record PaymentStatusQueryDto(
+    List<String> externalPaymentIds   // 조회할 외부 결제사 ID 목록
+) {}
@@ -0,0 +1,11 @@
+package com.example.demo.dto;
+
+/**
+ * 결제 상태 조회 응답 DTO
+ * 메인 서버가 웹훅을 받지 못한 결제를 대사할 때 사용
+ */
+public record PaymentStatusResponseDto(
+    String externalPaymentId,   // 외부 결제사 ID
+    String paymentId,           // 내부 결제 ID
+    String status               // PENDING, SUCCESS, FAILED, CANCELLED
+) {}
@@ -7,7 +7,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -15,8 +19,33 @@ import java.util.UUID;
 public class PaymentService {
 
     private final WebhookService webhookService;
-    
-    public PaymentPendingResponseDto processPayment(PaymentProviderRequestDto request) {
+
+    // 외부 결제 ID별 결제 상태 (상태 조회 API용)
+    private final Map<String, PaymentStatusResponseDto> payments = new ConcurrentHashMap<>();
+
+    // 멱등 키별 최초 결제 응답 (같은 키로 다시 들어온 요청은 새로 결제하지 않음)
+    private final Map<String, PaymentPendingResponseDto> idempotentResponses = new ConcurrentHashMap<>();
+
+    /**
+     * 결제 요청
+     * 같은 Idempotency-Key로 다시 요청하면 새 결제를 만들지 않고 처음 만든 결제의 응답을 그대로 반환한다.
+     * (타임아웃 뒤 재전송된 요청으로 이중 결제되지 않음)
+     * @param idempotencyKey 요청 멱등 키 (없으면 매번 새 결제)
+     */
+    public PaymentPendingResponseDto processPayment(String idempotencyKey, PaymentProviderRequestDto request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return createPayment(request);
+        }
+
+        final PaymentPendingResponseDto existing = idempotentResponses.get(idempotencyKey);
+        if (existing != null) {
+            log.info("같은 멱등 키의 결제 요청 - 키: {}, 외부결제ID: {}", idempotencyKey, existing.externalPaymentId());
+            return existing;
+        }
+        return idempotentResponses.computeIfAbsent(idempotencyKey, key -> createPayment(request));
+    }
+
+    private PaymentPendingResponseDto createPayment(PaymentProviderRequestDto request) {
         final PaymentProviderConfig config = PaymentProviderConfigMap.getConfig(request.providerType());
         final String externalPaymentId = config.idPrefix() + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
         final String message = config.message();
@@ -33,6 +62,7 @@ public class PaymentService {
         );
 
         log.info("외부결제ID 생성: {}, 거래ID: {}", externalPaymentId, transactionId);
+        payments.put(externalPaymentId, new PaymentStatusResponseDto(externalPaymentId, request.paymentId(), "PENDING"));
 
         /*
          * 실제 결제사 환경 시뮬레이션을 위한 비동기 처리
@@ -54,6 +84,15 @@ public class PaymentService {
         new Thread(() -> {
             try {
                 Thread.sleep(1000); // 1초 대기
+                // 웹훅 전송 성공 여부와 관계없이 결제사 측 결과는 확정된다. (그 사이 취소된 결제는 승인하지 않음)
+                final PaymentStatusResponseDto settled = payments.computeIfPresent(externalPaymentId,
+                        (id, payment) -> "PENDING".equals(payment.status())
+                                ? new PaymentStatusResponseDto(id, payment.paymentId(), "SUCCESS")
+                                : payment);
+                if (settled == null || !"SUCCESS".equals(settled.status())) {
+                    log.info("승인 전에 취소된 결제 - 외부결제ID: {}", externalPaymentId);
+                    return;
+                }
                 webhookService.sendPaymentWebhook(
                     externalPaymentId, 
                     "SUCCESS", 
@@ -74,4 +113,37 @@ public class PaymentService {
         log.info("=== Mock 서버 결제 처리 완료 ===");
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * 결제 상태 조회
+     * @return 결제 상태 (존재하지 않는 외부 결제 ID면 null)
+     */
+    public PaymentStatusResponseDto getPaymentStatus(String externalPaymentId) {
+        return payments.get(externalPaymentId);
+    }
+
+    /**
+     * 결제 상태 일괄 조회 (존재하지 않는 외부 결제 ID는 결과에서 제외)
+     */
+    public List<PaymentStatusResponseDto> getPaymentStatuses(List<String> externalPaymentIds) {
+        return externalPaymentIds.stream()
+                .map(payments::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 결제 취소 (환불)
+     * 이미 취소된 결제를 다시 취소해도 같은 결과를 반환하고, 실패한 결제는 그대로 둔다.
+     * @return 취소 후 결제 상태 (존재하지 않는 외부 결제 ID면 null)
+     */
+    public PaymentStatusResponseDto cancelPayment(String externalPaymentId) {
+        final PaymentStatusResponseDto result = payments.computeIfPresent(externalPaymentId,
+                (id, payment) -> "FAILED".equals(payment.status())
+                        ? payment
+                        : new PaymentStatusResponseDto(id, payment.paymentId(), "CANCELLED"));
+
+        log.info("결제 취소 요청 - 외부결제ID: {}, 결과: {}", externalPaymentId, result == null ? "NOT_FOUND" : result.status());
+        return result;
+    }
+}
@@ -4,12 +4,22 @@ import com.example.demo.dto.WebhookPaymentDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * Mock 서버에서 메인 서버로 웹훅을 전송하는 서비스
+ * webhook.batch.enabled가 켜져 있으면 결제사 타입별로 모아 두었다가 주기적으로 묶음(/batch)으로 전송한다.
  */
 @Slf4j
 @Service
@@ -19,6 +29,15 @@ public class WebhookService {
     private final RestTemplate restTemplate;
     private static final String MAIN_SERVER_WEBHOOK_URL = "http://room-reservation-server:8080/webhooks/payments";
 
+    // 결제사 타입별 전송 대기 웹훅
+    private final Map<String, Queue<WebhookPaymentDto>> pending = new ConcurrentHashMap<>();
+
+    @Value("${webhook.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${webhook.batch.max-size:100}")
+    private int batchMaxSize;
+
     public void sendPaymentWebhook(
             String externalPaymentId,
             String status, Integer amount,
@@ -43,6 +62,11 @@ public class WebhookService {
                     paymentId
             );
 
+            if (batchEnabled) {
+                pending.computeIfAbsent(providerType, key -> new ConcurrentLinkedQueue<>()).add(webhookData);
+                return;
+            }
+
             // 메인 서버로 웹훅 전송 (PathVariable로 provider 타입 전달)
             final String webhookUrl = MAIN_SERVER_WEBHOOK_URL + "/" + providerType;
 
@@ -64,6 +88,43 @@ public class WebhookService {
         }
     }
 
+    /**
+     * 모아 둔 웹훅을 결제사 타입별로 max-size건씩 묶어 전송
+     */
+    @Scheduled(fixedDelayString = "${webhook.batch.flush-interval:500}")
+    public void flushPaymentWebhooks() {
+        pending.forEach((providerType, queue) -> {
+            List<WebhookPaymentDto> batch = drain(queue);
+            while (!batch.isEmpty()) {
+                sendPaymentWebhooks(providerType, batch);
+                batch = drain(queue);
+            }
+        });
+    }
+
+    private List<WebhookPaymentDto> drain(Queue<WebhookPaymentDto> queue) {
+        final List<WebhookPaymentDto> batch = new ArrayList<>();
+        WebhookPaymentDto webhook;
+        while (batch.size() < batchMaxSize && (webhook = queue.poll()) != null) {
+            batch.add(webhook);
+        }
+        return batch;
+    }
+
+    private void sendPaymentWebhooks(String providerType, List<WebhookPaymentDto> batch) {
+        final String webhookUrl = MAIN_SERVER_WEBHOOK_URL + "/" + providerType + "/batch";
+        try {
+            log.info("웹훅 묶음 전송 시작 - URL: {}, 건수: {}", webhookUrl, batch.size());
+
+            ResponseEntity<String> response = restTemplate.postForEntity(webhookUrl, batch, String.class);
+
+            log.info("웹훅 묶음 전송 완료 - 응답코드: {}, 결과: {}", response.getStatusCode(), response.getBody());
+        } catch (Exception e) {
+            log.error("웹훅 묶음 전송 실패 - 결제사: {}, 건수: {}, 오류: {}",
+                    providerType, batch.size(), e.getMessage(), e);
+        }
+    }
+
     private String getStatusMessage(String status) {
         return switch (status) {
             case "SUCCESS" -> "결제가 성공적으로 완료되었습니다.";
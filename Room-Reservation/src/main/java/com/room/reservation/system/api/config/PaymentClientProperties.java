@@ -0,0 +1,91 @@
+package com.room.reservation.system.api.config;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 결제사별 HTTP 클라이언트 설정 (payment.client.providers.{결제사 타입})
+ * 설정이 없는 결제사는 기본값을 사용한다.
+ */
+@ConfigurationProperties(prefix = "payment.client")
+public record PaymentClientProperties(Map<PaymentProviderType, Pool> providers, Guard guard) {
+
+    public PaymentClientProperties {
+        providers = providers == null ? new EnumMap<>(PaymentProviderType.class) : new EnumMap<>(providers);
+        guard = guard == null ? Guard.DEFAULT : guard;
+    }
+
+    public Pool poolOf(PaymentProviderType providerType) {
+        return providers.getOrDefault(providerType, Pool.DEFAULT);
+    }
+
+    /**
+     * @param maxConnections           결제사별 최대 연결 수 (결제사는 호스트가 하나이므로 라우트당 최대 연결 수와 같다)
+     * @param maxConcurrentCalls       결제사별 동시 호출 한도 (벌크헤드, 기본값은 최대 연결 수)
+     * @param connectTimeout           연결 수립 제한 시간
+     * @param responseTimeout          응답 대기 제한 시간 (적응형 제한 시간의 상한)
+     * @param connectionRequestTimeout 풀에서 연결을 빌려오기까지의 대기 제한 시간
+     * @param idleTimeout              유휴 연결을 정리하기까지의 시간
+     */
+    public record Pool(
+            Integer maxConnections,
+            Integer maxConcurrentCalls,
+            Duration connectTimeout,
+            Duration responseTimeout,
+            Duration connectionRequestTimeout,
+            Duration idleTimeout
+    ) {
+        static final Pool DEFAULT = new Pool(null, null, null, null, null, null);
+
+        public Pool {
+            maxConnections = maxConnections == null ? 20 : maxConnections;
+            maxConcurrentCalls = maxConcurrentCalls == null ? maxConnections : maxConcurrentCalls;
+            connectTimeout = connectTimeout == null ? Duration.ofSeconds(1) : connectTimeout;
+            responseTimeout = responseTimeout == null ? Duration.ofSeconds(3) : responseTimeout;
+            connectionRequestTimeout = connectionRequestTimeout == null ? Duration.ofMillis(500) : connectionRequestTimeout;
+            idleTimeout = idleTimeout == null ? Duration.ofSeconds(30) : idleTimeout;
+        }
+    }
+
+    /**
+     * 결제사 호출 보호 설정 (서킷 브레이커, 적응형 제한 시간)
+     * @param windowSize            실패율을 계산할 최근 호출 수
+     * @param minimumCalls          실패율을 판단하기 위한 최소 호출 수
+     * @param failureRateThreshold  서킷을 여는 실패율 (0~1)
+     * @param slowCallRateThreshold 서킷을 여는 느린 호출 비율 (0~1)
+     * @param slowCallDuration      느린 호출로 보는 응답 시간
+     * @param openDuration          서킷을 연 뒤 시험 호출을 허용하기까지의 시간
+     * @param halfOpenCalls         반열림 상태에서 허용하는 시험 호출 수
+     * @param timeoutMultiplier     최근 응답 시간 p99에 곱해 제한 시간으로 쓸 배수
+     * @param minTimeout            적응형 제한 시간의 하한
+     */
+    public record Guard(
+            Integer windowSize,
+            Integer minimumCalls,
+            Double failureRateThreshold,
+            Double slowCallRateThreshold,
+            Duration slowCallDuration,
+            Duration openDuration,
+            Integer halfOpenCalls,
+            Double timeoutMultiplier,
+            Duration minTimeout
+    ) {
+        static final Guard DEFAULT = new Guard(null, null, null, null, null, null, null, null, null);
+
+        public Guard {
+            windowSize = windowSize == null ? 50 : windowSize;
+            minimumCalls = minimumCalls == null ? 10 : minimumCalls;
+            failureRateThreshold = failureRateThreshold == null ? 0.5 : failureRateThreshold;
+            slowCallRateThreshold = slowCallRateThreshold == null ? 0.5 : slowCallRateThreshold;
+            slowCallDuration = slowCallDuration == null ? Duration.ofSeconds(2) : slowCallDuration;
+            openDuration = openDuration == null ? Duration.ofSeconds(30) : openDuration;
+            halfOpenCalls = halfOpenCalls == null ? 3 : halfOpenCalls;
+            timeoutMultiplier = timeoutMultiplier == null ? 2.0 : timeoutMultiplier;
+            minTimeout = minTimeout == null ? Duration.ofMillis(300) : minTimeout;
+        }
+    }
+}
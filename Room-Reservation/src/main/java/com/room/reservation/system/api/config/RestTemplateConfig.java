@@ -1,15 +1,176 @@
 package com.room.reservation.system.api.config;
 
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결제사별 RestTemplate 설정
+ * 결제사마다 연결 풀과 제한 시간을 따로 두어, 한 결제사의 응답 지연이 다른 결제사 호출이나
+ * 요청 스레드를 무기한 붙잡지 않도록 한다.
+ */
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PaymentClientProperties.class)
 public class RestTemplateConfig {
-    // 변경사항 테스트
+
+    private final PaymentClientProperties properties;
+    private final PaymentProviderGuard providerGuard;
+    private final MeterRegistry meterRegistry;
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+    @Bean
+    public RestTemplate cardPaymentRestTemplate() {
+        return paymentRestTemplate(PaymentProviderType.CARD_PAYMENT);
+    }
+
+    @Bean
+    public RestTemplate simplePaymentRestTemplate() {
+        return paymentRestTemplate(PaymentProviderType.SIMPLE_PAYMENT);
+    }
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate virtualAccountRestTemplate() {
+        return paymentRestTemplate(PaymentProviderType.VIRTUAL_ACCOUNT);
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        for (CloseableHttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
+    }
+
+    private RestTemplate paymentRestTemplate(PaymentProviderType providerType) {
+        final PaymentClientProperties.Pool pool = properties.poolOf(providerType);
+        final Tags tags = Tags.of("provider", providerType.name());
+
+        final TimedConnectionManager connectionManager = new TimedConnectionManager(
+                Timer.builder("payment.client.connection.lease")
+                        .description("결제사 연결 풀에서 연결을 빌려오기까지 대기한 시간")
+                        .tags(tags)
+                        .register(meterRegistry));
+        connectionManager.setMaxTotal(pool.maxConnections());
+        connectionManager.setDefaultMaxPerRoute(pool.maxConnections());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(pool.connectTimeout()))
+                .setSocketTimeout(toTimeout(pool.responseTimeout()))
+                .build());
+
+        // 풀 사용량 메트릭 (httpcomponents.httpclient.pool.*)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "payment-" + providerType.name(), tags)
+                .bindTo(meterRegistry);
+
+        final RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(pool.connectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(pool.responseTimeout()))
+                .build();
+
+        final CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.idleTimeout().toMillis()))
+                .build();
+        httpClients.add(httpClient);
+
+        return new RestTemplate(new AdaptiveTimeoutRequestFactory(httpClient, requestConfig, providerType));
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    /**
+     * 요청마다 결제사의 최근 응답 시간에 맞춘 응답 제한 시간을 적용하는 요청 팩토리
+     */
+    private class AdaptiveTimeoutRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final RequestConfig requestConfig;
+        private final PaymentProviderType providerType;
+
+        AdaptiveTimeoutRequestFactory(
+                CloseableHttpClient httpClient, RequestConfig requestConfig, PaymentProviderType providerType) {
+            super(httpClient);
+            this.requestConfig = requestConfig;
+            this.providerType = providerType;
+        }
+
+        @Override
+        protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+            final HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.copy(requestConfig)
+                    .setResponseTimeout(toTimeout(providerGuard.timeoutOf(providerType)))
+                    .build());
+            return context;
+        }
+    }
+
+    /**
+     * 연결 대여 대기 시간을 기록하는 연결 풀
+     */
+    private static class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer leaseTimer;
+
+        TimedConnectionManager(Timer leaseTimer) {
+            this.leaseTimer = leaseTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            final LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    final long startedAt = System.nanoTime();
+                    try {
+                        return leaseRequest.get(timeout);
+                    } finally {
+                        leaseTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return leaseRequest.cancel();
+                }
+            };
+        }
     }
-} 
\ No newline at end of file
+}
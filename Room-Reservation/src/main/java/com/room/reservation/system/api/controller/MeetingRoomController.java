@@ -1,5 +1,6 @@
 package com.room.reservation.system.api.controller;
 
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomAvailabilityReadAllDto;
 import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomReadAllDto;
 import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomDetailDto;
 import com.room.reservation.system.api.service.MeetingRoomService;
@@ -9,12 +10,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+
 @Tag(name = "회의실 관리", description = "회의실 정보 조회 API")
 @RestController
 @RequiredArgsConstructor
@@ -36,9 +42,49 @@ public class MeetingRoomController {
         return ResponseEntity.ok(meetingRooms);
     }
 
+    @Operation(
+        summary = "전체 회의실 예약 가능 시간 조회",
+        description = "사용 가능한 모든 회의실과 각 회의실의 예약 가능 시간을 한 번에 조회합니다. 날짜를 생략하면 오늘 기준으로 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "전체 회의실 예약 가능 시간 조회 성공")
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<MeetingRoomAvailabilityReadAllDto> readAllAvailability(
+        @Parameter(description = "조회 날짜", example = "2025-01-15")
+        @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        MeetingRoomAvailabilityReadAllDto availability =
+                meetingRoomService.readAllAvailability(date == null ? LocalDate.now() : date);
+        return ResponseEntity.ok(availability);
+    }
+
+    @Operation(
+        summary = "빈 회의실 검색",
+        description = "해당 시간대에 비어 있고 최소 인원 이상을 수용하는 회의실을 수용 인원이 작은 순으로 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "빈 회의실 검색 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 검색 조건")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<MeetingRoomReadAllDto> search(
+        @Parameter(description = "조회 날짜", required = true, example = "2025-01-15")
+        @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @Parameter(description = "시작 시간", required = true, example = "16:30")
+        @RequestParam("startTime") @DateTimeFormat(pattern = "HH:mm") LocalTime startTime,
+        @Parameter(description = "종료 시간", required = true, example = "17:30")
+        @RequestParam("endTime") @DateTimeFormat(pattern = "HH:mm") LocalTime endTime,
+        @Parameter(description = "최소 수용 인원", example = "4")
+        @RequestParam(value = "minCapacity", defaultValue = "1") int minCapacity
+    ) {
+        MeetingRoomReadAllDto meetingRooms = meetingRoomService.search(date, startTime, endTime, minCapacity);
+        return ResponseEntity.ok(meetingRooms);
+    }
+
     @Operation(
         summary = "회의실 상세 조회",
-        description = "특정 회의실의 상세 정보와 예약 가능 시간을 조회합니다."
+        description = "특정 회의실의 상세 정보와 예약 가능 시간을 조회합니다. 날짜를 생략하면 오늘 기준으로 조회합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "회의실 상세 조회 성공"),
@@ -47,9 +93,11 @@ public class MeetingRoomController {
                 @GetMapping("/{id}")
             public ResponseEntity<MeetingRoomDetailDto> read(
                 @Parameter(description = "회의실 ID", required = true, example = "1")
-                @PathVariable("id") Long id
+                @PathVariable("id") Long id,
+        @Parameter(description = "조회 날짜", example = "2025-01-15")
+        @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
-        MeetingRoomDetailDto meetingRoom = meetingRoomService.read(id);
+        MeetingRoomDetailDto meetingRoom = meetingRoomService.read(id, date == null ? LocalDate.now() : date);
         return ResponseEntity.ok(meetingRoom);
     }
 }
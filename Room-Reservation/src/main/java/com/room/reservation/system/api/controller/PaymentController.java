@@ -13,8 +13,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "결제 관리", description = "비동기 결제 처리 및 상태 조회 API")
 @Slf4j
@@ -26,7 +28,8 @@ public class PaymentController {
 
     @Operation(
         summary = "결제 처리",
-        description = "예약에 대한 결제를 처리합니다. 즉시 PENDING 상태로 응답하며, 실제 결제는 비동기로 처리됩니다."
+        description = "예약에 대한 결제를 처리합니다. 즉시 PENDING 상태로 응답하며, 실제 결제는 비동기로 처리됩니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 키의 재요청에 결제를 새로 만들지 않고 최초 응답을 반환합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "결제 처리 요청 성공"),
@@ -37,10 +40,12 @@ public class PaymentController {
             public ResponseEntity<PaymentPendingResponseDto> processPayment(
                 @Parameter(description = "예약 ID", required = true, example = "1")
                 @PathVariable("reservationId") Long reservationId,
+        @Parameter(description = "멱등성 키 (같은 키로 재요청하면 최초 응답을 그대로 반환)", example = "7f9c2b1e-4d3a-4c6b-9f0e-1a2b3c4d5e6f")
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @Parameter(description = "결제 요청 정보", required = true)
         @Valid @RequestBody PaymentRequestDto request
     ) {
-        PaymentPendingResponseDto response = paymentService.processPayment(reservationId, request);
+        PaymentPendingResponseDto response = paymentService.processPayment(reservationId, request, idempotencyKey);
         return ResponseEntity.ok(response);
     }
 
@@ -63,4 +68,27 @@ public class PaymentController {
         PaymentStatusResponseDto response = paymentService.getPaymentStatus(paymentId, request);
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @Operation(
+        summary = "결제 상태 구독 (Server-Sent Events)",
+        description = "결제 상태를 반복 조회하지 않고 기다립니다. 현재 상태를 바로 보내고, 결제 대기 중이면 상태가 바뀌는 즉시 " +
+            "payment-status 이벤트로 보낸 뒤 연결을 닫습니다. 제한 시간(payment.status-stream.timeout)이 지나면 연결이 닫히므로 다시 연결합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "결제 상태 이벤트 스트림"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "404", description = "결제를 찾을 수 없음"),
+        @ApiResponse(responseCode = "503", description = "대기 중인 연결 수 초과 (Retry-After 헤더의 시간 뒤 다시 연결)")
+    })
+    @GetMapping(value = "/payments/{paymentId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePaymentStatus(
+        @Parameter(description = "결제 ID", required = true, example = "1")
+        @PathVariable("paymentId") Long paymentId,
+        @Parameter(description = "사용자 이름", required = true, example = "홍길동")
+        @RequestParam("userName") String userName,
+        @Parameter(description = "사용자 전화번호", required = true, example = "010-1234-5678")
+        @RequestParam("phoneNumber") String phoneNumber
+    ) {
+        return paymentService.subscribePaymentStatus(paymentId, new PaymentStatusRequestDto(userName, phoneNumber));
+    }
+}
@@ -1,6 +1,7 @@
 package com.room.reservation.system.api.controller;
 
 import com.room.reservation.system.api.dto.reservation.ReservationCreateDto;
+import com.room.reservation.system.api.dto.reservation.ReservationRecurringCreateDto;
 import com.room.reservation.system.api.dto.reservation.ReservationReadDto;
 import com.room.reservation.system.api.dto.reservation.ReservationReadAllDto;
 import com.room.reservation.system.api.dto.reservation.ReservationReadRequestDto;
@@ -44,9 +45,27 @@ public class ReservationController {
                 .body("예약이 성공적으로 생성되었습니다.");
     }
 
+    @Operation(
+        summary = "반복 예약 생성",
+        description = "첫 예약 날짜부터 매주 같은 시간으로 여러 건의 예약을 한 번에 생성합니다. 한 회차라도 겹치면 전체가 생성되지 않습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "반복 예약 생성 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 예약 시간 중복")
+    })
+    @PostMapping("/recurring")
+    public ResponseEntity<String> createRecurring(
+        @Parameter(description = "반복 예약 생성 정보", required = true)
+        @Valid @RequestBody ReservationRecurringCreateDto dto
+    ) {
+        int count = reservationService.createRecurring(dto);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(count + "건의 예약이 성공적으로 생성되었습니다.");
+    }
+
     @Operation(
         summary = "예약 목록 조회",
-        description = "사용자의 예약 목록을 조회합니다."
+        description = "사용자의 예약 목록을 시작 시간 순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "예약 목록 조회 성공"),
@@ -1,15 +1,21 @@
 package com.room.reservation.system.api.controller;
 
+import com.room.reservation.system.api.dto.payment.WebhookBatchResultDto;
 import com.room.reservation.system.api.dto.payment.WebhookPaymentDto;
 import com.room.reservation.system.api.service.WebhookService;
+import com.room.reservation.system.api.service.webhook.PaymentWebhookQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 웹훅 수신 컨트롤러
- * 외부 결제사에서 보내는 웹훅을 처리
+ * 외부 결제사에서 보내는 웹훅을 수신함에 저장하고 바로 응답 (처리는 PaymentWebhookQueue 작업 스레드에서)
  */
 @Slf4j
 @RestController
@@ -17,6 +23,10 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/webhooks")
 public class WebhookController {
 
+    // 작업 큐가 가득 찼을 때 결제사에 알려 줄 재전송 대기 시간 (초)
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final PaymentWebhookQueue webhookQueue;
     private final WebhookService webhookService;
 
     @PostMapping("/payments/{provider}")
@@ -24,13 +34,28 @@ public class WebhookController {
             @PathVariable("provider") String provider,
             @RequestBody WebhookPaymentDto request
     ) {
-        log.info("=== 메인 서버 웹훅 수신 ===");
-        log.info("웹훅 수신 - 결제사: {}", provider);
+        log.info("웹훅 수신 - 결제사: {}, 외부결제ID: {}", provider, request.externalPaymentId());
 
-        webhookService.processPaymentWebhook(provider, request);
+        if (!webhookQueue.offer(provider, request)) {
+            log.warn("웹훅 작업 큐가 가득 차 거절 - 결제사: {}, 외부결제ID: {}", provider, request.externalPaymentId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body("BUSY");
+        }
 
-        log.info("웹훅 처리 완료 - 결제사: {}", provider);
-        log.info("=== 메인 서버 웹훅 처리 완료 ===");
         return ResponseEntity.ok("OK");
     }
+
+    /**
+     * 결제 웹훅 묶음 수신
+     * 결제사가 모아 보낸 웹훅을 한 트랜잭션에서 일괄 반영하고 결과를 응답한다.
+     */
+    @PostMapping("/payments/{provider}/batch")
+    public ResponseEntity<WebhookBatchResultDto> receivePaymentWebhooks(
+            @PathVariable("provider") String provider,
+            @RequestBody List<WebhookPaymentDto> request
+    ) {
+        log.info("웹훅 묶음 수신 - 결제사: {}, 건수: {}", provider, request.size());
+        return ResponseEntity.ok(webhookService.processPaymentWebhooks(provider, request));
+    }
 }
@@ -0,0 +1,10 @@
+package com.room.reservation.system.api.dto.meetingRoom;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record MeetingRoomAvailabilityReadAllDto(
+        LocalDate date,
+        List<MeetingRoomDetailDto> meetingRooms
+) {
+}
@@ -0,0 +1,10 @@
+package com.room.reservation.system.api.dto.payment;
+
+/**
+ * 웹훅 일괄 처리 결과
+ */
+public record WebhookBatchResultDto(
+    int received,    // 받은 웹훅 수
+    int applied,     // 반영한 웹훅 수
+    int skipped      // 이미 처리했거나 결제를 찾지 못해 건너뛴 웹훅 수
+) {}
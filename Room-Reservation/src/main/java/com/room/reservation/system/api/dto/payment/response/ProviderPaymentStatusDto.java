@@ -0,0 +1,51 @@
+package com.room.reservation.system.api.dto.payment.response;
+
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 결제사 결제 상태 조회 응답 DTO
+ */
+public record ProviderPaymentStatusDto(
+    String externalPaymentId,   // 외부 결제사 ID
+    String paymentId,           // 내부 결제 ID
+    String status               // PENDING, SUCCESS, FAILED, CANCELLED
+) {
+
+    /**
+     * 외부 결제 ID별 결제 상태 (알 수 없는 상태는 제외)
+     */
+    public static Map<String, PaymentStatus> toStatusMap(ProviderPaymentStatusDto[] statuses) {
+        final Map<String, PaymentStatus> result = new HashMap<>();
+        if (statuses == null) {
+            return result;
+        }
+
+        for (ProviderPaymentStatusDto status : statuses) {
+            final PaymentStatus paymentStatus = status.paymentStatus();
+            if (paymentStatus != null) {
+                result.put(status.externalPaymentId(), paymentStatus);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 결제사 상태를 결제 상태로 변환 (알 수 없는 상태면 null)
+     */
+    public PaymentStatus paymentStatus() {
+        if (status == null) {
+            return null;
+        }
+
+        return switch (status) {
+            case "PENDING" -> PaymentStatus.PENDING;
+            case "SUCCESS" -> PaymentStatus.SUCCESS;
+            case "FAILED" -> PaymentStatus.FAILED;
+            case "CANCELLED" -> PaymentStatus.CANCELLED;
+            default -> null;
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.room.reservation.system.api.dto.reservation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Schema(description = "예약 생성 요청 정보")
@@ -11,6 +12,11 @@ public record ReservationCreateDto(
         @NotNull(message = "회의실 ID는 필수입니다.")
         Long meetingRoomId,
 
+        @Schema(description = "예약 날짜", example = "2025-01-15", required = true, type = "string", pattern = "yyyy-MM-dd")
+        @NotNull(message = "예약 날짜는 필수입니다.")
+        @FutureOrPresent(message = "오늘 이후 날짜만 예약 가능합니다.")
+        LocalDate date,
+
         @Schema(description = "시작 시간", example = "16:30", required = true, type = "string", pattern = "HH:mm")
         @NotNull(message = "시작 시간은 필수입니다.")
         LocalTime startTime,
@@ -0,0 +1,22 @@
+package com.room.reservation.system.api.dto.reservation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "예약 목록 커서 (마지막으로 받은 예약의 시작 시간과 ID)")
+public record ReservationCursorDto(
+        @Schema(description = "마지막 예약 시작 시간", example = "2025-01-15T16:30:00", required = true)
+        @NotNull(message = "커서 시작 시간은 필수입니다.")
+        LocalDateTime startTime,
+
+        @Schema(description = "마지막 예약 ID", example = "3", required = true)
+        @NotNull(message = "커서 예약 ID는 필수입니다.")
+        Long id
+) {
+
+    public static ReservationCursorDto from(ReservationReadDto reservation) {
+        return new ReservationCursorDto(reservation.startDate(), reservation.reservationId());
+    }
+}
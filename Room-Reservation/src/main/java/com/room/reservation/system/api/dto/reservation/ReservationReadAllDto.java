@@ -5,6 +5,7 @@ import java.util.List;
 
 @Builder
 public record ReservationReadAllDto(
-        List<ReservationReadDto> reservations
+        List<ReservationReadDto> reservations,
+        ReservationCursorDto nextCursor
 ) {
 } 
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.room.reservation.system.api.dto.reservation;
 
+import com.room.reservation.system.api.persistence.entity.ReservationStatus;
 import lombok.Builder;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Builder
@@ -13,4 +13,18 @@ public record ReservationReadDto(
         Integer totalAmount,
         String reservationStatus
 ) {
+
+    /**
+     * JPQL 생성자 프로젝션용
+     */
+    public ReservationReadDto(
+            Long reservationId,
+            String userName,
+            LocalDateTime startDate,
+            LocalDateTime endTime,
+            Integer totalAmount,
+            ReservationStatus reservationStatus
+    ) {
+        this(reservationId, userName, startDate, endTime, totalAmount, reservationStatus.name());
+    }
 } 
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.room.reservation.system.api.dto.reservation;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -15,6 +18,25 @@ public record ReservationReadRequestDto(
         @Schema(description = "전화번호", example = "010-1234-5678", required = true)
         @NotBlank(message = "전화번호는 필수입니다.")
         @Pattern(regexp = "^01[0-9]-[0-9]{3,4}-[0-9]{4}$", message = "올바른 전화번호 형식이 아닙니다. (예: 010-1234-5678)")
-        String phoneNumber
+        String phoneNumber,
+
+        @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @Valid
+        ReservationCursorDto cursor,
+
+        @Schema(description = "페이지 크기 (기본 20)", example = "20")
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        Integer size
 ) {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    public ReservationReadRequestDto(String userName, String phoneNumber) {
+        this(userName, phoneNumber, null, null);
+    }
+
+    public int pageSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
 }               
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.room.reservation.system.api.dto.reservation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Schema(description = "반복 예약 생성 요청 정보 (매주 같은 요일, 같은 시간)")
+public record ReservationRecurringCreateDto(
+        @Schema(description = "회의실 ID", example = "1", required = true)
+        @NotNull(message = "회의실 ID는 필수입니다.")
+        Long meetingRoomId,
+
+        @Schema(description = "첫 예약 날짜", example = "2025-01-15", required = true, type = "string", pattern = "yyyy-MM-dd")
+        @NotNull(message = "첫 예약 날짜는 필수입니다.")
+        @FutureOrPresent(message = "오늘 이후 날짜만 예약 가능합니다.")
+        LocalDate startDate,
+
+        @Schema(description = "반복 주 수 (첫 예약 포함)", example = "4", required = true)
+        @NotNull(message = "반복 주 수는 필수입니다.")
+        @Min(value = 1, message = "반복 주 수는 1 이상이어야 합니다.")
+        @Max(value = 52, message = "반복 주 수는 52 이하여야 합니다.")
+        Integer weeks,
+
+        @Schema(description = "시작 시간", example = "16:30", required = true, type = "string", pattern = "HH:mm")
+        @NotNull(message = "시작 시간은 필수입니다.")
+        LocalTime startTime,
+
+        @Schema(description = "종료 시간", example = "17:30", required = true, type = "string", pattern = "HH:mm")
+        @NotNull(message = "종료 시간은 필수입니다.")
+        LocalTime endTime,
+
+        @Schema(description = "사용자 이름", example = "홍길동", required = true)
+        @NotBlank(message = "이름은 필수입니다.")
+        @Size(min = 1, max = 20, message = "이름은 1자 이상 20자 이하여야 합니다.")
+        String name,
+
+        @Schema(description = "전화번호", example = "010-1234-5678", required = true)
+        @NotBlank(message = "전화번호는 필수입니다.")
+        @Pattern(regexp = "^01[0-9]-[0-9]{3,4}-[0-9]{4}$", message = "올바른 전화번호 형식이 아닙니다. (예: 010-1234-5678)")
+        String phoneNumber
+) {
+
+    /**
+     * 반복 예약 날짜 목록 (첫 예약 날짜부터 매주)
+     */
+    public List<LocalDate> dates() {
+        return IntStream.range(0, weeks)
+                .mapToObj(startDate::plusWeeks)
+                .toList();
+    }
+}
@@ -13,7 +13,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
-@Table(name = "tbl_payment")
+@Table(
+        name = "tbl_payment",
+        indexes = {
+                @Index(name = "idx_payment_status_updated", columnList = "status, updated_at"),
+                @Index(name = "uk_payment_external_payment_id", columnList = "external_payment_id", unique = true)
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Payment {
@@ -36,6 +42,23 @@ public class Payment {
     
     @Column(name = "external_payment_id", nullable = true)
     private String externalPaymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "provider_type", nullable = true)
+    private PaymentProviderType providerType;
+
+    /**
+     * 클라이언트가 보낸 Idempotency-Key (같은 키로 결제가 두 번 만들어지지 않도록 유니크)
+     */
+    @Column(name = "idempotency_key", nullable = true, unique = true, length = 100)
+    private String idempotencyKey;
+
+    /**
+     * 결제 요청을 보낸 결제사 엔드포인트 ID (설정의 기본 엔드포인트면 null)
+     * 결제 재시도, 상태 조회, 취소는 이 엔드포인트로 보낸다.
+     */
+    @Column(name = "endpoint_provider_id", nullable = true)
+    private Long endpointProviderId;
     
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -49,23 +72,37 @@ public class Payment {
     @JoinColumn(name = "reservation_id")
     private Reservation reservation;
 
-    private Payment(Integer amount, Reservation reservation) {
+    private Payment(Integer amount, Reservation reservation, PaymentProviderType providerType, String idempotencyKey) {
         this.amount = amount;
         this.status = PaymentStatus.PENDING;
         this.reservation = reservation;
+        this.providerType = providerType;
+        this.idempotencyKey = idempotencyKey;
     }
 
-    public static Payment create(Integer amount, Reservation reservation) {
-        return new Payment(amount, reservation);
+    public static Payment create(Integer amount, Reservation reservation, PaymentProviderType providerType) {
+        return new Payment(amount, reservation, providerType, null);
+    }
+
+    public static Payment create(
+            Integer amount, Reservation reservation, PaymentProviderType providerType, String idempotencyKey) {
+        return new Payment(amount, reservation, providerType, idempotencyKey);
     }
 
     public PaymentStatusResponseDto toResponseDto(String message) {
+        return toResponseDto(this.status, message);
+    }
+
+    /**
+     * 결제 상태 응답 (일괄 UPDATE로 상태를 바꿔 엔티티에 반영되지 않은 경우 바뀐 상태를 직접 넘긴다)
+     */
+    public PaymentStatusResponseDto toResponseDto(PaymentStatus status, String message) {
         return new PaymentStatusResponseDto(
             this.reservation.getId(),
             this.id,
             this.externalPaymentId,
-            this.status.name(),
-            this.paymentProvider.getName(),
+            status.name(),
+            this.paymentProvider == null ? null : this.paymentProvider.getName(),
             amount,
             message
         );
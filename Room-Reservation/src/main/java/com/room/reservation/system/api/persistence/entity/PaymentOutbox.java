@@ -0,0 +1,72 @@
+package com.room.reservation.system.api.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제사 결제 요청 아웃박스
+ * 결제와 같은 트랜잭션에서 저장되어, 요청 도중 서버가 내려가도 보내야 할 결제 요청이 사라지지 않는다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "tbl_payment_outbox",
+        indexes = @Index(name = "idx_payment_outbox_status_next", columnList = "status, next_attempt_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PaymentOutbox extends RetryableRequest {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payment_id", nullable = false, unique = true)
+    private Payment payment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "provider_type", nullable = false)
+    private PaymentProviderType providerType;
+
+    @Column(name = "payload", nullable = false, length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentOutboxStatus status;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private PaymentOutbox(Payment payment, PaymentProviderType providerType, String payload, LocalDateTime now) {
+        super(now);
+        this.payment = payment;
+        this.providerType = providerType;
+        this.payload = payload;
+        this.status = PaymentOutboxStatus.PENDING;
+    }
+
+    public static PaymentOutbox create(
+            Payment payment, PaymentProviderType providerType, String payload, LocalDateTime now) {
+        return new PaymentOutbox(payment, providerType, payload, now);
+    }
+
+    public void sent() {
+        this.status = PaymentOutboxStatus.SENT;
+        recordError(null);
+    }
+
+    public void fail(String error) {
+        this.status = PaymentOutboxStatus.FAILED;
+        recordError(error);
+    }
+}
@@ -0,0 +1,7 @@
+package com.room.reservation.system.api.persistence.entity;
+
+public enum PaymentOutboxStatus {
+    PENDING,   // 결제사 요청 대기 (재시도 포함)
+    SENT,      // 결제사 요청 완료
+    FAILED     // 결제사 거절 또는 재시도 한도 초과
+}
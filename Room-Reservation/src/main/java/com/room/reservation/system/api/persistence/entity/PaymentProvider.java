@@ -29,6 +29,10 @@ public class PaymentProvider {
     @Column(name = "type", nullable = false)
     private PaymentProviderType type;
 
+    // 결제 요청을 보낼 엔드포인트로 쓸지 여부 (웹훅으로 등록된 결제사 정보는 라우팅하지 않음)
+    @Column(name = "routing_enabled", nullable = false)
+    private boolean routingEnabled;
+
     private PaymentProvider(String name, PaymentProviderType type, String apiEndpoint, String authInfo) {
         this.name = name;
         this.type = type;
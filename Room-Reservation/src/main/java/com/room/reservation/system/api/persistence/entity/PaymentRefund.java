@@ -0,0 +1,123 @@
+package com.room.reservation.system.api.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 환불 요청
+ * 예약 삭제와 같은 트랜잭션에서 저장되어, 결제 정보가 삭제된 뒤에도 환불 진행 상황을 추적할 수 있다.
+ * 결제마다 하나만 만들어지므로 같은 결제가 두 번 환불되지 않는다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "tbl_payment_refund",
+        indexes = @Index(name = "idx_payment_refund_status_next", columnList = "status, next_attempt_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PaymentRefund extends RetryableRequest {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false, unique = true)
+    private Long paymentId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "external_payment_id", nullable = false)
+    private String externalPaymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "provider_type", nullable = false)
+    private PaymentProviderType providerType;
+
+    /**
+     * 결제를 만든 결제사 엔드포인트 ID (설정의 기본 엔드포인트면 null, 취소는 이 엔드포인트로 보낸다)
+     */
+    @Column(name = "endpoint_provider_id")
+    private Long endpointProviderId;
+
+    @Column(name = "amount", nullable = false)
+    private Integer amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentRefundStatus status;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    private PaymentRefund(
+            Long paymentId,
+            Long reservationId,
+            String externalPaymentId,
+            PaymentProviderType providerType,
+            Long endpointProviderId,
+            Integer amount,
+            LocalDateTime now
+    ) {
+        super(now);
+        this.paymentId = paymentId;
+        this.reservationId = reservationId;
+        this.externalPaymentId = externalPaymentId;
+        this.providerType = providerType;
+        this.endpointProviderId = endpointProviderId;
+        this.amount = amount;
+        this.status = PaymentRefundStatus.PENDING;
+    }
+
+    public static PaymentRefund create(Payment payment, LocalDateTime now) {
+        return new PaymentRefund(
+                payment.getId(),
+                payment.getReservation().getId(),
+                payment.getExternalPaymentId(),
+                payment.getProviderType(),
+                payment.getEndpointProviderId(),
+                payment.getAmount(),
+                now
+        );
+    }
+
+    /**
+     * 결제 정보가 이미 삭제된 결제의 환불 요청 (결제사 호출 중에 예약이 삭제되어 외부 결제 ID를 기록하지 못한 경우)
+     */
+    public static PaymentRefund create(
+            Long paymentId,
+            Long reservationId,
+            String externalPaymentId,
+            PaymentProviderType providerType,
+            Long endpointProviderId,
+            Integer amount,
+            LocalDateTime now
+    ) {
+        return new PaymentRefund(
+                paymentId, reservationId, externalPaymentId, providerType, endpointProviderId, amount, now);
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = PaymentRefundStatus.COMPLETED;
+        this.completedAt = now;
+        recordError(null);
+    }
+
+    public void fail(String error, LocalDateTime now) {
+        this.status = PaymentRefundStatus.FAILED;
+        this.completedAt = now;
+        recordError(error);
+    }
+}
@@ -0,0 +1,7 @@
+package com.room.reservation.system.api.persistence.entity;
+
+public enum PaymentRefundStatus {
+    PENDING,    // 환불 대기 (결제사 취소 요청 전 또는 재시도 대기)
+    COMPLETED,  // 결제사 취소 완료
+    FAILED      // 환불 실패 (결제사 거절 또는 재시도 한도 초과)
+}
@@ -0,0 +1,107 @@
+package com.room.reservation.system.api.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 웹훅 수신함
+ * 수신한 웹훅을 먼저 저장하고 결제사에 응답하므로, 처리 도중 서버가 내려가도 받은 웹훅이 사라지지 않는다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "tbl_payment_webhook_inbox",
+        indexes = @Index(name = "idx_payment_webhook_inbox_status_next", columnList = "status, next_attempt_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PaymentWebhookInbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "provider", nullable = false, length = 50)
+    private String provider;
+
+    // 같은 결제의 웹훅을 같은 작업 스레드에서 순서대로 처리하기 위한 키 (내부 결제 ID)
+    @Column(name = "partition_key", nullable = false, length = 100)
+    private String partitionKey;
+
+    @Column(name = "payload", nullable = false, length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentWebhookInboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    private PaymentWebhookInbox(String provider, String partitionKey, String payload, LocalDateTime nextAttemptAt) {
+        this.provider = provider;
+        this.partitionKey = partitionKey;
+        this.payload = payload;
+        this.status = PaymentWebhookInboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * @param nextAttemptAt 바로 작업 큐에 넣는 웹훅은 처리 제한 시간 뒤로 두어, 그 안에 처리되지 않았을 때만 다시 대상이 된다.
+     */
+    public static PaymentWebhookInbox create(String provider, String partitionKey, String payload, LocalDateTime nextAttemptAt) {
+        return new PaymentWebhookInbox(provider, partitionKey, payload, nextAttemptAt);
+    }
+
+    public void processed(LocalDateTime now) {
+        this.status = PaymentWebhookInboxStatus.PROCESSED;
+        this.processedAt = now;
+        this.lastError = null;
+    }
+
+    public void fail(String error) {
+        this.status = PaymentWebhookInboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 실패한 처리 기록 후 다음 시도 예약
+     * @return 지금까지의 시도 횟수
+     */
+    public int retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        return this.attempts;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
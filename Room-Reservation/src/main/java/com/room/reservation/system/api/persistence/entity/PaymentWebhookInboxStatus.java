@@ -0,0 +1,7 @@
+package com.room.reservation.system.api.persistence.entity;
+
+public enum PaymentWebhookInboxStatus {
+    PENDING,     // 처리 대기 (재시도 포함)
+    PROCESSED,   // 처리 완료
+    FAILED       // 처리할 수 없는 웹훅 또는 재시도 한도 초과
+}
@@ -0,0 +1,52 @@
+package com.room.reservation.system.api.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리한 결제 웹훅 기록
+ * 결제사가 같은 웹훅을 다시 보내도 한 번만 반영되도록 (외부 결제 ID, 거래 ID)를 유일하게 남긴다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "tbl_processed_webhook_event",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_processed_webhook_event",
+                columnNames = {"external_payment_id", "transaction_id"}
+        )
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ProcessedWebhookEvent {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "external_payment_id", nullable = false, length = 100)
+    private String externalPaymentId;
+
+    @Column(name = "transaction_id", nullable = false, length = 100)
+    private String transactionId;
+
+    @CreatedDate
+    @Column(name = "processed_at", nullable = false, updatable = false)
+    private LocalDateTime processedAt;
+
+    private ProcessedWebhookEvent(String externalPaymentId, String transactionId) {
+        this.externalPaymentId = externalPaymentId;
+        this.transactionId = transactionId;
+    }
+
+    public static ProcessedWebhookEvent create(String externalPaymentId, String transactionId) {
+        return new ProcessedWebhookEvent(externalPaymentId, transactionId);
+    }
+}
@@ -14,13 +14,24 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
-@Table(name = "tbl_reservation")
+@Table(
+        name = "tbl_reservation",
+        indexes = {
+                @Index(name = "idx_reservation_room_start", columnList = "meeting_room_id, start_time"),
+                @Index(name = "idx_reservation_status_hold", columnList = "status, hold_expires_at"),
+                @Index(name = "idx_reservation_user_start", columnList = "user_id, start_time, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Reservation {
 
+    /**
+     * IDENTITY 전략은 INSERT 배치를 막으므로 시퀀스에서 50개씩 미리 할당받는다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq_generator")
+    @SequenceGenerator(name = "reservation_seq_generator", sequenceName = "tbl_reservation_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,6 +55,12 @@ public class Reservation {
     @Column(nullable = false)
     private ReservationStatus status = ReservationStatus.PENDING;
 
+    /**
+     * 결제 대기 예약의 점유 기한 (확정되면 null)
+     */
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -55,7 +72,8 @@ public class Reservation {
                         LocalDateTime startTime,
                         LocalDateTime endTime,
                         Integer totalAmount,
-                        ReservationStatus status
+                        ReservationStatus status,
+                        LocalDateTime holdExpiresAt
     ) {
         this.id = id;
         this.user = user;
@@ -64,6 +82,7 @@ public class Reservation {
         this.endTime = endTime;
         this.totalAmount = totalAmount;
         this.status = status;
+        this.holdExpiresAt = holdExpiresAt;
     }
 
     public static Reservation create(
@@ -72,6 +91,20 @@ public class Reservation {
             LocalDateTime startTime,
             LocalDateTime endTime,
             Integer totalAmount
+    ) {
+        return create(user, meetingRoom, startTime, endTime, totalAmount, null);
+    }
+
+    /**
+     * 결제 기한이 있는 결제 대기 예약 생성
+     */
+    public static Reservation create(
+            User user,
+            MeetingRoom meetingRoom,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            Integer totalAmount,
+            LocalDateTime holdExpiresAt
     ) {
         return Reservation.builder()
                 .user(user)
@@ -80,11 +113,25 @@ public class Reservation {
                 .endTime(endTime)
                 .totalAmount(totalAmount)
                 .status(ReservationStatus.PENDING)
+                .holdExpiresAt(holdExpiresAt)
                 .build();
     }
 
     public void confirm() {
         this.status = ReservationStatus.CONFIRMED;
+        this.holdExpiresAt = null;
+    }
+
+    /**
+     * 만료 처리되었거나, 아직 처리 전이지만 결제 기한이 지난 예약인지 확인
+     */
+    public boolean isExpired(LocalDateTime now) {
+        if (this.status == ReservationStatus.EXPIRED) {
+            return true;
+        }
+        return this.status == ReservationStatus.PENDING
+                && this.holdExpiresAt != null
+                && !this.holdExpiresAt.isAfter(now);
     }
 
     public ReservationReadDto toReadDto() {
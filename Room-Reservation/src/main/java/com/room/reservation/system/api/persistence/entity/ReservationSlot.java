@@ -0,0 +1,77 @@
+package com.room.reservation.system.api.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 슬롯 점유 (30분 단위)
+ * (회의실, 날짜, 슬롯 번호) 유니크 제약으로 동시 요청 간 중복 예약을 DB에서 차단
+ */
+@Entity
+@Getter
+@Table(
+        name = "tbl_reservation_slot",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reservation_slot_room_date_index",
+                columnNames = {"meeting_room_id", "slot_date", "slot_index"}
+        )
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationSlot {
+
+    public static final int SLOT_MINUTES = 30;
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_slot_seq_generator")
+    @SequenceGenerator(name = "reservation_slot_seq_generator", sequenceName = "tbl_reservation_slot_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private Reservation reservation;
+
+    @Column(name = "meeting_room_id", nullable = false)
+    private Long meetingRoomId;
+
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Column(name = "slot_index", nullable = false)
+    private Integer slotIndex;
+
+    private ReservationSlot(Reservation reservation, Long meetingRoomId, LocalDate slotDate, Integer slotIndex) {
+        this.reservation = reservation;
+        this.meetingRoomId = meetingRoomId;
+        this.slotDate = slotDate;
+        this.slotIndex = slotIndex;
+    }
+
+    /**
+     * 예약이 차지하는 모든 슬롯 생성 (슬롯 번호 오름차순)
+     */
+    public static List<ReservationSlot> claimsOf(Reservation reservation) {
+        final Long meetingRoomId = reservation.getMeetingRoom().getId();
+        final LocalDate date = reservation.getStartTime().toLocalDate();
+        final int startSlot = toSlotIndex(reservation.getStartTime().toLocalTime());
+        final int endSlot = toSlotIndex(reservation.getEndTime().toLocalTime());
+        final List<ReservationSlot> slots = new ArrayList<>(endSlot - startSlot);
+
+        for (int slotIndex = startSlot; slotIndex < endSlot; slotIndex++) {
+            slots.add(new ReservationSlot(reservation, meetingRoomId, date, slotIndex));
+        }
+
+        return slots;
+    }
+
+    public static int toSlotIndex(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+}
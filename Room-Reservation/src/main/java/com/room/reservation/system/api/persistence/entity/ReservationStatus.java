@@ -2,5 +2,6 @@ package com.room.reservation.system.api.persistence.entity;
 
 public enum ReservationStatus {
     PENDING,    // 결제 대기
-    CONFIRMED   // 예약 확정 (결제 완료)
+    CONFIRMED,  // 예약 확정 (결제 완료)
+    EXPIRED     // 결제 기한 만료
 } 
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.room.reservation.system.api.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제사에 재시도하며 보내는 요청의 공통 상태 (결제 요청 아웃박스, 환불 요청)
+ * 선점할 때 시도 횟수를 올리고 다음 시도 시각을 선점 제한 시간 뒤로 미루므로(claim),
+ * 결과를 기록하지 못한 요청은 선점 제한 시간이 지난 뒤 다시 선점된다.
+ */
+@Getter
+@MappedSuperclass
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class RetryableRequest {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    protected RetryableRequest(LocalDateTime nextAttemptAt) {
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        recordError(error);
+    }
+
+    /**
+     * 결제사에 요청을 보내지 못한 경우 시도 횟수를 되돌리고 미룬다.
+     */
+    public void postpone(LocalDateTime nextAttemptAt, String reason) {
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.nextAttemptAt = nextAttemptAt;
+        recordError(reason);
+    }
+
+    protected void recordError(String error) {
+        this.lastError = truncateError(error);
+    }
+
+    /**
+     * 오류 메시지 컬럼 길이에 맞춰 자름 (UPDATE 쿼리로 직접 기록할 때도 사용)
+     */
+    public static String truncateError(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -7,7 +7,10 @@ import lombok.AccessLevel;
 
 @Entity
 @Getter
-@Table(name = "tbl_user")
+@Table(
+        name = "tbl_user",
+        indexes = @Index(name = "uk_user_name_phone", columnList = "name, phone_number", unique = true)
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
     
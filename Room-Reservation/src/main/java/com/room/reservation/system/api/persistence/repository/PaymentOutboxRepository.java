@@ -0,0 +1,63 @@
+package com.room.reservation.system.api.persistence.repository;
+
+import com.room.reservation.system.api.persistence.entity.PaymentOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    /**
+     * 보낼 시각이 된 결제 요청 조회 (결제, 예약 함께 조회)
+     * (status, next_attempt_at) 인덱스로 대기 중인 행만 읽는다.
+     */
+    @Query("SELECT o FROM PaymentOutbox o " +
+            "JOIN FETCH o.payment p " +
+            "JOIN FETCH p.reservation " +
+            "WHERE o.status = com.room.reservation.system.api.persistence.entity.PaymentOutboxStatus.PENDING " +
+            "AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.nextAttemptAt")
+    List<PaymentOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 결제 요청 선점
+     * 다음 시도 시각을 처리 제한 시간 뒤로 미루고, 다른 인스턴스가 먼저 선점했다면 0을 반환한다.
+     * 처리 도중 서버가 내려가면 제한 시간이 지난 뒤 다시 대상이 된다.
+     */
+    @Modifying
+    @Query("UPDATE PaymentOutbox o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :leaseUntil " +
+            "WHERE o.id = :outboxId " +
+            "AND o.status = com.room.reservation.system.api.persistence.entity.PaymentOutboxStatus.PENDING " +
+            "AND o.nextAttemptAt <= :now")
+    int claim(
+            @Param("outboxId") Long outboxId,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 대기 중인 결제 요청 실패 처리
+     * 선점(claim) 이후 영속성 컨텍스트의 엔티티는 갱신 전 값이므로 엔티티를 고치지 않고 바로 UPDATE 한다.
+     */
+    @Modifying
+    @Query("UPDATE PaymentOutbox o " +
+            "SET o.status = com.room.reservation.system.api.persistence.entity.PaymentOutboxStatus.FAILED, " +
+            "o.lastError = :error " +
+            "WHERE o.id = :outboxId " +
+            "AND o.status = com.room.reservation.system.api.persistence.entity.PaymentOutboxStatus.PENDING")
+    int failIfPending(@Param("outboxId") Long outboxId, @Param("error") String error);
+
+    /**
+     * 예약에 딸린 결제 요청 삭제 (예약 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM PaymentOutbox o WHERE o.payment.id IN " +
+            "(SELECT p.id FROM Payment p WHERE p.reservation.id = :reservationId)")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+}
@@ -4,10 +4,14 @@ import com.room.reservation.system.api.persistence.entity.PaymentProvider;
 import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentProviderRepository extends JpaRepository<PaymentProvider, Long> {
     Optional<PaymentProvider> findByType(PaymentProviderType type);
     Optional<PaymentProvider> findByName(String name);
+
+    List<PaymentProvider> findByRoutingEnabledTrue();
 } 
\ No newline at end of file
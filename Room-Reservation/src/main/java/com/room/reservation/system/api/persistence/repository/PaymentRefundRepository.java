@@ -0,0 +1,48 @@
+package com.room.reservation.system.api.persistence.repository;
+
+import com.room.reservation.system.api.persistence.entity.PaymentRefund;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface PaymentRefundRepository extends JpaRepository<PaymentRefund, Long> {
+
+    /**
+     * 보낼 시각이 된 환불 요청 조회
+     * (status, next_attempt_at) 인덱스로 대기 중인 행만 읽는다.
+     */
+    @Query("SELECT r FROM PaymentRefund r " +
+            "WHERE r.status = com.room.reservation.system.api.persistence.entity.PaymentRefundStatus.PENDING " +
+            "AND r.nextAttemptAt <= :now " +
+            "ORDER BY r.nextAttemptAt")
+    List<PaymentRefund> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이미 환불 요청이 있는 결제 ID 조회 (결제마다 환불 요청은 하나만 만든다)
+     */
+    @Query("SELECT r.paymentId FROM PaymentRefund r WHERE r.paymentId IN :paymentIds")
+    Set<Long> findPaymentIdsIn(@Param("paymentIds") Collection<Long> paymentIds);
+
+    /**
+     * 환불 요청 선점
+     * 다음 시도 시각을 처리 제한 시간 뒤로 미루고, 다른 인스턴스가 먼저 선점했다면 0을 반환한다.
+     */
+    @Modifying
+    @Query("UPDATE PaymentRefund r SET r.attempts = r.attempts + 1, r.nextAttemptAt = :leaseUntil " +
+            "WHERE r.id = :refundId " +
+            "AND r.status = com.room.reservation.system.api.persistence.entity.PaymentRefundStatus.PENDING " +
+            "AND r.nextAttemptAt <= :now")
+    int claim(
+            @Param("refundId") Long refundId,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+}
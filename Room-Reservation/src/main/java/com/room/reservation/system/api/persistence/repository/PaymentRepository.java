@@ -1,16 +1,137 @@
 package com.room.reservation.system.api.persistence.repository;
 
 import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     
     @Query("SELECT p FROM Payment p WHERE p.reservation.id = :reservationId")
     List<Payment> findByReservationId(@Param("reservationId") Long reservationId);
+
+    /**
+     * 결제사 식별자(외부 결제 ID)로 결제를 예약과 함께 잠금 조회 (웹훅 처리, external_payment_id unique 인덱스)
+     * 결제 기한 만료(ReservationHoldService)와 대사 결과 반영이 같은 예약을 동시에 바꾸지 않도록 결제와 예약 행을 함께 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.reservation WHERE p.externalPaymentId = :externalPaymentId")
+    Optional<Payment> findWithReservationByExternalPaymentIdForUpdate(
+            @Param("externalPaymentId") String externalPaymentId);
+
+    /**
+     * 웹훅 묶음이 가리키는 결제를 예약과 함께 잠금 조회 (교착을 피하도록 결제 ID 순서로 잠근다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.reservation WHERE p.externalPaymentId IN :externalPaymentIds " +
+            "ORDER BY p.id")
+    List<Payment> findAllWithReservationByExternalPaymentIdInForUpdate(
+            @Param("externalPaymentIds") Collection<String> externalPaymentIds);
+
+    /**
+     * 외부 결제 ID가 아직 기록되지 않은 결제를 내부 결제 ID로 예약과 함께 잠금 조회 (웹훅 처리)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.reservation WHERE p.id = :paymentId")
+    Optional<Payment> findWithReservationByIdForUpdate(@Param("paymentId") Long paymentId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.reservation WHERE p.id IN :paymentIds ORDER BY p.id")
+    List<Payment> findAllWithReservationByIdInForUpdate(@Param("paymentIds") Collection<Long> paymentIds);
+
+    @Query("SELECT p FROM Payment p WHERE p.idempotencyKey = :idempotencyKey")
+    Optional<Payment> findByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    /**
+     * 결제 대기 중인 결제가 있는지 확인 (같은 예약에 결제가 중복 요청되지 않도록)
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Payment p WHERE p.reservation.id = :reservationId " +
+            "AND p.status = com.room.reservation.system.api.persistence.entity.PaymentStatus.PENDING")
+    boolean existsPendingByReservationId(@Param("reservationId") Long reservationId);
+
+    /**
+     * 결제 요청을 보낼 엔드포인트 기록
+     * 결제 요청 선점(claim) 이후에는 영속성 컨텍스트의 엔티티가 갱신 전 값이므로 엔티티를 고치지 않고 바로 UPDATE 한다.
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.endpointProviderId = :endpointProviderId, p.updatedAt = :now " +
+            "WHERE p.id = :paymentId")
+    int assignEndpoint(
+            @Param("paymentId") Long paymentId,
+            @Param("endpointProviderId") Long endpointProviderId,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 외부 결제 ID 기록
+     * 결제사 호출 중 웹훅이 먼저 도착해 상태가 바뀌었을 수 있으므로 상태 컬럼은 건드리지 않고,
+     * 이미 다른 외부 결제 ID가 기록된 결제는 덮어쓰지 않는다.
+     * @return 기록한 결제 수 (결제가 삭제되었거나 다른 외부 결제 ID가 있으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.externalPaymentId = :externalPaymentId, p.updatedAt = :now " +
+            "WHERE p.id = :paymentId " +
+            "AND (p.externalPaymentId IS NULL OR p.externalPaymentId = :externalPaymentId)")
+    int updateExternalPaymentId(
+            @Param("paymentId") Long paymentId,
+            @Param("externalPaymentId") String externalPaymentId,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 대기 상태인 결제를 실패로 변경 (웹훅으로 이미 확정된 결제는 변경하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.room.reservation.system.api.persistence.entity.PaymentStatus.FAILED, " +
+            "p.updatedAt = :now " +
+            "WHERE p.id = :paymentId " +
+            "AND p.status = com.room.reservation.system.api.persistence.entity.PaymentStatus.PENDING")
+    int failIfPending(@Param("paymentId") Long paymentId, @Param("now") LocalDateTime now);
+
+    /**
+     * 웹훅을 받지 못한 채 오래 대기 중인 결제 조회 (ID 키셋 페이지)
+     * 결제사에 요청이 전달되어 외부 결제 ID가 있는 결제만 대상으로 한다.
+     */
+    @Query("SELECT p FROM Payment p " +
+            "WHERE p.status = com.room.reservation.system.api.persistence.entity.PaymentStatus.PENDING " +
+            "AND p.updatedAt < :staleBefore " +
+            "AND p.externalPaymentId IS NOT NULL " +
+            "AND p.providerType IS NOT NULL " +
+            "AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<Payment> findStalePending(
+            @Param("afterId") Long afterId,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            Pageable pageable);
+
+    /**
+     * 아직 결제 대기 상태인 결제를 예약과 함께 잠금 조회
+     * 웹훅 처리(findWithReservationByExternalPaymentIdForUpdate 등)와 같은 결제/예약 행 잠금을 잡으므로 대사 결과 반영과 웹훅이 같은 결제를 동시에 바꾸지 않고,
+     * 결제 기한 만료(ReservationHoldService)도 예약 행을 잠그므로 잠근 뒤 읽은 예약 상태로 확정 여부를 판단할 수 있다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.reservation " +
+            "WHERE p.id IN :paymentIds " +
+            "AND p.status = com.room.reservation.system.api.persistence.entity.PaymentStatus.PENDING")
+    List<Payment> findPendingForUpdate(@Param("paymentIds") Collection<Long> paymentIds);
+
+    /**
+     * 결제 상태 일괄 변경
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status, p.updatedAt = :now WHERE p.id IN :paymentIds")
+    int updateStatusAll(
+            @Param("paymentIds") Collection<Long> paymentIds,
+            @Param("status") PaymentStatus status,
+            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,50 @@
+package com.room.reservation.system.api.persistence.repository;
+
+import com.room.reservation.system.api.persistence.entity.PaymentWebhookInbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PaymentWebhookInboxRepository extends JpaRepository<PaymentWebhookInbox, Long> {
+
+    /**
+     * 처리 시각이 된 웹훅 조회 (처리 제한 시간 안에 처리되지 않았거나 재시도 시각이 된 웹훅)
+     * (status, next_attempt_at) 인덱스로 대기 중인 행만 읽는다.
+     */
+    @Query("SELECT i FROM PaymentWebhookInbox i " +
+            "WHERE i.status = com.room.reservation.system.api.persistence.entity.PaymentWebhookInboxStatus.PENDING " +
+            "AND i.nextAttemptAt <= :now " +
+            "ORDER BY i.id")
+    List<PaymentWebhookInbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 웹훅 선점
+     * 다음 시도 시각을 처리 제한 시간 뒤로 미루고, 다른 인스턴스가 먼저 선점했다면 0을 반환한다.
+     */
+    @Modifying
+    @Query("UPDATE PaymentWebhookInbox i SET i.nextAttemptAt = :leaseUntil " +
+            "WHERE i.id = :inboxId " +
+            "AND i.status = com.room.reservation.system.api.persistence.entity.PaymentWebhookInboxStatus.PENDING " +
+            "AND i.nextAttemptAt <= :now")
+    int claim(
+            @Param("inboxId") Long inboxId,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 처리할 웹훅 잠금 조회 (같은 웹훅이 두 번 처리되지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM PaymentWebhookInbox i WHERE i.id = :inboxId")
+    Optional<PaymentWebhookInbox> findByIdForUpdate(@Param("inboxId") Long inboxId);
+}
@@ -0,0 +1,14 @@
+package com.room.reservation.system.api.persistence.repository;
+
+import com.room.reservation.system.api.persistence.entity.ProcessedWebhookEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedWebhookEventRepository extends JpaRepository<ProcessedWebhookEvent, Long> {
+
+    /**
+     * (external_payment_id, transaction_id) unique 인덱스로 조회
+     */
+    boolean existsByExternalPaymentIdAndTransactionId(String externalPaymentId, String transactionId);
+}
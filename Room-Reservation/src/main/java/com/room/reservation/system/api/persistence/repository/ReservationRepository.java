@@ -1,12 +1,18 @@
 package com.room.reservation.system.api.persistence.repository;
 
+import com.room.reservation.system.api.dto.reservation.ReservationReadDto;
 import com.room.reservation.system.api.persistence.entity.Reservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,24 +20,133 @@ import java.util.Optional;
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
     /**
-     * 특정 회의실의 현재 시간 이후 예약 조회
+     * 특정 회의실의 [from, to) 구간에 시작하는 예약 조회 (만료되었거나 결제 기한이 지난 예약 제외)
+     * (meeting_room_id, start_time) 인덱스 범위 스캔으로 해당 구간의 행만 읽는다.
      */
     @Query("SELECT r FROM Reservation r WHERE r.meetingRoom.id = :meetingRoomId " +
-            "AND r.startTime >= :currentDateTime " +
+            "AND r.startTime >= :from " +
+            "AND r.startTime < :to " +
+            "AND r.status <> com.room.reservation.system.api.persistence.entity.ReservationStatus.EXPIRED " +
+            "AND (r.holdExpiresAt IS NULL OR r.holdExpiresAt > :now) " +
             "ORDER BY r.startTime")
-    List<Reservation> findReservationsAfterCurrentTime(
+    List<Reservation> findReservationsBetween(
             @Param("meetingRoomId") Long meetingRoomId,
-            @Param("currentDateTime") LocalDateTime currentDateTime);
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now);
 
     /**
-     * 사용자 이름과 폰번호로 모든 예약 조회
+     * 여러 회의실의 [from, to) 구간에 시작하는 예약을 한 번에 조회 (만료되었거나 결제 기한이 지난 예약 제외)
      */
-    @Query("SELECT r FROM Reservation r WHERE r.user.name = :userName " +
-            "AND r.user.phoneNumber = :phoneNumber " +
-            "ORDER BY r.startTime ASC")
-    List<Reservation> findAllReservationsByUser(
+    @Query("SELECT r FROM Reservation r WHERE r.meetingRoom.id IN :meetingRoomIds " +
+            "AND r.startTime >= :from " +
+            "AND r.startTime < :to " +
+            "AND r.status <> com.room.reservation.system.api.persistence.entity.ReservationStatus.EXPIRED " +
+            "AND (r.holdExpiresAt IS NULL OR r.holdExpiresAt > :now) " +
+            "ORDER BY r.startTime")
+    List<Reservation> findReservationsInRoomsBetween(
+            @Param("meetingRoomIds") Collection<Long> meetingRoomIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 시점 이후 시작하는 모든 회의실의 유효한 예약 조회 (점유 인덱스 적재용)
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.startTime >= :from " +
+            "AND r.status <> com.room.reservation.system.api.persistence.entity.ReservationStatus.EXPIRED " +
+            "AND (r.holdExpiresAt IS NULL OR r.holdExpiresAt > :now)")
+    List<Reservation> findAllReservationsFrom(
+            @Param("from") LocalDateTime from,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 기한이 지난 결제 대기 예약을 잠금과 함께 조회
+     * 같은 예약에 대한 결제 확정과 만료 처리가 동시에 일어나지 않도록 행을 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :reservationIds " +
+            "AND r.status = com.room.reservation.system.api.persistence.entity.ReservationStatus.PENDING " +
+            "AND r.holdExpiresAt <= :now")
+    List<Reservation> findExpiredHoldsForUpdate(
+            @Param("reservationIds") Collection<Long> reservationIds,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 이미 만료 처리된 예약 조회 (다른 인스턴스나 일괄 만료 작업이 먼저 만료시킨 예약)
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :reservationIds " +
+            "AND r.status = com.room.reservation.system.api.persistence.entity.ReservationStatus.EXPIRED")
+    List<Reservation> findExpiredIn(@Param("reservationIds") Collection<Long> reservationIds);
+
+    /**
+     * 결제 기한이 지난 결제 대기 예약 ID 조회 (기한이 오래된 순)
+     */
+    @Query("SELECT r.id FROM Reservation r " +
+            "WHERE r.status = com.room.reservation.system.api.persistence.entity.ReservationStatus.PENDING " +
+            "AND r.holdExpiresAt <= :now " +
+            "ORDER BY r.holdExpiresAt")
+    List<Long> findExpiredHoldIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 결제 기한이 남아 있는 결제 대기 예약 조회 (만료 타이머 적재용)
+     */
+    @Query("SELECT r FROM Reservation r " +
+            "WHERE r.status = com.room.reservation.system.api.persistence.entity.ReservationStatus.PENDING " +
+            "AND r.holdExpiresAt > :now")
+    List<Reservation> findActiveHolds(@Param("now") LocalDateTime now);
+
+    /**
+     * 예약 일괄 만료 처리
+     */
+    @Modifying
+    @Query("UPDATE Reservation r " +
+            "SET r.status = com.room.reservation.system.api.persistence.entity.ReservationStatus.EXPIRED " +
+            "WHERE r.id IN :reservationIds")
+    int expireAll(@Param("reservationIds") Collection<Long> reservationIds);
+
+    /**
+     * 예약 일괄 확정 (만료된 예약은 제외)
+     */
+    @Modifying
+    @Query("UPDATE Reservation r " +
+            "SET r.status = com.room.reservation.system.api.persistence.entity.ReservationStatus.CONFIRMED, " +
+            "r.holdExpiresAt = null " +
+            "WHERE r.id IN :reservationIds " +
+            "AND r.status <> com.room.reservation.system.api.persistence.entity.ReservationStatus.EXPIRED")
+    int confirmAll(@Param("reservationIds") Collection<Long> reservationIds);
+
+    /**
+     * 사용자 예약 목록 첫 페이지 조회 (엔티티 대신 DTO로 바로 조회)
+     */
+    @Query("SELECT new com.room.reservation.system.api.dto.reservation.ReservationReadDto(" +
+            "r.id, u.name, r.startTime, r.endTime, r.totalAmount, r.status) " +
+            "FROM Reservation r JOIN r.user u " +
+            "WHERE u.name = :userName " +
+            "AND u.phoneNumber = :phoneNumber " +
+            "ORDER BY r.startTime ASC, r.id ASC")
+    List<ReservationReadDto> findReservationPageByUser(
+            @Param("userName") String userName,
+            @Param("phoneNumber") String phoneNumber,
+            Pageable pageable);
+
+    /**
+     * 사용자 예약 목록 다음 페이지 조회
+     * (시작 시간, ID) 커서 이후부터 읽으므로 앞 페이지를 건너뛰는 비용이 없다.
+     */
+    @Query("SELECT new com.room.reservation.system.api.dto.reservation.ReservationReadDto(" +
+            "r.id, u.name, r.startTime, r.endTime, r.totalAmount, r.status) " +
+            "FROM Reservation r JOIN r.user u " +
+            "WHERE u.name = :userName " +
+            "AND u.phoneNumber = :phoneNumber " +
+            "AND (r.startTime > :cursorStartTime OR (r.startTime = :cursorStartTime AND r.id > :cursorId)) " +
+            "ORDER BY r.startTime ASC, r.id ASC")
+    List<ReservationReadDto> findReservationPageByUserAfter(
             @Param("userName") String userName,
-            @Param("phoneNumber") String phoneNumber);
+            @Param("phoneNumber") String phoneNumber,
+            @Param("cursorStartTime") LocalDateTime cursorStartTime,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
     /**
      * 사용자 이름, 폰번호, 예약 ID로 특정 예약 조회
@@ -0,0 +1,45 @@
+package com.room.reservation.system.api.persistence.repository;
+
+import com.room.reservation.system.api.persistence.entity.ReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    /**
+     * 여러 날짜의 같은 시간대 중 이미 점유된 날짜를 한 번에 조회
+     * (meeting_room_id, slot_date, slot_index) 유니크 인덱스 범위로 처리된다.
+     */
+    @Query("SELECT DISTINCT s.slotDate FROM ReservationSlot s WHERE s.meetingRoomId = :meetingRoomId " +
+            "AND s.slotDate IN :dates " +
+            "AND s.slotIndex >= :startSlot " +
+            "AND s.slotIndex < :endSlot " +
+            "ORDER BY s.slotDate")
+    List<LocalDate> findClaimedDates(
+            @Param("meetingRoomId") Long meetingRoomId,
+            @Param("dates") Collection<LocalDate> dates,
+            @Param("startSlot") int startSlot,
+            @Param("endSlot") int endSlot);
+
+    /**
+     * 예약이 점유한 슬롯 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservation.id = :reservationId")
+    void deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    /**
+     * 여러 예약이 점유한 슬롯 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservation.id IN :reservationIds")
+    void deleteByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+}
@@ -2,10 +2,19 @@ package com.room.reservation.system.api.persistence.repository;
 
 import com.room.reservation.system.api.persistence.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByNameAndPhoneNumber(String name, String phoneNumber);
-} 
+
+    /**
+     * 이름과 전화번호로 사용자 ID만 조회 ((name, phone_number) 인덱스만으로 처리)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.name = :name AND u.phoneNumber = :phoneNumber")
+    Optional<Long> findIdByNameAndPhoneNumber(
+            @Param("name") String name,
+            @Param("phoneNumber") String phoneNumber);
+}
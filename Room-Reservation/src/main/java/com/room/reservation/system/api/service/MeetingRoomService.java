@@ -1,5 +1,6 @@
 package com.room.reservation.system.api.service;
 
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomAvailabilityReadAllDto;
 import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomReadAllDto;
 import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomReadDto;
 import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomDetailDto;
@@ -8,25 +9,36 @@ import com.room.reservation.system.api.persistence.entity.MeetingRoom;
 import com.room.reservation.system.api.persistence.entity.Reservation;
 import com.room.reservation.system.api.persistence.repository.MeetingRoomRepository;
 import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.occupancy.MeetingRoomCapacityIndex;
+import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
 import com.room.reservation.system.global.error.model.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MeetingRoomService {
 
+    private static final LocalTime LAST_TIME_SLOT = LocalTime.of(23, 30);
+
     private final MeetingRoomRepository meetingRoomRepository;
     private final ReservationRepository reservationRepository;
+    private final MeetingRoomAvailabilityCache availabilityCache;
+    private final MeetingRoomCapacityIndex capacityIndex;
 
     @Transactional(readOnly = true)
     public MeetingRoomReadAllDto readAll() {
@@ -38,30 +50,118 @@ public class MeetingRoomService {
         );
     }
 
+    /**
+     * 빈 회의실 검색
+     * 해당 시간대에 비어 있고 최소 인원 이상을 수용하는 회의실을 수용 인원이 작은 순으로 조회한다.
+     * DB 조회 없이 메모리 인덱스에서 응답하므로 트랜잭션을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MeetingRoomReadAllDto search(LocalDate date, LocalTime startTime, LocalTime endTime, int minCapacity) {
+        validateSearchTime(date, startTime, endTime);
+
+        return new MeetingRoomReadAllDto(capacityIndex.findAvailable(date, startTime, endTime, minCapacity));
+    }
+
     @Transactional(readOnly = true)
     public MeetingRoomDetailDto read(Long id) {
+        return read(id, LocalDate.now());
+    }
+
+    /**
+     * 회의실 상세 조회
+     * 예약 가능 시간 계산 결과는 현재 30분 슬롯 동안 캐시된다.
+     */
+    @Transactional(readOnly = true)
+    public MeetingRoomDetailDto read(Long id, LocalDate date) {
+        return availabilityCache.get(id, date, () -> loadDetail(id, date));
+    }
+
+    private MeetingRoomDetailDto loadDetail(Long id, LocalDate date) {
         final MeetingRoom meetingRoom = meetingRoomRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_MEETING_ROOM));
-        final List<TimeSlotDto> availableTimeSlots = calculateAvailableTimeSlots(id);
+        final List<TimeSlotDto> availableTimeSlots = calculateAvailableTimeSlots(id, date);
         final MeetingRoomReadDto meetingRoomDto = meetingRoom.toMeetingRoomReadDto();
 
         return new MeetingRoomDetailDto(meetingRoomDto, availableTimeSlots);
     }
 
-    private List<TimeSlotDto> calculateAvailableTimeSlots(Long meetingRoomId) {
+    /**
+     * 활성화된 모든 회의실의 예약 가능 시간 조회
+     * 해당 날짜의 예약을 한 번의 쿼리로 읽어 회의실별로 묶은 뒤 한 번에 계산한다.
+     */
+    @Transactional(readOnly = true)
+    public MeetingRoomAvailabilityReadAllDto readAllAvailability(LocalDate date) {
+        final List<MeetingRoom> meetingRooms = meetingRoomRepository.findByIsActiveTrue();
+        final LocalTime startTime = availableFrom(date, LocalDateTime.now());
+        final Map<Long, List<Reservation>> reservationsByRoom = findReservationsByRoom(meetingRooms, date, startTime);
+
+        final List<MeetingRoomDetailDto> details = meetingRooms.stream()
+                .map(meetingRoom -> new MeetingRoomDetailDto(
+                        meetingRoom.toMeetingRoomReadDto(),
+                        toAvailableTimeSlots(
+                                startTime,
+                                reservationsByRoom.getOrDefault(meetingRoom.getId(), Collections.emptyList())
+                        )
+                ))
+                .toList();
+
+        return new MeetingRoomAvailabilityReadAllDto(date, details);
+    }
+
+    private Map<Long, List<Reservation>> findReservationsByRoom(
+            List<MeetingRoom> meetingRooms, LocalDate date, LocalTime startTime) {
+        if (meetingRooms.isEmpty() || startTime == null) {
+            return Collections.emptyMap();
+        }
+
+        final List<Long> meetingRoomIds = meetingRooms.stream()
+                .map(MeetingRoom::getId)
+                .toList();
+        final LocalDateTime dayStart = date.atStartOfDay();
+
+        // 시작 시간 순으로 조회되므로 그룹별 순서도 유지된다.
+        return reservationRepository.findReservationsInRoomsBetween(
+                        meetingRoomIds, dayStart, dayStart.plusDays(1), LocalDateTime.now())
+                .stream()
+                .collect(Collectors.groupingBy(reservation -> reservation.getMeetingRoom().getId()));
+    }
+
+    private List<TimeSlotDto> calculateAvailableTimeSlots(Long meetingRoomId, LocalDate date) {
         final LocalDateTime now = LocalDateTime.now();
-        final LocalTime currentTime = now.toLocalTime();
-        final LocalTime adjustedTime = adjustToNextTimeSlot(currentTime);
-        final LocalTime endTime = LocalTime.of(23, 30);
-        final List<Reservation> reservations = reservationRepository.findReservationsAfterCurrentTime(
-                meetingRoomId, 
+        final LocalTime startTime = availableFrom(date, now);
+        if (startTime == null) {
+            return new ArrayList<>();
+        }
+
+        final LocalDateTime dayStart = date.atStartOfDay();
+        final List<Reservation> reservations = reservationRepository.findReservationsBetween(
+                meetingRoomId,
+                dayStart,
+                dayStart.plusDays(1),
                 now
-        ).stream()
-         .sorted(Comparator.comparing(Reservation::getStartTime))
-         .toList();
-        final List<TimeSlotDto> availableSlots = new ArrayList<>();
+        );
+
+        return toAvailableTimeSlots(startTime, reservations);
+    }
 
-        addAvailableTime(adjustedTime, reservations, availableSlots, endTime);
+    /**
+     * 해당 날짜에 예약 가능한 첫 시간 (예약할 수 없는 날짜면 null)
+     */
+    private LocalTime availableFrom(LocalDate date, LocalDateTime now) {
+        if (date.isBefore(now.toLocalDate()) || isAfterLastTimeSlot(date, now)) {
+            return null;
+        }
+
+        return date.isAfter(now.toLocalDate())
+                ? LocalTime.MIDNIGHT
+                : adjustToNextTimeSlot(now.toLocalTime());
+    }
+
+    private static List<TimeSlotDto> toAvailableTimeSlots(LocalTime startTime, List<Reservation> reservations) {
+        final List<TimeSlotDto> availableSlots = new ArrayList<>();
+        if (startTime != null) {
+            addAvailableTime(startTime, reservations, availableSlots, LAST_TIME_SLOT);
+        }
 
         return availableSlots;
     }
@@ -71,12 +171,15 @@ public class MeetingRoomService {
 
         for (Reservation reservation : reservations) {
             final LocalTime reservationStart = reservation.getStartTime().toLocalTime();
+            final LocalTime reservationEnd = reservation.getEndTime().toLocalTime();
 
-            if (adjustedTime.isBefore(reservationStart)) {
+            if (currentSlot.isBefore(reservationStart)) {
                 availableSlots.add(new TimeSlotDto(currentSlot, reservationStart));
             }
 
-            currentSlot = reservation.getEndTime().toLocalTime();
+            if (currentSlot.isBefore(reservationEnd)) {
+                currentSlot = reservationEnd;
+            }
         }
 
         if (currentSlot.isBefore(endTime)) {
@@ -84,12 +187,28 @@ public class MeetingRoomService {
         }
     }
 
+    private static void validateSearchTime(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        if (startTime.getMinute() % 30 != 0 || endTime.getMinute() % 30 != 0) {
+            throw new BadRequestException(ErrorCode.INVALID_TIME_FORMAT);
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new BadRequestException(ErrorCode.INVALID_TIME_RANGE);
+        }
+        if (date.atTime(startTime).isBefore(LocalDateTime.now())) {
+            throw new BadRequestException(ErrorCode.PAST_TIME_RESERVATION);
+        }
+    }
+
+    private static boolean isAfterLastTimeSlot(LocalDate date, LocalDateTime now) {
+        return date.isEqual(now.toLocalDate()) && !now.toLocalTime().isBefore(LAST_TIME_SLOT);
+    }
+
     private LocalTime adjustToNextTimeSlot(LocalTime currentTime) {
         final int currentMinute = currentTime.getMinute();
         int adjustedMinute;
         int adjustedHour = currentTime.getHour();
         
-        if (currentMinute <= 30) {
+        if (currentMinute < 30) {
             adjustedMinute = 30;
         } else {
             adjustedMinute = 0;
@@ -6,18 +6,26 @@ import com.room.reservation.system.api.dto.payment.PaymentStatusRequestDto;
 import com.room.reservation.system.api.dto.payment.PaymentStatusResponseDto;
 import com.room.reservation.system.api.persistence.entity.*;
 import com.room.reservation.system.api.persistence.repository.PaymentRepository;
-import com.room.reservation.system.api.persistence.repository.UserRepository;
 import com.room.reservation.system.api.persistence.repository.ReservationRepository;
 import com.room.reservation.system.api.persistence.entity.Payment;
-import com.room.reservation.system.api.service.payment.PaymentStrategy;
+import com.room.reservation.system.api.service.cache.PaymentIdempotencyCache;
+import com.room.reservation.system.api.service.cache.UserIdentityCache;
+import com.room.reservation.system.api.service.notification.PaymentStatusNotifier;
+import com.room.reservation.system.api.service.outbox.PaymentOutboxService;
 import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
 import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
 import com.room.reservation.system.global.error.model.ErrorCode;
+import com.room.reservation.system.global.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -25,35 +33,53 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PaymentService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final PaymentStrategyFactory strategyFactory;
     private final ReservationRepository reservationRepository;
-    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
     private final PaymentRepository paymentRepository;
+    private final PaymentOutboxService outboxService;
+    private final PaymentIdempotencyCache idempotencyCache;
+    private final PaymentStatusNotifier statusNotifier;
+
+    /**
+     * 결제 요청
+     * 결제 대기(PENDING) 결제와 결제사 요청 아웃박스를 한 트랜잭션에 저장하고 바로 응답한다.
+     * 결제사 호출은 PaymentOutboxDispatcher가 백그라운드에서 처리하고, 결과는 웹훅으로 확정된다.
+     * 같은 Idempotency-Key로 다시 요청하면 결제를 새로 만들지 않고 최초 응답을 그대로 반환한다.
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 null)
+     */
+    public PaymentPendingResponseDto processPayment(Long reservationId, PaymentRequestDto request, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            final Optional<PaymentPendingResponseDto> replay = findReplay(idempotencyKey, reservationId);
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+        }
+
+        // 지원하지 않는 결제사 타입이면 저장 전에 거절
+        strategyFactory.getPaymentStrategy(request.providerType());
 
-    public PaymentPendingResponseDto processPayment(Long reservationId, PaymentRequestDto request) {
         final Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_RESERVATION));
-        final User user = userRepository.findByNameAndPhoneNumber(request.userName(), request.phoneNumber())
-                .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_USER));
+        final Long userId = findUserId(request.userName(), request.phoneNumber());
 
-        validateUserAndReservation(reservation, user);
+        validateUserAndReservation(reservation, userId);
         validateReservationStatus(reservation);
+        validateNoPendingPayment(reservation);
 
-        // Payment 객체 생성 및 DB 저장 (PENDING 상태)
-        final Payment payment = Payment.create(request.amount(), reservation);
-        paymentRepository.save(payment); // PENDING으로 저장
-
-        // 결제 전략 호출 (내부 Payment ID 전달)
-        final PaymentStrategy strategy = strategyFactory.getPaymentStrategy(request.providerType().name());
-        final PaymentPendingResponseDto strategyResult = strategy.pay(payment.getId(), reservation, request);
+        final Payment payment = savePayment(
+                Payment.create(request.amount(), reservation, request.providerType(), idempotencyKey));
+        outboxService.enqueue(payment, request);
 
-        // Payment 엔티티에 외부 결제 ID 업데이트
-        payment.updateExternalPaymentId(strategyResult.externalPaymentId()); //외부 ID 업데이트
-
-        log.info("결제 요청 완료 - 예약ID: {}, 내부결제ID: {}, 외부결제ID: {}",
-                reservationId, payment.getId(), strategyResult.externalPaymentId());
+        final PaymentPendingResponseDto response = toPendingResponse(payment);
+        if (idempotencyKey != null) {
+            TransactionCallbacks.afterCommit(() -> idempotencyCache.put(idempotencyKey, reservationId, response));
+        }
 
-        return strategyResult;
+        log.info("결제 요청 접수 - 예약ID: {}, 내부결제ID: {}", reservationId, payment.getId());
+        return response;
     }
 
     /**
@@ -66,10 +92,9 @@ public class PaymentService {
     public PaymentStatusResponseDto getPaymentStatus(Long paymentId, PaymentStatusRequestDto request) {
         final Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_PAYMENT));
-        final User user = userRepository.findByNameAndPhoneNumber(request.userName(), request.phoneNumber())
-                .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_USER));
+        final Long userId = findUserId(request.userName(), request.phoneNumber());
 
-        validateUserAndReservation(payment.getReservation(), user);
+        validateUserAndReservation(payment.getReservation(), userId);
 
         final String message = generateStatusMessage(payment.getStatus(), payment.getPaymentProvider());
 
@@ -77,23 +102,95 @@ public class PaymentService {
     }
 
     /**
-     * 결제 상태에 따른 메시지 생성
+     * 결제 상태 변경 대기 (Server-Sent Events)
+     * 현재 상태를 바로 보내고, 결제 대기 중이면 웹훅/상태 대사로 상태가 바뀔 때 이어서 보낸다.
+     * 대기 등록을 현재 상태 조회보다 먼저 해야 그 사이에 커밋된 상태 변경을 놓치지 않는다.
      */
-    private String generateStatusMessage(PaymentStatus status, PaymentProvider provider) {
-        if (provider == null) {
-            return "결제가 진행 중입니다. 잠시만 기다려 주세요.";
+    @Transactional(readOnly = true)
+    public SseEmitter subscribePaymentStatus(Long paymentId, PaymentStatusRequestDto request) {
+        final SseEmitter emitter = statusNotifier.subscribe(paymentId);
+        try {
+            statusNotifier.send(paymentId, emitter, getPaymentStatus(paymentId, request));
+        } catch (RuntimeException e) {
+            statusNotifier.unsubscribe(paymentId, emitter);
+            throw e;
         }
-        
+        return emitter;
+    }
+
+    /**
+     * 결제 상태에 따른 메시지 생성
+     * 웹훅 없이 상태 대사로 확정된 결제는 결제사 정보(provider)가 없을 수 있다.
+     */
+    public static String generateStatusMessage(PaymentStatus status, PaymentProvider provider) {
         return switch (status) {
             case PENDING -> "결제가 진행 중입니다. 잠시만 기다려 주세요.";
-            case SUCCESS -> provider.getName() + "에서 결제가 성공적으로 완료되었습니다.";
+            case SUCCESS -> provider == null
+                    ? "결제가 성공적으로 완료되었습니다."
+                    : provider.getName() + "에서 결제가 성공적으로 완료되었습니다.";
             case FAILED -> "결제 처리 중 오류가 발생했습니다. 다시 시도해 주세요.";
             case CANCELLED -> "결제가 취소되었습니다.";
         };
     }
 
-    private void validateUserAndReservation(Reservation reservation, User user) {
-        if (!reservation.getUser().getId().equals(user.getId())) {
+    /**
+     * 같은 Idempotency-Key로 만들어진 결제의 최초 응답 조회 (캐시 → DB 순)
+     */
+    private Optional<PaymentPendingResponseDto> findReplay(String idempotencyKey, Long reservationId) {
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new BadRequestException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        final Optional<PaymentIdempotencyCache.CachedResponse> cached = idempotencyCache.get(idempotencyKey)
+                .or(() -> paymentRepository.findByIdempotencyKey(idempotencyKey).map(payment -> {
+                    final PaymentIdempotencyCache.CachedResponse loaded = new PaymentIdempotencyCache.CachedResponse(
+                            payment.getReservation().getId(), toPendingResponse(payment));
+                    idempotencyCache.put(idempotencyKey, loaded.reservationId(), loaded.response());
+                    return loaded;
+                }));
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (!cached.get().reservationId().equals(reservationId)) {
+            throw new BadRequestException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        log.info("같은 Idempotency-Key의 결제 재요청 - 예약ID: {}, 내부결제ID: {}",
+                reservationId, cached.get().response().paymentId());
+        return Optional.of(cached.get().response());
+    }
+
+    /**
+     * 결제 저장
+     * 같은 키(또는 같은 예약)의 요청이 동시에 들어와 유니크 제약에 걸리면, 먼저 들어온 요청이 처리 중인 것으로 본다.
+     */
+    private Payment savePayment(Payment payment) {
+        try {
+            return paymentRepository.saveAndFlush(payment);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(payment.getIdempotencyKey() != null
+                    ? ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS
+                    : ErrorCode.FAIL_PAYMENT_IN_PROGRESS);
+        }
+    }
+
+    private static PaymentPendingResponseDto toPendingResponse(Payment payment) {
+        return new PaymentPendingResponseDto(
+                payment.getId().toString(),
+                null,
+                "결제 요청이 접수되었습니다. 잠시 후 결제 상태를 조회해 주세요.",
+                PaymentStatus.PENDING.name()
+        );
+    }
+
+    private Long findUserId(String userName, String phoneNumber) {
+        return userIdentityCache.findUserId(userName, phoneNumber)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_USER));
+    }
+
+    private void validateUserAndReservation(Reservation reservation, Long userId) {
+        if (!reservation.getUser().getId().equals(userId)) {
             throw new BadRequestException(ErrorCode.FAIL_INVALID_USER);
         }
     }
@@ -102,5 +199,14 @@ public class PaymentService {
         if (reservation.getStatus() == ReservationStatus.CONFIRMED) {
             throw new BadRequestException(ErrorCode.FAIL_ALREADY_PAID);
         }
+        if (reservation.isExpired(LocalDateTime.now())) {
+            throw new BadRequestException(ErrorCode.EXPIRED_RESERVATION);
+        }
+    }
+
+    private void validateNoPendingPayment(Reservation reservation) {
+        if (paymentRepository.existsPendingByReservationId(reservation.getId())) {
+            throw new BadRequestException(ErrorCode.FAIL_PAYMENT_IN_PROGRESS);
+        }
     }
 } 
\ No newline at end of file
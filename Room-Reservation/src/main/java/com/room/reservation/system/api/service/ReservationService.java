@@ -1,26 +1,44 @@
 package com.room.reservation.system.api.service;
 
 import com.room.reservation.system.api.dto.reservation.ReservationCreateDto;
+import com.room.reservation.system.api.dto.reservation.ReservationCursorDto;
+import com.room.reservation.system.api.dto.reservation.ReservationRecurringCreateDto;
 import com.room.reservation.system.api.dto.reservation.ReservationReadAllDto;
+import com.room.reservation.system.api.dto.reservation.ReservationReadDto;
 import com.room.reservation.system.api.dto.reservation.ReservationReadRequestDto;
 import com.room.reservation.system.api.dto.reservation.ReservationDeleteDto;
 import com.room.reservation.system.api.persistence.entity.MeetingRoom;          
 import com.room.reservation.system.api.persistence.entity.Payment;
 import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.ReservationStatus;
+import com.room.reservation.system.api.persistence.entity.ReservationSlot;
 import com.room.reservation.system.api.persistence.entity.User;
 import com.room.reservation.system.api.persistence.repository.MeetingRoomRepository;
+import com.room.reservation.system.api.persistence.repository.PaymentOutboxRepository;
 import com.room.reservation.system.api.persistence.repository.PaymentRepository;
 import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationSlotRepository;
 import com.room.reservation.system.api.persistence.repository.UserRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.cache.UserIdentityCache;
+import com.room.reservation.system.api.service.hold.ReservationHoldService;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
 import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
 import com.room.reservation.system.global.error.model.ErrorCode;
+import com.room.reservation.system.global.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -33,47 +51,105 @@ public class ReservationService {
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final MeetingRoomAvailabilityCache availabilityCache;
+    private final ReservationHoldService holdService;
+    private final UserIdentityCache userIdentityCache;
+    private final PaymentRefundService refundService;
 
     public void create(ReservationCreateDto dto) {
         final MeetingRoom meetingRoom = meetingRoomRepository.findById(dto.meetingRoomId())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_MEETING_ROOM));
-        final User user = userRepository.findByNameAndPhoneNumber(dto.name(), dto.phoneNumber())
-                .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_USER));
-        final LocalDateTime now = LocalDateTime.now();
-        final List<Reservation> todayReservations = reservationRepository.findReservationsAfterCurrentTime(
-                dto.meetingRoomId(),
-                now
-        );
+        final User user = findUser(dto.name(), dto.phoneNumber());
 
-        validateAfterTime(dto.startTime());
+        validateAfterTime(dto.date(), dto.startTime());
         validateBeforeTime(dto.startTime(), dto.endTime());
         validateTimeFormat(dto.startTime());
         validateTimeFormat(dto.endTime());
-        validateAlreadyReservation(dto.startTime(), dto.endTime(), todayReservations);
+        validateAlreadyReservation(dto.meetingRoomId(), dto.date(), dto.startTime(), dto.endTime());
 
         final Integer totalAmount = calculateTotalAmount(meetingRoom, dto.startTime(), dto.endTime());
-        final LocalDateTime today = LocalDateTime.now().toLocalDate().atStartOfDay();
-        final LocalDateTime startDateTime = today.with(dto.startTime());
-        final LocalDateTime endDateTime = today.with(dto.endTime());
+        final LocalDateTime startDateTime = dto.date().atTime(dto.startTime());
+        final LocalDateTime endDateTime = dto.date().atTime(dto.endTime());
+        final LocalDateTime holdExpiresAt = holdService.deadlineFrom(LocalDateTime.now());
 
         final Reservation reservation = Reservation.create(
-                user, meetingRoom, startDateTime, endDateTime, totalAmount);
+                user, meetingRoom, startDateTime, endDateTime, totalAmount, holdExpiresAt);
 
         reservationRepository.save(reservation);
+        claimSlots(List.of(reservation));
+        holdService.schedule(List.of(reservation));
+
+        TransactionCallbacks.afterCommit(() -> availabilityCache.invalidate(dto.meetingRoomId(), dto.date()));
+    }
+
+    /**
+     * 반복 예약 생성 (매주 같은 시간)
+     * 전체 회차를 한 번의 슬롯 조회로 검사하고 배치 INSERT로 저장한다.
+     * 한 회차라도 겹치면 아무것도 생성하지 않는다.
+     */
+    public int createRecurring(ReservationRecurringCreateDto dto) {
+        final MeetingRoom meetingRoom = meetingRoomRepository.findById(dto.meetingRoomId())
+                .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_MEETING_ROOM));
+        final User user = findUser(dto.name(), dto.phoneNumber());
+        final List<LocalDate> dates = dto.dates();
+
+        validateAfterTime(dto.startDate(), dto.startTime());
+        validateBeforeTime(dto.startTime(), dto.endTime());
+        validateTimeFormat(dto.startTime());
+        validateTimeFormat(dto.endTime());
+        validateNotClaimed(dto.meetingRoomId(), dates, dto.startTime(), dto.endTime());
+        occupy(dto.meetingRoomId(), dates, dto.startTime(), dto.endTime());
+
+        final Integer totalAmount = calculateTotalAmount(meetingRoom, dto.startTime(), dto.endTime());
+        final LocalDateTime holdExpiresAt = holdService.deadlineFrom(LocalDateTime.now());
+        final List<Reservation> reservations = dates.stream()
+                .map(date -> Reservation.create(
+                        user,
+                        meetingRoom,
+                        date.atTime(dto.startTime()),
+                        date.atTime(dto.endTime()),
+                        totalAmount,
+                        holdExpiresAt
+                ))
+                .toList();
+
+        reservationRepository.saveAll(reservations);
+        claimSlots(reservations);
+        holdService.schedule(reservations);
+
+        TransactionCallbacks.afterCommit(() ->
+                dates.forEach(date -> availabilityCache.invalidate(dto.meetingRoomId(), date)));
+
+        return reservations.size();
     }
 
+    /**
+     * 사용자 예약 목록 조회 (시작 시간, ID 기준 커서 페이지네이션)
+     * 다음 페이지가 있는지 확인하기 위해 한 건을 더 조회한다.
+     */
     @Transactional(readOnly = true)
     public ReservationReadAllDto readAllReservations(ReservationReadRequestDto dto) {
-        final List<Reservation> reservations = reservationRepository.findAllReservationsByUser(
-                dto.userName(), dto.phoneNumber());
+        final int size = dto.pageSize();
+        final PageRequest limit = PageRequest.of(0, size + 1);
+        final ReservationCursorDto cursor = dto.cursor();
 
-        validateExists(reservations);
+        final List<ReservationReadDto> reservations = cursor == null
+                ? reservationRepository.findReservationPageByUser(dto.userName(), dto.phoneNumber(), limit)
+                : reservationRepository.findReservationPageByUserAfter(
+                        dto.userName(), dto.phoneNumber(), cursor.startTime(), cursor.id(), limit);
 
-        return new ReservationReadAllDto(
-                reservations.stream()
-                        .map(Reservation::toReadDto)
-                        .toList()
-        );
+        if (cursor == null) {
+            validateExists(reservations);
+        }
+
+        final boolean hasNext = reservations.size() > size;
+        final List<ReservationReadDto> page = hasNext ? reservations.subList(0, size) : reservations;
+        final ReservationCursorDto nextCursor = hasNext ? ReservationCursorDto.from(page.get(page.size() - 1)) : null;
+
+        return new ReservationReadAllDto(page, nextCursor);
     }
 
     public void delete(ReservationDeleteDto dto) {
@@ -81,22 +157,52 @@ public class ReservationService {
                         dto.userName(), dto.phoneNumber(), dto.reservationId())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_RESERVATION));
 
-        // 예약과 관련된 결제 정보 먼저 삭제
-        paymentRepository.deleteAll(paymentRepository.findByReservationId(reservation.getId()));
+        // 만료된 예약은 만료 처리 때 이미 슬롯과 점유 인덱스를 반환했고, 그 시간대는 다른 예약이 다시 잡았을 수 있다.
+        final boolean holdsSlots = reservation.getStatus() != ReservationStatus.EXPIRED;
+
+        // 점유 슬롯 삭제
+        if (holdsSlots) {
+            reservationSlotRepository.deleteByReservationId(reservation.getId());
+        }
+
+        // 결제사에 전달된 결제는 환불 요청을 남기고(결제사 취소는 백그라운드에서 진행), 결제사 요청 아웃박스와 결제 정보 삭제
+        final List<Payment> payments = paymentRepository.findByReservationId(reservation.getId());
+        refundService.enqueue(payments);
+        paymentOutboxRepository.deleteByReservationId(reservation.getId());
+        paymentRepository.deleteAll(payments);
 
         // 예약 삭제
         reservationRepository.delete(reservation);
+
+        // 커밋 이후 점유 인덱스에서 해제하고 예약 가능 시간 캐시 무효화
+        if (holdsSlots) {
+            TransactionCallbacks.afterCommit(() -> {
+                occupancyIndex.release(reservation);
+                availabilityCache.invalidate(
+                        reservation.getMeetingRoom().getId(), reservation.getStartTime().toLocalDate());
+            });
+        }
+    }
+
+    /**
+     * 사용자 식별 캐시로 ID를 찾고, 조회 없이 참조만 가져온다.
+     */
+    private User findUser(String name, String phoneNumber) {
+        final Long userId = userIdentityCache.findUserId(name, phoneNumber)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_USER));
+
+        return userRepository.getReferenceById(userId);
     }
 
-    private static void validateExists(List<Reservation> reservations) {
+    private static void validateExists(List<ReservationReadDto> reservations) {
         if (reservations.isEmpty()) {
             throw new NotFoundException(ErrorCode.FAIL_NOT_RESERVATION);
         }
     }
 
-    private void validateAfterTime(LocalTime startTime) {
-        final LocalTime now = LocalTime.now();
-        if (startTime.isBefore(now)) {
+    private void validateAfterTime(LocalDate date, LocalTime startTime) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (date.atTime(startTime).isBefore(now)) {
             throw new BadRequestException(ErrorCode.PAST_TIME_RESERVATION);
         }
     }
@@ -114,19 +220,61 @@ public class ReservationService {
         }
     }
 
-    private void validateAlreadyReservation(LocalTime startTime, LocalTime endTime, List<Reservation> existingReservations) {
-        for (Reservation reservation : existingReservations) {
-            LocalTime reservationStart = reservation.getStartTime().toLocalTime();
-            LocalTime reservationEnd = reservation.getEndTime().toLocalTime();
+    /**
+     * 점유 인덱스로 중복 예약 검사 후 해당 슬롯 점유
+     * 트랜잭션이 롤백되면 점유를 해제한다.
+     */
+    private void validateAlreadyReservation(Long meetingRoomId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        occupy(meetingRoomId, List.of(date), startTime, endTime);
+    }
+
+    /**
+     * 반복 예약의 모든 날짜를 한 번의 조회로 검사 (다른 인스턴스에서 커밋된 예약 포함)
+     */
+    private void validateNotClaimed(Long meetingRoomId, List<LocalDate> dates, LocalTime startTime, LocalTime endTime) {
+        final List<LocalDate> claimedDates = reservationSlotRepository.findClaimedDates(
+                meetingRoomId,
+                dates,
+                ReservationSlot.toSlotIndex(startTime),
+                ReservationSlot.toSlotIndex(endTime)
+        );
+
+        if (!claimedDates.isEmpty()) {
+            throw new BadRequestException(ErrorCode.ALREADY_RESERVED_TIME);
+        }
+    }
+
+    /**
+     * 모든 날짜의 슬롯을 점유 인덱스에서 점유
+     * 하나라도 실패하면 앞서 점유한 날짜를 되돌리고, 트랜잭션이 롤백되면 전부 해제한다.
+     */
+    private void occupy(Long meetingRoomId, List<LocalDate> dates, LocalTime startTime, LocalTime endTime) {
+        final List<LocalDate> occupiedDates = new ArrayList<>(dates.size());
 
-            if (isTimeOverlap(startTime, endTime, reservationStart, reservationEnd)) {
+        for (LocalDate date : dates) {
+            if (!occupancyIndex.tryOccupy(meetingRoomId, date, startTime, endTime)) {
+                occupiedDates.forEach(occupied -> occupancyIndex.release(meetingRoomId, occupied, startTime, endTime));
                 throw new BadRequestException(ErrorCode.ALREADY_RESERVED_TIME);
             }
+            occupiedDates.add(date);
         }
+
+        TransactionCallbacks.afterRollback(() -> occupiedDates.forEach(
+                date -> occupancyIndex.release(meetingRoomId, date, startTime, endTime)));
     }
 
-    private boolean isTimeOverlap(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
+    /**
+     * 슬롯 점유 행을 같은 트랜잭션에서 저장
+     * 다른 인스턴스가 같은 슬롯을 먼저 점유했다면 유니크 제약 위반으로 즉시 실패한다.
+     */
+    private void claimSlots(List<Reservation> reservations) {
+        try {
+            reservationSlotRepository.saveAllAndFlush(reservations.stream()
+                    .flatMap(reservation -> ReservationSlot.claimsOf(reservation).stream())
+                    .toList());
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            throw new BadRequestException(ErrorCode.ALREADY_RESERVED_TIME);
+        }
     }
 
     private Integer calculateTotalAmount(MeetingRoom meetingRoom, LocalTime startTime, LocalTime endTime) {
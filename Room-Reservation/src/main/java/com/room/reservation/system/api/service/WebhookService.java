@@ -1,20 +1,40 @@
 package com.room.reservation.system.api.service;
 
+import com.room.reservation.system.api.dto.payment.PaymentStatusResponseDto;
+import com.room.reservation.system.api.dto.payment.WebhookBatchResultDto;
 import com.room.reservation.system.api.dto.payment.WebhookPaymentDto;
 import com.room.reservation.system.api.persistence.entity.Payment;
 import com.room.reservation.system.api.persistence.entity.PaymentProvider;
 import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
 import com.room.reservation.system.api.persistence.entity.PaymentStatus;
-import com.room.reservation.system.api.persistence.repository.PaymentProviderRepository;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.ReservationStatus;
 import com.room.reservation.system.api.persistence.repository.PaymentRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.cache.PaymentProviderCache;
+import com.room.reservation.system.api.service.notification.PaymentStatusNotifier;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
+import com.room.reservation.system.api.service.webhook.PaymentWebhookDeduplicator;
+import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
 import com.room.reservation.system.global.error.model.ErrorCode;
+import com.room.reservation.system.global.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 외부 결제사로부터 웹훅을 수신하여 처리하는 서비스
  */
@@ -25,18 +45,30 @@ import org.springframework.transaction.annotation.Transactional;
 public class WebhookService {
 
     private final PaymentRepository paymentRepository;
-    private final PaymentProviderRepository paymentProviderRepository;
+    private final PaymentProviderCache paymentProviderCache;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final MeetingRoomAvailabilityCache availabilityCache;
+    private final PaymentStatusNotifier statusNotifier;
+    private final PaymentWebhookDeduplicator webhookDeduplicator;
+    private final PaymentRefundService refundService;
+
+    @Value("${payment.webhook.batch.max-size:500}")
+    private int maxBatchSize;
 
     /**
      * 결제 웹훅 처리
-     * 새로운 트랜잭션에서 실행하여 메인 결제 트랜잭션과 분리
+     * 웹훅 수신함의 처리 완료 기록과 한 트랜잭션으로 묶이도록 호출한 쪽의 트랜잭션에 참여한다.
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void processPaymentWebhook(String providerType, WebhookPaymentDto webhookData) {
         log.info("=== 웹훅 처리 시작 ===");
+        if (webhookDeduplicator.isDuplicate(webhookData.externalPaymentId(), webhookData.transactionId())) {
+            log.info("이미 처리한 웹훅 - 결제사: {}, 외부결제ID: {}, 거래ID: {}",
+                    providerType, webhookData.externalPaymentId(), webhookData.transactionId());
+            return;
+        }
+
         try {
-            final Long paymentId = Long.parseLong(webhookData.paymentId());
-            final Payment payment = paymentRepository.findById(paymentId)
+            final Payment payment = findPayment(webhookData)
                     .orElseThrow(() -> new NotFoundException(ErrorCode.FAIL_NOT_PAYMENT));
 
             log.info("결제 정보 조회 완료 - 예약ID: {}, 현재상태: {}", 
@@ -52,11 +84,8 @@ public class WebhookService {
             log.info("PaymentProvider 처리 완료 - ID: {}, 이름: {}", 
                     paymentProvider.getId(), paymentProvider.getName());
 
-            payment.updateStatus(convertToPaymentStatus(webhookData.status()));
-            payment.updatePaymentProvider(paymentProvider);
-            
-            // 결제가 성공한 경우 예약 상태를 CONFIRMED로 변경
-            confirmReservation(payment, webhookData.status());
+            webhookDeduplicator.record(webhookData.externalPaymentId(), webhookData.transactionId());
+            applyWebhook(payment, paymentProvider, webhookData);
             
             log.info("=== 웹훅 처리 완료 ===");
 
@@ -67,18 +96,129 @@ public class WebhookService {
         }
     }
 
+    /**
+     * 결제 웹훅 일괄 처리
+     * 웹훅이 가리키는 결제를 외부 결제 ID로 예약과 함께 한 번의 IN 조회로 잠가 읽고, 결제사는 캐시에서 찾아 한 트랜잭션에서 반영한다.
+     * 결제/예약 변경은 커밋 시 JDBC 배치 UPDATE(hibernate.jdbc.batch_size)로 묶여 전송된다.
+     * 같은 결제의 웹훅이 여러 건이면 배열 순서대로 반영하고, 이미 처리한 웹훅과 없는 결제를 가리키는 웹훅은 건너뛴다.
+     */
+    public WebhookBatchResultDto processPaymentWebhooks(String providerType, List<WebhookPaymentDto> webhooks) {
+        if (webhooks == null || webhooks.isEmpty() || webhooks.size() > maxBatchSize) {
+            throw new BadRequestException(ErrorCode.INVALID_WEBHOOK_BATCH);
+        }
+
+        final Set<String> externalPaymentIds = webhooks.stream()
+                .map(WebhookPaymentDto::externalPaymentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final Map<String, Payment> paymentsByExternalId = externalPaymentIds.isEmpty()
+                ? new HashMap<>()
+                : paymentRepository.findAllWithReservationByExternalPaymentIdInForUpdate(externalPaymentIds).stream()
+                        .collect(Collectors.toMap(Payment::getExternalPaymentId, Function.identity()));
+
+        // 외부 결제 ID로 찾지 못한 웹훅만 내부 결제 ID로 다시 조회
+        final Set<Long> paymentIds = webhooks.stream()
+                .filter(webhook -> !paymentsByExternalId.containsKey(webhook.externalPaymentId()))
+                .map(WebhookService::parsePaymentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final Map<Long, Payment> paymentsById = paymentIds.isEmpty()
+                ? new HashMap<>()
+                : paymentRepository.findAllWithReservationByIdInForUpdate(paymentIds).stream()
+                        .collect(Collectors.toMap(Payment::getId, Function.identity()));
+
+        final Map<String, PaymentProvider> providers = createOrGetPaymentProviders(webhooks);
+
+        int applied = 0;
+        for (WebhookPaymentDto webhook : webhooks) {
+            // 묶음 안에서 먼저 반영한 웹훅도 처리 기록이 flush되어 있으므로 중복으로 걸러진다.
+            if (webhookDeduplicator.isDuplicate(webhook.externalPaymentId(), webhook.transactionId())) {
+                continue;
+            }
+
+            final Payment payment = paymentsByExternalId.containsKey(webhook.externalPaymentId())
+                    ? paymentsByExternalId.get(webhook.externalPaymentId())
+                    : paymentsById.get(parsePaymentId(webhook));
+            if (payment == null) {
+                log.warn("존재하지 않는 결제의 웹훅 - 결제사: {}, 결제ID: {}, 외부결제ID: {}",
+                        providerType, webhook.paymentId(), webhook.externalPaymentId());
+                continue;
+            }
+
+            webhookDeduplicator.record(webhook.externalPaymentId(), webhook.transactionId());
+            applyWebhook(payment, providers.get(webhook.providerName()), webhook);
+            applied++;
+        }
+
+        log.info("웹훅 일괄 처리 완료 - 결제사: {}, 수신: {}, 반영: {}", providerType, webhooks.size(), applied);
+        return new WebhookBatchResultDto(webhooks.size(), applied, webhooks.size() - applied);
+    }
+
+    /**
+     * 결제 상태와 결제사 반영, 결제 성공이면 예약 확정
+     */
+    private void applyWebhook(Payment payment, PaymentProvider paymentProvider, WebhookPaymentDto webhookData) {
+        payment.updateStatus(convertToPaymentStatus(webhookData.status()));
+        payment.updatePaymentProvider(paymentProvider);
+
+        // 결제가 성공한 경우 예약 상태를 CONFIRMED로 변경
+        confirmReservation(payment, webhookData);
+
+        // 커밋 이후 결제 상태를 기다리는 클라이언트에 전달
+        final Long paymentId = payment.getId();
+        final PaymentStatusResponseDto statusResponse = payment.toResponseDto(
+                PaymentService.generateStatusMessage(payment.getStatus(), paymentProvider));
+        TransactionCallbacks.afterCommit(() -> statusNotifier.publish(paymentId, statusResponse));
+    }
+
+    /**
+     * 웹훅 묶음이 가리키는 결제사를 이름별로 한 번씩 조회 (없는 결제사는 등록)
+     */
+    private Map<String, PaymentProvider> createOrGetPaymentProviders(List<WebhookPaymentDto> webhooks) {
+        final Map<String, PaymentProvider> providers = new HashMap<>();
+        for (WebhookPaymentDto webhook : webhooks) {
+            providers.computeIfAbsent(webhook.providerName(), name -> createOrGetPaymentProvider(
+                    name,
+                    webhook.apiEndpoint(),
+                    webhook.authInfo(),
+                    PaymentProviderType.valueOf(webhook.providerType())));
+        }
+        return providers;
+    }
+
+    /**
+     * 웹훅이 가리키는 결제를 예약과 함께 잠금 조회
+     * 결제사 식별자(외부 결제 ID)로 찾고, 결제사 응답보다 웹훅이 먼저 도착해 외부 결제 ID가 아직 기록되지 않은 결제는 내부 결제 ID로 찾는다.
+     * 결제 기한 만료와 대사 결과 반영도 같은 예약 행을 잠그므로, 잠근 뒤 읽은 예약 상태로 확정 여부를 판단할 수 있다.
+     */
+    private Optional<Payment> findPayment(WebhookPaymentDto webhookData) {
+        if (webhookData.externalPaymentId() != null) {
+            final Optional<Payment> payment =
+                    paymentRepository.findWithReservationByExternalPaymentIdForUpdate(webhookData.externalPaymentId());
+            if (payment.isPresent()) {
+                return payment;
+            }
+        }
+
+        final Long paymentId = parsePaymentId(webhookData);
+        return paymentId == null ? Optional.empty() : paymentRepository.findWithReservationByIdForUpdate(paymentId);
+    }
+
+    private static Long parsePaymentId(WebhookPaymentDto webhook) {
+        try {
+            return webhook.paymentId() == null ? null : Long.parseLong(webhook.paymentId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private PaymentProvider createOrGetPaymentProvider(
             String name,
             String apiEndpoint,
             String authInfo,
             PaymentProviderType type
     ) {
-        return paymentProviderRepository.findByName(name)
-                .orElseGet(() -> {
-                    log.info("새로운 PaymentProvider 생성 - 이름: {}, 타입: {}", name, type);
-                    PaymentProvider newProvider = PaymentProvider.create(name, type, apiEndpoint, authInfo);
-                    return paymentProviderRepository.save(newProvider);
-                });
+        return paymentProviderCache.getOrCreate(name, type, apiEndpoint, authInfo);
     }
 
     private PaymentStatus convertToPaymentStatus(String webhookStatus) {
@@ -95,11 +235,39 @@ public class WebhookService {
 
     /**
      * 결제 성공 시 예약 상태를 CONFIRMED로 변경
+     * 결제 기한이 지나 슬롯이 반환된 예약은 확정하지 않고 결제를 환불한다.
      */
-    private void confirmReservation(Payment payment, String webhookStatus) {
-        if (convertToPaymentStatus(webhookStatus) == PaymentStatus.SUCCESS) {
-            payment.getReservation().confirm();
+    private void confirmReservation(Payment payment, WebhookPaymentDto webhookData) {
+        if (convertToPaymentStatus(webhookData.status()) == PaymentStatus.SUCCESS) {
+            final Reservation reservation = payment.getReservation();
+
+            if (reservation.getStatus() == ReservationStatus.EXPIRED) {
+                log.warn("만료된 예약에 대한 결제 성공 웹훅, 환불 요청 - 예약ID: {}, 결제ID: {}",
+                        reservation.getId(), payment.getId());
+                refundExpired(payment, webhookData.externalPaymentId());
+                return;
+            }
+
+            reservation.confirm();
+
+            // 확정된 예약이 점유 인덱스와 어긋나지 않도록 커밋 이후 다시 반영하고 캐시 무효화
+            TransactionCallbacks.afterCommit(() -> {
+                occupancyIndex.occupy(reservation);
+                availabilityCache.invalidate(
+                        reservation.getMeetingRoom().getId(), reservation.getStartTime().toLocalDate());
+            });
             log.info("예약 상태를 CONFIRMED로 변경 완료 - 예약ID: {}", payment.getReservation().getId());
         }
     }
+
+    /**
+     * 만료된 예약의 결제 환불 요청
+     * 결제사 응답보다 웹훅이 먼저 도착했다면 웹훅의 외부 결제 ID를 기록한 뒤 환불 대상으로 넘긴다.
+     */
+    private void refundExpired(Payment payment, String externalPaymentId) {
+        if (payment.getExternalPaymentId() == null && externalPaymentId != null) {
+            payment.updateExternalPaymentId(externalPaymentId);
+        }
+        refundService.enqueue(List.of(payment));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.room.reservation.system.api.service.cache;
+
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomDetailDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회의실 상세(예약 가능 시간) 캐시
+ * - 키: (회의실 ID, 날짜)
+ * - 동시에 같은 키를 조회하면 한 번만 적재하고 나머지는 그 결과를 기다린다.
+ * - 현재 30분 슬롯이 바뀌면 만료된다.
+ * - 예약 생성/삭제/확정 시 커밋 이후 무효화된다.
+ * - 항목이 max-entries에 이르면 만료된 항목을 먼저 비우고, 그래도 가득 차 있으면 새 키는 캐시하지 않고 바로 적재한다.
+ */
+@Component
+public class MeetingRoomAvailabilityCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public MeetingRoomAvailabilityCache(
+            @Value("${meeting-room.availability-cache.max-entries:1024}") int maxEntries
+    ) {
+        this.maxEntries = maxEntries;
+    }
+
+    public MeetingRoomDetailDto get(Long meetingRoomId, LocalDate date, Supplier<MeetingRoomDetailDto> loader) {
+        final Key key = new Key(meetingRoomId, date);
+        final LocalDateTime currentSlot = currentSlot();
+
+        while (true) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.slot().equals(currentSlot)) {
+                return await(entry);
+            }
+
+            // 새 키를 넣을 자리가 없으면 캐시하지 않는다. (동시에 넣는 스레드 수만큼 잠시 넘을 수 있다)
+            if (entry == null && isFull(currentSlot)) {
+                return loader.get();
+            }
+
+            final Entry created = new Entry(currentSlot, new CompletableFuture<>());
+            final boolean owner = entry == null
+                    ? entries.putIfAbsent(key, created) == null
+                    : entries.replace(key, entry, created);
+
+            if (owner) {
+                return load(key, created, loader);
+            }
+        }
+    }
+
+    /**
+     * 적재 중인 항목도 제거하므로 이후 조회는 새로 적재한다.
+     */
+    public void invalidate(Long meetingRoomId, LocalDate date) {
+        entries.remove(new Key(meetingRoomId, date));
+    }
+
+    private MeetingRoomDetailDto load(Key key, Entry entry, Supplier<MeetingRoomDetailDto> loader) {
+        try {
+            final MeetingRoomDetailDto detail = loader.get();
+            entry.future().complete(detail);
+            return detail;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.future().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private MeetingRoomDetailDto await(Entry entry) {
+        try {
+            return entry.future().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 가득 찼으면 만료된 항목을 비우고, 그래도 가득 차 있는지 확인
+     */
+    private boolean isFull(LocalDateTime currentSlot) {
+        if (entries.size() < maxEntries) {
+            return false;
+        }
+
+        entries.values().removeIf(entry -> !entry.slot().equals(currentSlot));
+        return entries.size() >= maxEntries;
+    }
+
+    private static LocalDateTime currentSlot() {
+        final LocalDateTime now = LocalDateTime.now();
+        return now.truncatedTo(ChronoUnit.HOURS).plusMinutes(now.getMinute() < 30 ? 0 : 30);
+    }
+
+    private record Key(Long meetingRoomId, LocalDate date) {
+    }
+
+    private record Entry(LocalDateTime slot, CompletableFuture<MeetingRoomDetailDto> future) {
+    }
+}
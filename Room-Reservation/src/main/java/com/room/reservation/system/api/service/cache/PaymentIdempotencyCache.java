@@ -0,0 +1,84 @@
+package com.room.reservation.system.api.service.cache;
+
+import com.room.reservation.system.api.dto.payment.response.PaymentPendingResponseDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 요청 멱등성 키 캐시 (Idempotency-Key → 최초 응답)
+ * - 재시도 요청을 DB 조회 없이 최초 응답으로 돌려주기 위한 앞단 캐시이며, 최종 판단은 결제 테이블의 유니크 제약이 한다.
+ * - 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU), TTL이 지난 항목은 DB에서 다시 읽는다.
+ * - 적중 수는 payment.idempotency.cache.* 메트릭으로 노출
+ */
+@Component
+public class PaymentIdempotencyCache {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PaymentIdempotencyCache(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("payment.idempotency.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("payment.idempotency.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("payment.idempotency.cache.size", this, PaymentIdempotencyCache::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<CachedResponse> get(String idempotencyKey) {
+        synchronized (entries) {
+            final Entry entry = entries.get(idempotencyKey);
+            if (entry != null && System.nanoTime() - entry.expiresAtNanos() < 0) {
+                hits.increment();
+                return Optional.of(entry.response());
+            }
+            if (entry != null) {
+                entries.remove(idempotencyKey);
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String idempotencyKey, Long reservationId, PaymentPendingResponseDto response) {
+        synchronized (entries) {
+            entries.put(idempotencyKey, new Entry(
+                    new CachedResponse(reservationId, response), System.nanoTime() + TTL.toNanos()));
+        }
+    }
+
+    private double size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 최초 요청의 예약 ID와 응답 (다른 예약에 같은 키를 재사용했는지 확인하는 데 쓴다)
+     */
+    public record CachedResponse(Long reservationId, PaymentPendingResponseDto response) {
+    }
+
+    private record Entry(CachedResponse response, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.room.reservation.system.api.service.cache;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProvider;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.repository.PaymentProviderRepository;
+import com.room.reservation.system.global.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제사 캐시 (결제사 이름 → 결제사)
+ * - 결제사는 몇 곳뿐이고 등록된 뒤 바뀌지 않으므로, 한 번 적재하면 웹훅마다 DB를 조회하지 않는다.
+ * - 캐시에 없는 결제사는 이름별로 한 스레드만 적재하고(single-flight), 나머지는 그 결과를 기다린다.
+ *   적재는 맵 잠금 밖에서 호출한 쪽의 트랜잭션에 참여해 조회 후 없으면 등록하므로, 커넥션을 하나 더 잡지 않는다.
+ * - 새로 등록한 결제사는 호출한 트랜잭션이 롤백되면 캐시에서 제거되어, 캐시에는 DB에 있는 결제사만 남는다.
+ *   다른 서버가 먼저 등록해 이름 unique 제약에 걸리면 호출한 트랜잭션째 실패하고, 재시도 때 등록된 결제사를 조회한다.
+ * - 적중률은 payment.provider.cache.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class PaymentProviderCache {
+
+    // 웹훅으로 들어오는 이름이 끝없이 쌓이지 않도록 제한 (넘으면 캐시하지 않고 매번 조회)
+    private static final int MAX_SIZE = 1_000;
+
+    private final PaymentProviderRepository paymentProviderRepository;
+    private final ConcurrentMap<String, CompletableFuture<PaymentProvider>> providers = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PaymentProviderCache(PaymentProviderRepository paymentProviderRepository, MeterRegistry meterRegistry) {
+        this.paymentProviderRepository = paymentProviderRepository;
+
+        FunctionCounter.builder("payment.provider.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("payment.provider.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("payment.provider.cache.size", providers, ConcurrentMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제사 조회, 없으면 등록
+     */
+    public PaymentProvider getOrCreate(String name, PaymentProviderType type, String apiEndpoint, String authInfo) {
+        final CompletableFuture<PaymentProvider> cached = providers.get(name);
+        if (cached != null) {
+            hits.increment();
+            return await(cached);
+        }
+
+        misses.increment();
+        if (providers.size() >= MAX_SIZE) {
+            return load(name, type, apiEndpoint, authInfo);
+        }
+
+        // 같은 이름을 동시에 적재하려는 스레드는 먼저 등록한 스레드의 적재가 끝날 때까지 기다렸다가 그 결과를 받는다.
+        final CompletableFuture<PaymentProvider> created = new CompletableFuture<>();
+        final CompletableFuture<PaymentProvider> loading = providers.putIfAbsent(name, created);
+        if (loading != null) {
+            return await(loading);
+        }
+
+        try {
+            final PaymentProvider provider = load(name, type, apiEndpoint, authInfo);
+            created.complete(provider);
+            return provider;
+        } catch (RuntimeException e) {
+            providers.remove(name, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public double hitRatio() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private PaymentProvider load(String name, PaymentProviderType type, String apiEndpoint, String authInfo) {
+        return paymentProviderRepository.findByName(name)
+                .orElseGet(() -> {
+                    log.info("새로운 PaymentProvider 생성 - 이름: {}, 타입: {}", name, type);
+                    final PaymentProvider created = paymentProviderRepository.saveAndFlush(
+                            PaymentProvider.create(name, type, apiEndpoint, authInfo));
+                    TransactionCallbacks.afterRollback(() -> providers.remove(name));
+                    return created;
+                });
+    }
+
+    private PaymentProvider await(CompletableFuture<PaymentProvider> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
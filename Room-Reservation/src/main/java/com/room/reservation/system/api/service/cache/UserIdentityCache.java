@@ -0,0 +1,108 @@
+package com.room.reservation.system.api.service.cache;
+
+import com.room.reservation.system.api.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 식별 캐시 (이름 + 전화번호 → 사용자 ID)
+ * - 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 존재하지 않는 사용자도 짧은 시간 동안 캐시하여 DB 조회 없이 거절
+ * - 적중률은 user.identity.cache.* 메트릭으로 노출
+ */
+@Component
+public class UserIdentityCache {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final UserRepository userRepository;
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserIdentityCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+
+        FunctionCounter.builder("user.identity.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.identity.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("user.identity.cache.hit.ratio", this, UserIdentityCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("user.identity.cache.size", this, UserIdentityCache::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<Long> findUserId(String name, String phoneNumber) {
+        final Key key = new Key(name, phoneNumber);
+
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.isValid(System.nanoTime())) {
+                hits.increment();
+                return Optional.ofNullable(entry.userId());
+            }
+        }
+
+        misses.increment();
+        final Optional<Long> userId = userRepository.findIdByNameAndPhoneNumber(name, phoneNumber);
+
+        synchronized (entries) {
+            entries.put(key, userId
+                    .map(Entry::found)
+                    .orElseGet(() -> Entry.notFound(System.nanoTime() + NEGATIVE_TTL.toNanos())));
+        }
+
+        return userId;
+    }
+
+    public double hitRatio() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private double size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(String name, String phoneNumber) {
+    }
+
+    /**
+     * userId가 null이면 존재하지 않는 사용자 (expiresAtNanos까지 유효)
+     */
+    private record Entry(Long userId, long expiresAtNanos) {
+
+        static Entry found(Long userId) {
+            return new Entry(userId, Long.MAX_VALUE);
+        }
+
+        static Entry notFound(long expiresAtNanos) {
+            return new Entry(null, expiresAtNanos);
+        }
+
+        boolean isValid(long nowNanos) {
+            return userId != null || nowNanos - expiresAtNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.room.reservation.system.api.service.hold;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 결제 대기 예약 만료 스케줄러
+ * - 1초마다 타이머 휠을 돌려 기한이 지난 예약을 모아서 만료
+ * - 다른 인스턴스에서 생성되었거나 타이머에서 놓친 예약은 주기적인 DB 조회로 보완
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationHoldScheduler {
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final ReservationHoldWheel holdWheel;
+    private final ReservationHoldService holdService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final int count = holdService.scheduleActiveHolds();
+        log.info("결제 대기 예약 만료 타이머 적재 완료 - 예약 수: {}", count);
+    }
+
+    @Scheduled(fixedDelay = ReservationHoldWheel.TICK_MILLIS)
+    public void tick() {
+        final List<Long> expiredIds = holdWheel.advance(System.currentTimeMillis());
+        if (expiredIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            holdService.expire(expiredIds);
+        } catch (Exception e) {
+            // 놓친 예약은 다음 DB 조회에서 다시 만료된다.
+            log.error("결제 대기 예약 만료 처리 실패 - 건수: {}, 오류: {}", expiredIds.size(), e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.hold.sweep-interval:60000}",
+            initialDelayString = "${reservation.hold.sweep-interval:60000}")
+    public void sweep() {
+        List<Long> expiredIds = holdService.findExpiredHoldIds(SWEEP_BATCH_SIZE);
+        while (!expiredIds.isEmpty()) {
+            holdService.expire(expiredIds);
+            if (expiredIds.size() < SWEEP_BATCH_SIZE) {
+                return;
+            }
+            expiredIds = holdService.findExpiredHoldIds(SWEEP_BATCH_SIZE);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.room.reservation.system.api.service.hold;
+
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationSlotRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 결제 대기 예약의 점유 기한 관리
+ * 기한이 지난 예약은 한 번의 UPDATE로 만료시키고, 점유 슬롯을 한 번의 DELETE로 반환한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ReservationHoldService {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final MeetingRoomAvailabilityCache availabilityCache;
+    private final ReservationHoldWheel holdWheel;
+
+    @Value("${reservation.hold.duration:PT10M}")
+    private Duration holdDuration;
+
+    /**
+     * 지금 생성하는 결제 대기 예약의 점유 기한
+     */
+    public LocalDateTime deadlineFrom(LocalDateTime now) {
+        return now.plus(holdDuration);
+    }
+
+    /**
+     * 커밋 이후 만료 타이머 등록
+     */
+    public void schedule(List<Reservation> reservations) {
+        TransactionCallbacks.afterCommit(() -> reservations.stream()
+                .filter(reservation -> reservation.getHoldExpiresAt() != null)
+                .forEach(reservation -> holdWheel.schedule(reservation.getId(), reservation.getHoldExpiresAt())));
+    }
+
+    /**
+     * 아직 기한이 남은 결제 대기 예약을 만료 타이머에 다시 등록 (애플리케이션 시작 시)
+     */
+    @Transactional(readOnly = true)
+    public int scheduleActiveHolds() {
+        final List<Reservation> holds = reservationRepository.findActiveHolds(LocalDateTime.now());
+        holds.forEach(reservation -> holdWheel.schedule(reservation.getId(), reservation.getHoldExpiresAt()));
+
+        return holds.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredHoldIds(int limit) {
+        return reservationRepository.findExpiredHoldIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 기한이 지난 결제 대기 예약 일괄 만료
+     * 그 사이 결제가 확정된 예약은 잠금 조회에서 걸러지고,
+     * 다른 인스턴스나 일괄 만료 작업이 먼저 만료시킨 예약은 이 인스턴스의 점유 인덱스에서만 해제한다.
+     */
+    public int expire(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Reservation> expired = reservationRepository.findExpiredHoldsForUpdate(reservationIds, now);
+        final List<Reservation> alreadyExpired = reservationRepository.findExpiredIn(reservationIds);
+        if (expired.isEmpty() && alreadyExpired.isEmpty()) {
+            return 0;
+        }
+
+        if (!expired.isEmpty()) {
+            final List<Long> expiredIds = expired.stream()
+                    .map(Reservation::getId)
+                    .toList();
+
+            reservationRepository.expireAll(expiredIds);
+            reservationSlotRepository.deleteByReservationIdIn(expiredIds);
+            log.info("결제 기한이 지난 예약 만료 처리 - 건수: {}", expired.size());
+        }
+
+        // 먼저 만료된 예약의 시간대는 그 사이 다시 예약되었을 수 있으므로, 해제 후 같은 날의 유효한 예약을 다시 점유한다.
+        final List<Reservation> rebooked = findValidOnSameDays(alreadyExpired, now);
+
+        // 커밋 이후 점유 인덱스에서 해제하고 예약 가능 시간 캐시 무효화
+        TransactionCallbacks.afterCommit(() -> {
+            Stream.concat(expired.stream(), alreadyExpired.stream()).forEach(reservation -> {
+                occupancyIndex.release(reservation);
+                availabilityCache.invalidate(
+                        reservation.getMeetingRoom().getId(), reservation.getStartTime().toLocalDate());
+            });
+            rebooked.forEach(occupancyIndex::occupy);
+        });
+
+        return expired.size();
+    }
+
+    private List<Reservation> findValidOnSameDays(List<Reservation> reservations, LocalDateTime now) {
+        final Map<Long, Set<LocalDate>> daysByRoom = reservations.stream()
+                .collect(Collectors.groupingBy(
+                        reservation -> reservation.getMeetingRoom().getId(),
+                        Collectors.mapping(reservation -> reservation.getStartTime().toLocalDate(), Collectors.toSet())));
+
+        final List<Reservation> valid = new ArrayList<>();
+        daysByRoom.forEach((meetingRoomId, days) -> days.forEach(day -> valid.addAll(
+                reservationRepository.findReservationsBetween(
+                        meetingRoomId, day.atStartOfDay(), day.plusDays(1).atStartOfDay(), now))));
+
+        return valid;
+    }
+}
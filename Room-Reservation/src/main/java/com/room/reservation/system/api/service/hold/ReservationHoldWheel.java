@@ -0,0 +1,86 @@
+package com.room.reservation.system.api.service.hold;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 결제 대기 예약의 만료 타이머 (해시 타이머 휠)
+ * 1초 단위 틱, 512칸 원형 버킷에 만료 시각을 나누어 담아
+ * 등록은 상수 시간, 만료 확인은 지난 틱의 버킷만 훑는다.
+ * 한 바퀴(약 8.5분)보다 먼 만료 시각은 같은 버킷에 남아 다음 바퀴에 다시 확인된다.
+ */
+@Component
+public class ReservationHoldWheel {
+
+    static final long TICK_MILLIS = 1000;
+    static final int WHEEL_SIZE = 512;
+
+    private final List<Queue<Hold>> buckets = new ArrayList<>(WHEEL_SIZE);
+    private volatile long lastTick;
+
+    public ReservationHoldWheel() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        this.lastTick = System.currentTimeMillis() / TICK_MILLIS;
+    }
+
+    /**
+     * 만료 시각에 예약 ID 등록 (이미 지난 시각이면 다음 틱에 만료)
+     */
+    public void schedule(Long reservationId, LocalDateTime expiresAt) {
+        final long deadlineTick = Math.floorDiv(toEpochMillis(expiresAt) + TICK_MILLIS - 1, TICK_MILLIS);
+        final long tick = Math.max(deadlineTick, lastTick + 1);
+
+        bucketOf(tick).add(new Hold(reservationId, deadlineTick));
+    }
+
+    /**
+     * 마지막 틱 이후 지금까지 지난 틱을 처리하고 만료된 예약 ID 반환
+     */
+    public synchronized List<Long> advance(long nowMillis) {
+        final long nowTick = nowMillis / TICK_MILLIS;
+        final List<Long> expired = new ArrayList<>();
+
+        // 한 바퀴 이상 밀렸다면 모든 버킷을 한 번씩만 확인하면 된다.
+        final long fromTick = Math.max(lastTick + 1, nowTick - WHEEL_SIZE + 1);
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            drain(bucketOf(tick), nowTick, expired);
+        }
+
+        lastTick = Math.max(lastTick, nowTick);
+        return expired;
+    }
+
+    private void drain(Queue<Hold> bucket, long nowTick, List<Long> expired) {
+        // 다음 바퀴로 넘기는 항목을 다시 꺼내지 않도록 처음 크기만큼만 꺼낸다.
+        for (int remaining = bucket.size(); remaining > 0; remaining--) {
+            final Hold hold = bucket.poll();
+            if (hold == null) {
+                return;
+            }
+            if (hold.deadlineTick() <= nowTick) {
+                expired.add(hold.reservationId());
+            } else {
+                bucket.add(hold);
+            }
+        }
+    }
+
+    private Queue<Hold> bucketOf(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) WHEEL_SIZE));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Hold(Long reservationId, long deadlineTick) {
+    }
+}
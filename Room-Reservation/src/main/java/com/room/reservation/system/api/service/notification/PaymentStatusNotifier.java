@@ -0,0 +1,125 @@
+package com.room.reservation.system.api.service.notification;
+
+import com.room.reservation.system.api.dto.payment.PaymentStatusResponseDto;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import com.room.reservation.system.global.error.exception.ServiceUnavailableException;
+import com.room.reservation.system.global.error.model.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 상태 대기 목록 (Server-Sent Events)
+ * 클라이언트가 결제 상태를 반복 조회하지 않도록, 결제 ID별로 대기 중인 연결을 메모리에 두고
+ * 웹훅이나 상태 대사로 결제 상태가 바뀌면 바로 전달한다.
+ * 결제가 확정(PENDING이 아닌 상태)되면 연결을 닫고, timeout이 지나면 연결을 닫아 클라이언트가 다시 연결하게 한다.
+ */
+@Slf4j
+@Component
+public class PaymentStatusNotifier {
+
+    private static final String EVENT_NAME = "payment-status";
+    // 대기 연결이 가득 찼을 때 클라이언트에 알려 줄 재연결 대기 시간
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final Map<Long, Set<SseEmitter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final long timeoutMillis;
+    private final int maxWaiters;
+
+    public PaymentStatusNotifier(
+            @Value("${payment.status-stream.timeout:PT30S}") Duration timeout,
+            @Value("${payment.status-stream.max-waiters:10000}") int maxWaiters,
+            MeterRegistry meterRegistry
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.maxWaiters = maxWaiters;
+
+        Gauge.builder("payment.status.waiters", waiterCount, AtomicInteger::get)
+                .description("결제 상태를 기다리는 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 상태 대기 등록
+     * 현재 상태는 등록한 뒤에 조회해서 보내야 그 사이에 바뀐 상태를 놓치지 않는다.
+     * @throws ServiceUnavailableException 대기 중인 연결이 max-waiters를 넘은 경우 (503, Retry-After)
+     */
+    public SseEmitter subscribe(Long paymentId) {
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            throw new ServiceUnavailableException(ErrorCode.TOO_MANY_PAYMENT_STATUS_WAITERS, RETRY_AFTER);
+        }
+
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        waiters.computeIfAbsent(paymentId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(paymentId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unsubscribe(paymentId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 대기 해제 (여러 번 호출해도 한 번만 해제된다)
+     */
+    public void unsubscribe(Long paymentId, SseEmitter emitter) {
+        final AtomicBoolean removed = new AtomicBoolean();
+        waiters.computeIfPresent(paymentId, (id, emitters) -> {
+            removed.set(emitters.remove(emitter));
+            return emitters.isEmpty() ? null : emitters;
+        });
+
+        if (removed.get()) {
+            waiterCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 결제 상태를 기다리는 모든 연결에 전달
+     */
+    public void publish(Long paymentId, PaymentStatusResponseDto status) {
+        final Set<SseEmitter> emitters = waiters.get(paymentId);
+        if (emitters == null) {
+            return;
+        }
+
+        emitters.forEach(emitter -> send(paymentId, emitter, status));
+        log.debug("결제 상태 전달 - 결제ID: {}, 상태: {}, 연결 수: {}", paymentId, status.paymentStatus(), emitters.size());
+    }
+
+    /**
+     * 한 연결에 결제 상태 전달 (확정된 상태면 연결을 닫고 대기 해제)
+     * 응답이 시작되기 전에 닫힌 연결에는 완료 콜백이 불리지 않으므로 여기서 직접 해제한다.
+     */
+    public void send(Long paymentId, SseEmitter emitter, PaymentStatusResponseDto status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(status));
+            if (!PaymentStatus.PENDING.name().equals(status.paymentStatus())) {
+                emitter.complete();
+                unsubscribe(paymentId, emitter);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊었거나 완료된 연결
+            emitter.completeWithError(e);
+            unsubscribe(paymentId, emitter);
+        }
+    }
+
+    public int waiterCount() {
+        return waiterCount.get();
+    }
+}
@@ -0,0 +1,104 @@
+package com.room.reservation.system.api.service.occupancy;
+
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomReadDto;
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.repository.MeetingRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 회의실 수용 인원 인덱스
+ * 활성화된 회의실을 수용 인원 오름차순으로 정렬해 두고,
+ * 이분 탐색으로 조건을 만족하는 첫 회의실을 찾은 뒤 점유 인덱스로 빈 회의실만 고른다.
+ * 회의실 정보는 자주 바뀌지 않으므로 불변 스냅샷으로 보관하고, 주기적으로 다시 적재해 바뀐 경우에만 통째로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingRoomCapacityIndex {
+
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final RoomOccupancyIndex occupancyIndex;
+
+    private volatile Snapshot snapshot = new Snapshot(new int[0], List.of());
+
+    /**
+     * 활성화된 회의실 다시 적재 (실패하면 이전 스냅샷 유지)
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${meeting-room.capacity-index.reload-interval:60000}")
+    public void reload() {
+        final List<MeetingRoomReadDto> rooms;
+        try {
+            rooms = meetingRoomRepository.findByIsActiveTrue().stream()
+                    .map(MeetingRoom::toMeetingRoomReadDto)
+                    .sorted(Comparator.comparing(MeetingRoomReadDto::capacity).thenComparing(MeetingRoomReadDto::id))
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("회의실 수용 인원 인덱스 적재 실패, 이전 스냅샷 유지 - 오류: {}", e.getMessage());
+            return;
+        }
+
+        if (rooms.equals(snapshot.rooms())) {
+            return;
+        }
+
+        final int[] capacities = rooms.stream()
+                .mapToInt(MeetingRoomReadDto::capacity)
+                .toArray();
+        snapshot = new Snapshot(capacities, rooms);
+
+        log.info("회의실 수용 인원 인덱스 적재 완료 - 회의실 수: {}", rooms.size());
+    }
+
+    /**
+     * 해당 시간대에 비어 있고 최소 인원 이상을 수용하는 회의실 (수용 인원이 작은 순)
+     */
+    public List<MeetingRoomReadDto> findAvailable(LocalDate date, LocalTime startTime, LocalTime endTime, int minCapacity) {
+        final Snapshot current = snapshot;
+        final List<MeetingRoomReadDto> availableRooms = new ArrayList<>();
+
+        for (int i = current.lowerBound(minCapacity); i < current.rooms().size(); i++) {
+            final MeetingRoomReadDto room = current.rooms().get(i);
+            if (occupancyIndex.isAvailable(room.id(), date, startTime, endTime)) {
+                availableRooms.add(room);
+            }
+        }
+
+        return availableRooms;
+    }
+
+    private record Snapshot(int[] capacities, List<MeetingRoomReadDto> rooms) {
+
+        /**
+         * 수용 인원이 minCapacity 이상인 첫 위치
+         */
+        int lowerBound(int minCapacity) {
+            int low = 0;
+            int high = capacities.length;
+
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (capacities[mid] < minCapacity) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.room.reservation.system.api.service.occupancy;
+
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.ReservationSlot;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회의실 점유 인덱스
+ * 회의실별, 날짜별로 30분 단위 슬롯(하루 48칸)을 long 비트맵 하나로 관리하여
+ * 예약 중복 검사를 DB 조회 없이 상수 시간에 처리한다.
+ * 원본 데이터는 DB이며, 애플리케이션 시작 시 DB로부터 다시 적재한다.
+ * 지난 날짜의 비트맵은 더 조회되지 않으므로 주기적으로 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final Map<Long, Map<LocalDate, AtomicLong>> occupancy = new ConcurrentHashMap<>();
+
+    /**
+     * 오늘 이후의 유효한 예약으로 인덱스 적재 (만료된 예약 제외)
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Reservation> reservations = reservationRepository.findAllReservationsFrom(
+                now.toLocalDate().atStartOfDay(), now);
+
+        occupancy.clear();
+        reservations.forEach(this::occupy);
+
+        log.info("회의실 점유 인덱스 적재 완료 - 예약 수: {}", reservations.size());
+    }
+
+    /**
+     * 지난 날짜의 비트맵 제거 (회의실 맵은 회의실 수만큼만 있으므로 남겨 둔다)
+     */
+    @Scheduled(fixedDelayString = "${reservation.occupancy.evict-interval:3600000}")
+    public void evictPastDays() {
+        final int evicted = evictBefore(LocalDate.now());
+        if (evicted > 0) {
+            log.info("회의실 점유 인덱스에서 지난 날짜 제거 - 제거 수: {}", evicted);
+        }
+    }
+
+    /**
+     * date 이전 날짜의 비트맵 제거
+     * @return 제거한 (회의실, 날짜) 수
+     */
+    int evictBefore(LocalDate date) {
+        int evicted = 0;
+        for (Map<LocalDate, AtomicLong> days : occupancy.values()) {
+            final int before = days.size();
+            days.keySet().removeIf(day -> day.isBefore(date));
+            evicted += before - days.size();
+        }
+        return evicted;
+    }
+
+    /**
+     * 해당 시간대가 비어 있으면 점유하고 true, 이미 점유된 슬롯이 있으면 false
+     */
+    public boolean tryOccupy(Long meetingRoomId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        final AtomicLong bitmap = bitmapOf(meetingRoomId, date);
+        final long mask = toMask(startTime, endTime);
+
+        while (true) {
+            final long current = bitmap.get();
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (bitmap.compareAndSet(current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 기존 예약을 인덱스에 반영 (이미 점유된 슬롯이어도 덮어씀)
+     */
+    public void occupy(Reservation reservation) {
+        bitmapOf(reservation.getMeetingRoom().getId(), reservation.getStartTime().toLocalDate())
+                .getAndUpdate(current -> current | toMask(reservation));
+    }
+
+    public void release(Long meetingRoomId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        final Map<LocalDate, AtomicLong> days = occupancy.get(meetingRoomId);
+        if (days == null) {
+            return;
+        }
+
+        final AtomicLong bitmap = days.get(date);
+        if (bitmap != null) {
+            final long mask = toMask(startTime, endTime);
+            bitmap.getAndUpdate(current -> current & ~mask);
+        }
+    }
+
+    public void release(Reservation reservation) {
+        release(
+                reservation.getMeetingRoom().getId(),
+                reservation.getStartTime().toLocalDate(),
+                reservation.getStartTime().toLocalTime(),
+                reservation.getEndTime().toLocalTime()
+        );
+    }
+
+    public boolean isAvailable(Long meetingRoomId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        final Map<LocalDate, AtomicLong> days = occupancy.get(meetingRoomId);
+        if (days == null) {
+            return true;
+        }
+
+        final AtomicLong bitmap = days.get(date);
+        return bitmap == null || (bitmap.get() & toMask(startTime, endTime)) == 0;
+    }
+
+    private AtomicLong bitmapOf(Long meetingRoomId, LocalDate date) {
+        return occupancy
+                .computeIfAbsent(meetingRoomId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(date, day -> new AtomicLong());
+    }
+
+    private static long toMask(Reservation reservation) {
+        return toMask(reservation.getStartTime().toLocalTime(), reservation.getEndTime().toLocalTime());
+    }
+
+    private static long toMask(LocalTime startTime, LocalTime endTime) {
+        final int startSlot = ReservationSlot.toSlotIndex(startTime);
+        final int endSlot = ReservationSlot.toSlotIndex(endTime);
+
+        return ((1L << (endSlot - startSlot)) - 1) << startSlot;
+    }
+}
@@ -0,0 +1,21 @@
+package com.room.reservation.system.api.service.outbox;
+
+import com.room.reservation.system.api.dto.payment.request.PaymentRequestDto;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+
+/**
+ * 선점한 결제사 결제 요청 한 건
+ * @param attempt 이번 시도가 몇 번째인지 (1부터)
+ * @param endpoint 결제 요청을 보낼 엔드포인트 (첫 시도에 고른 엔드포인트로 재시도한다)
+ */
+public record PaymentDispatch(
+        Long outboxId,
+        Long paymentId,
+        int attempt,
+        PaymentProviderType providerType,
+        ProviderEndpoint endpoint,
+        Reservation reservation,
+        PaymentRequestDto request
+) {}
@@ -0,0 +1,133 @@
+package com.room.reservation.system.api.service.outbox;
+
+import com.room.reservation.system.api.dto.payment.response.PaymentPendingResponseDto;
+import com.room.reservation.system.api.service.payment.PaymentStrategy;
+import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제사 결제 요청 발송기
+ * 아웃박스에서 보낼 시각이 된 요청을 배치 단위로 선점하고, 배치의 요청을 결제사에 비동기로 한꺼번에 보낸다.
+ * 결제사 응답을 기다리는 동안 스레드를 점유하지 않으므로, 동시에 진행 중인 요청 수는 스레드 수가 아니라
+ * 배치 크기와 결제사별 동시 호출 한도(벌크헤드)로 제한된다. 결과 기록(DB)만 작업 스레드에서 처리한다.
+ * 스케줄러 스레드는 배치가 끝날 때까지 기다리므로, 다른 스케줄 작업이 밀리지 않도록 스케줄러 풀(spring.task.scheduling.pool.size)을 따로 둔다.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxDispatcher {
+
+    private final PaymentOutboxService outboxService;
+    private final PaymentStrategyFactory strategyFactory;
+    private final PaymentProviderGuard providerGuard;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    public PaymentOutboxDispatcher(
+            PaymentOutboxService outboxService,
+            PaymentStrategyFactory strategyFactory,
+            PaymentProviderGuard providerGuard,
+            @Value("${payment.outbox.batch-size:50}") int batchSize,
+            @Value("${payment.outbox.worker-threads:4}") int workerThreads
+    ) {
+        this.outboxService = outboxService;
+        this.strategyFactory = strategyFactory;
+        this.providerGuard = providerGuard;
+        this.batchSize = batchSize;
+
+        final AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "payment-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval:500}")
+    public void dispatch() {
+        List<PaymentDispatch> batch = outboxService.claimDue(batchSize);
+        while (!batch.isEmpty()) {
+            CompletableFuture.allOf(batch.stream()
+                    .map(this::send)
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+            batch = outboxService.claimDue(batchSize);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    CompletableFuture<Void> send(PaymentDispatch dispatch) {
+        try {
+            // 결제 기한이 지난 예약은 결제사에 보내지 않는다.
+            if (dispatch.reservation().isExpired(LocalDateTime.now())) {
+                outboxService.reject(dispatch, "결제 기한이 지난 예약");
+                return CompletableFuture.completedFuture(null);
+            }
+
+            final PaymentStrategy strategy = strategyFactory.getPaymentStrategy(dispatch.providerType());
+            return providerGuard.executeAsync(dispatch.providerType(),
+                            () -> strategy.payAsync(
+                                    dispatch.endpoint(), dispatch.paymentId(), dispatch.reservation(), dispatch.request()))
+                    .handleAsync((result, error) -> {
+                        record(dispatch, result, unwrap(error));
+                        return null;
+                    }, executor);
+        } catch (Exception e) {
+            // 보내지 못한 요청은 선점 제한 시간이 지난 뒤 다시 선점된다.
+            log.error("결제사 결제 요청 처리 실패 - 결제ID: {}, 오류: {}", dispatch.paymentId(), e.getMessage(), e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 결제사 호출 결과 기록
+     * 결제사가 요청을 거절(4xx)하면 결제를 실패로 기록하고,
+     * 타임아웃이나 결제사 장애(5xx)처럼 결과를 알 수 없는 경우에는 결제를 PENDING으로 둔 채 재시도한다.
+     * 재시도는 같은 멱등 키(내부 결제 ID)로 보내므로, 앞선 요청이 승인되었어도 결제사는 새로 결제하지 않는다.
+     * 서킷이 열려 있어 보내지 못한 요청은 시도 횟수를 쓰지 않고 서킷이 반열림될 때까지 미룬다.
+     */
+    private void record(PaymentDispatch dispatch, PaymentPendingResponseDto result, Throwable error) {
+        try {
+            if (error == null) {
+                outboxService.complete(dispatch, result.externalPaymentId());
+                log.info("결제사 결제 요청 완료 - 예약ID: {}, 내부결제ID: {}, 외부결제ID: {}",
+                        dispatch.reservation().getId(), dispatch.paymentId(), result.externalPaymentId());
+            } else if (error instanceof PaymentProviderUnavailableException e) {
+                outboxService.postpone(dispatch, e.getRetryAfter(), e.getMessage());
+            } else if (error instanceof HttpClientErrorException e) {
+                outboxService.reject(dispatch, "결제사 응답 코드 " + e.getStatusCode().value());
+            } else {
+                outboxService.retryLater(dispatch, error.getMessage());
+            }
+        } catch (Exception e) {
+            // 결과를 기록하지 못한 요청은 선점 제한 시간이 지난 뒤 같은 멱등 키로 다시 발송되어 같은 결제를 돌려받는다.
+            log.error("결제사 결제 요청 처리 실패 - 결제ID: {}, 오류: {}", dispatch.paymentId(), e.getMessage(), e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
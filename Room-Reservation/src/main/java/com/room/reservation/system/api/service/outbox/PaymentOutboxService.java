@@ -0,0 +1,209 @@
+package com.room.reservation.system.api.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.room.reservation.system.api.dto.payment.request.PaymentRequestDto;
+import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentOutbox;
+import com.room.reservation.system.api.persistence.entity.RetryableRequest;
+import com.room.reservation.system.api.persistence.repository.PaymentOutboxRepository;
+import com.room.reservation.system.api.persistence.repository.PaymentRepository;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
+import com.room.reservation.system.global.retry.RetryPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제사 결제 요청 아웃박스 관리
+ * 요청 저장, 선점, 결과 기록을 각각 짧은 트랜잭션으로 처리하고 결제사 호출은 트랜잭션 밖에서 이루어진다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PaymentOutboxService {
+
+    private final PaymentOutboxRepository outboxRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentProviderRegistry providerRegistry;
+    private final PaymentRefundService refundService;
+    private final ObjectMapper objectMapper;
+    private final RetryPolicy retryPolicy;
+
+    public PaymentOutboxService(
+            PaymentOutboxRepository outboxRepository,
+            PaymentRepository paymentRepository,
+            PaymentProviderRegistry providerRegistry,
+            PaymentRefundService refundService,
+            ObjectMapper objectMapper,
+            @Value("${payment.outbox.lease:PT30S}") Duration lease,
+            @Value("${payment.outbox.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${payment.outbox.max-attempts:5}") int maxAttempts
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.paymentRepository = paymentRepository;
+        this.providerRegistry = providerRegistry;
+        this.refundService = refundService;
+        this.objectMapper = objectMapper;
+        this.retryPolicy = new RetryPolicy(lease, retryBackoff, maxAttempts);
+    }
+
+    /**
+     * 결제사 결제 요청 저장 (결제 저장과 같은 트랜잭션)
+     */
+    public void enqueue(Payment payment, PaymentRequestDto request) {
+        outboxRepository.save(PaymentOutbox.create(
+                payment, request.providerType(), serialize(request), LocalDateTime.now()));
+    }
+
+    /**
+     * 보낼 시각이 된 결제 요청을 최대 limit건 선점
+     * 처음 보내는 요청은 가장 건강한 엔드포인트를 골라 결제에 기록하고, 재시도는 기록한 엔드포인트로 보낸다.
+     * 선점은 벌크 UPDATE라 조회해 둔 엔티티에 반영되지 않으므로, 선점 이후의 기록도 엔티티 변경 없이 UPDATE 쿼리로 한다.
+     */
+    public List<PaymentDispatch> claimDue(int limit) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<PaymentOutbox> due = outboxRepository.findDue(now, PageRequest.of(0, limit));
+
+        final List<PaymentDispatch> claimed = new ArrayList<>(due.size());
+        for (PaymentOutbox outbox : due) {
+            final PaymentRequestDto request = deserialize(outbox);
+            if (request == null || outboxRepository.claim(outbox.getId(), now, retryPolicy.leaseUntil(now)) == 0) {
+                continue;
+            }
+            final int attempt = outbox.getAttempts() + 1;
+            final ProviderEndpoint endpoint = endpointOf(outbox, attempt);
+            if (endpoint == null) {
+                continue;
+            }
+            claimed.add(new PaymentDispatch(
+                    outbox.getId(),
+                    outbox.getPayment().getId(),
+                    attempt,
+                    outbox.getProviderType(),
+                    endpoint,
+                    outbox.getPayment().getReservation(),
+                    request
+            ));
+        }
+        return claimed;
+    }
+
+    /**
+     * 결제사 요청 성공: 외부 결제 ID 기록
+     * 웹훅이 먼저 도착해 결제 상태가 바뀌었을 수 있으므로 상태는 건드리지 않는다.
+     * 결제사 호출 중에 예약이 삭제되어 결제가 없으면, 예약 삭제 시 환불 대상에서 빠진 결제이므로 여기서 환불을 요청한다.
+     */
+    public void complete(PaymentDispatch dispatch, String externalPaymentId) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (paymentRepository.updateExternalPaymentId(dispatch.paymentId(), externalPaymentId, now) > 0) {
+            outboxRepository.findById(dispatch.outboxId()).ifPresent(PaymentOutbox::sent);
+            return;
+        }
+
+        if (paymentRepository.existsById(dispatch.paymentId())) {
+            log.warn("외부 결제 ID를 기록하지 못한 결제 - 결제ID: {}, 외부결제ID: {}", dispatch.paymentId(), externalPaymentId);
+            outboxRepository.findById(dispatch.outboxId()).ifPresent(PaymentOutbox::sent);
+            return;
+        }
+
+        refundService.enqueueDeleted(
+                dispatch.paymentId(),
+                dispatch.reservation().getId(),
+                externalPaymentId,
+                dispatch.providerType(),
+                dispatch.endpoint().providerId(),
+                dispatch.request().amount()
+        );
+    }
+
+    /**
+     * 결제사 거절 등 다시 보내도 소용없는 경우: 결제 실패로 기록
+     */
+    public void reject(PaymentDispatch dispatch, String reason) {
+        paymentRepository.failIfPending(dispatch.paymentId(), LocalDateTime.now());
+        outboxRepository.findById(dispatch.outboxId()).ifPresent(outbox -> outbox.fail(reason));
+        log.warn("결제사 결제 요청 실패 처리 - 결제ID: {}, 사유: {}", dispatch.paymentId(), reason);
+    }
+
+    /**
+     * 타임아웃처럼 결과를 알 수 없는 경우: 지수 백오프로 재시도, 한도를 넘으면 실패로 기록
+     * 결제 요청은 내부 결제 ID를 Idempotency-Key 헤더로 보내고, 결제사는 같은 키의 요청에 처음 만든 결제를 돌려준다.
+     * 따라서 이전 요청이 결제사에서 처리되었더라도 다시 보낸 요청으로 새 결제가 승인되지 않고 같은 외부 결제 ID를 받는다.
+     */
+    public void retryLater(PaymentDispatch dispatch, String reason) {
+        if (retryPolicy.isExhausted(dispatch.attempt())) {
+            reject(dispatch, "재시도 한도 초과: " + reason);
+            return;
+        }
+
+        final LocalDateTime nextAttemptAt = retryPolicy.nextAttemptAt(LocalDateTime.now(), dispatch.attempt());
+        outboxRepository.findById(dispatch.outboxId()).ifPresent(outbox -> outbox.retryAt(nextAttemptAt, reason));
+        log.info("결제사 결제 요청 재시도 예약 - 결제ID: {}, 시도: {}, 다음 시도: {}",
+                dispatch.paymentId(), dispatch.attempt(), nextAttemptAt);
+    }
+
+    /**
+     * 서킷이 열려 있거나 동시 호출 한도를 넘어 결제사에 보내지 못한 경우: 시도 횟수에 포함하지 않고 미룸
+     * 결제사 장애가 길어져도 재시도 한도를 소진해 결제가 실패 처리되지 않는다.
+     */
+    public void postpone(PaymentDispatch dispatch, Duration delay, String reason) {
+        final LocalDateTime nextAttemptAt = LocalDateTime.now().plus(delay);
+        outboxRepository.findById(dispatch.outboxId()).ifPresent(outbox -> outbox.postpone(nextAttemptAt, reason));
+    }
+
+    /**
+     * 결제 요청을 보낼 엔드포인트
+     * 아직 결제사에 보낸 적이 없는 요청(첫 시도, 또는 서킷이 열려 미뤄지기만 한 요청)만 엔드포인트를 새로 고른다.
+     * 처음 보낸 엔드포인트가 삭제되어 다시 보낼 곳이 없으면 바로 실패 처리하고 null 반환
+     */
+    private ProviderEndpoint endpointOf(PaymentOutbox outbox, int attempt) {
+        final Payment payment = outbox.getPayment();
+        if (attempt > 1) {
+            try {
+                return providerRegistry.endpointOf(outbox.getProviderType(), payment.getEndpointProviderId());
+            } catch (IllegalStateException e) {
+                log.error("결제 요청을 다시 보낼 엔드포인트 없음 - 결제ID: {}, 오류: {}", payment.getId(), e.getMessage());
+                outboxRepository.failIfPending(outbox.getId(), RetryableRequest.truncateError(e.getMessage()));
+                paymentRepository.failIfPending(payment.getId(), LocalDateTime.now());
+                return null;
+            }
+        }
+
+        final ProviderEndpoint endpoint = providerRegistry.select(outbox.getProviderType());
+        paymentRepository.assignEndpoint(payment.getId(), endpoint.providerId(), LocalDateTime.now());
+        return endpoint;
+    }
+
+    private String serialize(PaymentRequestDto request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 요청 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 읽을 수 없는 요청은 다시 시도해도 소용없으므로 바로 실패 처리하고 null 반환
+     */
+    private PaymentRequestDto deserialize(PaymentOutbox outbox) {
+        try {
+            return objectMapper.readValue(outbox.getPayload(), PaymentRequestDto.class);
+        } catch (JsonProcessingException e) {
+            log.error("결제 요청 역직렬화 실패 - 아웃박스ID: {}", outbox.getId(), e);
+            outboxRepository.failIfPending(
+                    outbox.getId(), RetryableRequest.truncateError("결제 요청 역직렬화 실패: " + e.getOriginalMessage()));
+            paymentRepository.failIfPending(outbox.getPayment().getId(), LocalDateTime.now());
+            return null;
+        }
+    }
+}
@@ -4,26 +4,105 @@ import com.room.reservation.system.api.dto.payment.request.PaymentRequestDto;
 import com.room.reservation.system.api.dto.payment.response.PaymentResponseDto;
 import com.room.reservation.system.api.dto.payment.response.PaymentPendingResponseDto;
 import com.room.reservation.system.api.dto.payment.request.PaymentProviderRequestDto;
+import com.room.reservation.system.api.dto.payment.request.PaymentStatusQueryDto;
+import com.room.reservation.system.api.dto.payment.response.ProviderPaymentStatusDto;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
 import com.room.reservation.system.api.persistence.entity.PaymentStatus;
 import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 public class CardPaymentStrategy implements PaymentStrategy {
     
     private final RestTemplate restTemplate;
-    private static final String CARD_API_BASE_URL = "http://mock-payment-server:8081";
+    private final PaymentAsyncHttpClient asyncClient;
+    private final PaymentProviderRegistry providerRegistry;
     
-    public CardPaymentStrategy(RestTemplate restTemplate) {
+    public CardPaymentStrategy(
+            @Qualifier("cardPaymentRestTemplate") RestTemplate restTemplate,
+            PaymentAsyncHttpClient asyncClient,
+            PaymentProviderRegistry providerRegistry
+    ) {
         this.restTemplate = restTemplate;
+        this.asyncClient = asyncClient;
+        this.providerRegistry = providerRegistry;
+    }
+
+    @Override
+    public CompletableFuture<PaymentPendingResponseDto> payAsync(ProviderEndpoint endpoint, Long paymentId, Reservation reservation, PaymentRequestDto request) {
+        final PaymentProviderRequestDto providerRequest = toProviderRequest(paymentId, reservation, request);
+
+        return providerRegistry.callAsync(endpoint, baseUrl ->
+            asyncClient.post(
+                PaymentProviderType.CARD_PAYMENT,
+                baseUrl + "/payment",
+                PaymentStrategy.idempotencyHeaders(paymentId),
+                providerRequest,
+                PaymentPendingResponseDto.class
+            )
+        ).thenApply(mockResponse -> toPendingResponse(paymentId, mockResponse));
+    }
+    
+    @Override
+    public PaymentStatus checkPaymentStatus(ProviderEndpoint endpoint, String externalPaymentId) {
+        return checkPaymentStatuses(endpoint, List.of(externalPaymentId)).get(externalPaymentId);
+    }
+
+    @Override
+    public Map<String, PaymentStatus> checkPaymentStatuses(ProviderEndpoint endpoint, List<String> externalPaymentIds) {
+        final ProviderPaymentStatusDto[] statuses = providerRegistry.call(endpoint, baseUrl ->
+            restTemplate.postForObject(
+                baseUrl + "/payment/status",
+                new PaymentStatusQueryDto(externalPaymentIds),
+                ProviderPaymentStatusDto[].class
+            )
+        );
+
+        return ProviderPaymentStatusDto.toStatusMap(statuses);
     }
     
-        @Override
-    public PaymentPendingResponseDto pay(Long paymentId, Reservation reservation, PaymentRequestDto request) {
-        final PaymentProviderRequestDto providerRequest = new PaymentProviderRequestDto(
+    @Override
+    public PaymentResponseDto cancelPayment(ProviderEndpoint endpoint, String externalPaymentId) {
+        return providerRegistry.call(endpoint, baseUrl -> {
+            final ProviderPaymentStatusDto result = restTemplate.postForObject(
+                baseUrl + "/payment/{externalPaymentId}/cancel",
+                null,
+                ProviderPaymentStatusDto.class,
+                externalPaymentId
+            );
+
+            return new PaymentResponseDto(
+                externalPaymentId,                    // externalPaymentId
+                result.paymentStatus(),               // status (CANCELLED, 실패했던 결제는 FAILED)
+                null,                                 // amount
+                PaymentProviderType.CARD_PAYMENT,     // providerType
+                null,                                 // providerName
+                baseUrl,                              // apiEndpoint
+                null,                                 // authInfo
+                LocalDateTime.now(),                  // processedAt
+                null                                  // failureReason
+            );
+        });
+    }
+    
+    @Override
+    public String getPaymentType() {
+        return "CARD_PAYMENT";
+    }
+
+    private PaymentProviderRequestDto toProviderRequest(Long paymentId, Reservation reservation, PaymentRequestDto request) {
+        return new PaymentProviderRequestDto(
             paymentId.toString(),
             request.cardNumber(),
             request.amount(),
@@ -33,13 +112,9 @@ public class CardPaymentStrategy implements PaymentStrategy {
             request.phoneNumber(),
             "CARD_PAYMENT"
         );
+    }
 
-        final PaymentPendingResponseDto mockResponse = restTemplate.postForObject(
-            CARD_API_BASE_URL + "/payment",
-            providerRequest,
-            PaymentPendingResponseDto.class
-        );
-
+    private PaymentPendingResponseDto toPendingResponse(Long paymentId, PaymentPendingResponseDto mockResponse) {
         return new PaymentPendingResponseDto(
             paymentId.toString(),
             mockResponse.externalPaymentId(),
@@ -47,19 +122,4 @@ public class CardPaymentStrategy implements PaymentStrategy {
             "PENDING"
         );
     }
-    
-    @Override
-    public PaymentStatus checkPaymentStatus(String paymentId) {
-        return null;
-    }
-    
-    @Override
-    public PaymentResponseDto cancelPayment(String paymentId) {
-        return null;
-    }
-    
-    @Override
-    public String getPaymentType() {
-        return "CARD_PAYMENT";
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.room.reservation.system.api.service.payment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.room.reservation.system.api.config.PaymentClientProperties;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제사 비동기 HTTP 클라이언트
+ * 응답을 기다리는 동안 스레드를 점유하지 않으므로, 동시에 진행 중인 결제사 요청 수가 스레드 수에 묶이지 않는다.
+ * 결제사별 연결 풀과 제한 시간은 RestTemplate과 같은 설정(payment.client.providers.*)을 따르고,
+ * 실패는 RestTemplate과 같은 예외(HttpClientErrorException, HttpServerErrorException, ResourceAccessException)로 전달한다.
+ */
+@Slf4j
+@Component
+public class PaymentAsyncHttpClient {
+
+    private final PaymentClientProperties properties;
+    private final PaymentProviderGuard providerGuard;
+    private final ObjectMapper objectMapper;
+    private final Map<PaymentProviderType, CloseableHttpAsyncClient> clients = new EnumMap<>(PaymentProviderType.class);
+
+    public PaymentAsyncHttpClient(
+            PaymentClientProperties properties,
+            PaymentProviderGuard providerGuard,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.providerGuard = providerGuard;
+        this.objectMapper = objectMapper;
+
+        for (PaymentProviderType providerType : PaymentProviderType.values()) {
+            clients.put(providerType, createClient(providerType, meterRegistry));
+        }
+    }
+
+    public <T> CompletableFuture<T> post(PaymentProviderType providerType, String url, Object body, Class<T> responseType) {
+        return post(providerType, url, HttpHeaders.EMPTY, body, responseType);
+    }
+
+    /**
+     * 요청 헤더(멱등 키 등)를 함께 보내는 POST
+     */
+    public <T> CompletableFuture<T> post(
+            PaymentProviderType providerType, String url, HttpHeaders headers, Object body, Class<T> responseType) {
+        final SimpleHttpRequest request;
+        try {
+            final SimpleRequestBuilder builder = SimpleRequestBuilder.post(url)
+                    .setBody(objectMapper.writeValueAsBytes(body), ContentType.APPLICATION_JSON);
+            headers.forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+            request = builder.build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new RestClientException("결제사 요청 직렬화 실패", e));
+        }
+
+        final HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(requestConfigOf(providerType, providerGuard.timeoutOf(providerType)));
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        clients.get(providerType).execute(request, context, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                try {
+                    future.complete(readBody(response, responseType));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                future.completeExceptionally(e instanceof IOException io
+                        ? new ResourceAccessException("결제사 요청 실패: " + e.getMessage(), io)
+                        : new RestClientException("결제사 요청 실패: " + e.getMessage(), e));
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    @PreDestroy
+    public void close() {
+        clients.values().forEach(client -> client.close(CloseMode.GRACEFUL));
+    }
+
+    private <T> T readBody(SimpleHttpResponse response, Class<T> responseType) {
+        final int code = response.getCode();
+        final byte[] body = response.getBodyBytes() == null ? new byte[0] : response.getBodyBytes();
+
+        if (code >= 400) {
+            final HttpStatusCode statusCode = HttpStatusCode.valueOf(code);
+            throw statusCode.is4xxClientError()
+                    ? HttpClientErrorException.create(statusCode, response.getReasonPhrase(), HttpHeaders.EMPTY, body, StandardCharsets.UTF_8)
+                    : HttpServerErrorException.create(statusCode, response.getReasonPhrase(), HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+        }
+
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (IOException e) {
+            throw new RestClientException("결제사 응답 역직렬화 실패", e);
+        }
+    }
+
+    private RequestConfig requestConfigOf(PaymentProviderType providerType, Duration responseTimeout) {
+        final PaymentClientProperties.Pool pool = properties.poolOf(providerType);
+
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(pool.connectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(responseTimeout))
+                .build();
+    }
+
+    private CloseableHttpAsyncClient createClient(PaymentProviderType providerType, MeterRegistry meterRegistry) {
+        final PaymentClientProperties.Pool pool = properties.poolOf(providerType);
+
+        final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.maxConnections())
+                .setMaxConnPerRoute(pool.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(toTimeout(pool.connectTimeout()))
+                        .setSocketTimeout(toTimeout(pool.responseTimeout()))
+                        .build())
+                .build();
+
+        // 풀 사용량 메트릭 (httpcomponents.httpclient.pool.*)
+        new PoolingHttpClientConnectionManagerMetricsBinder(
+                connectionManager, "payment-async-" + providerType.name(), Tags.of("provider", providerType.name()))
+                .bindTo(meterRegistry);
+
+        final CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfigOf(providerType, pool.responseTimeout()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.idleTimeout().toMillis()))
+                .build();
+        client.start();
+
+        return client;
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -5,31 +5,67 @@ import com.room.reservation.system.api.dto.payment.response.PaymentResponseDto;
 import com.room.reservation.system.api.dto.payment.response.PaymentPendingResponseDto;
 import com.room.reservation.system.api.persistence.entity.PaymentStatus;
 import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface PaymentStrategy {
+
+    /**
+     * 결제 요청 멱등 키 헤더
+     * 결제사는 같은 키로 다시 들어온 결제 요청을 새로 승인하지 않고 처음 만든 결제를 그대로 돌려준다.
+     */
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * 내부 결제 ID를 멱등 키로 담은 결제 요청 헤더
+     * 타임아웃 뒤 같은 결제를 다시 보내도 결제사에서 한 번만 승인된다.
+     */
+    static HttpHeaders idempotencyHeaders(Long paymentId) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(IDEMPOTENCY_KEY_HEADER, paymentId.toString());
+        return headers;
+    }
     
     /**
-     * 결제 처리
+     * 결제 처리 (비동기, 내부 결제 ID를 멱등 키로 보냄)
+     * 결제사 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+     * 실패는 동기 호출과 같은 예외(HttpClientErrorException, ResourceAccessException 등)로 Future를 완료한다.
+     * @param endpoint 결제를 보낼 엔드포인트 (재시도는 처음 보낸 엔드포인트로 보내야 멱등 키가 유효하다)
      * @param paymentId 내부 결제 ID
      * @param reservation 예약 정보
      * @param request 결제 요청 정보
      * @return 결제 대기 상태
      */
-    PaymentPendingResponseDto pay(Long paymentId, Reservation reservation, PaymentRequestDto request);
+    CompletableFuture<PaymentPendingResponseDto> payAsync(ProviderEndpoint endpoint, Long paymentId, Reservation reservation, PaymentRequestDto request);
     
     /**
      * 결제 상태 조회
-     * @param paymentId 결제 ID
-     * @return 결제 상태
+     * @param endpoint 결제를 만든 엔드포인트
+     * @param externalPaymentId 외부 결제사 ID
+     * @return 결제 상태 (결제사에 없는 결제면 null)
+     */
+    PaymentStatus checkPaymentStatus(ProviderEndpoint endpoint, String externalPaymentId);
+
+    /**
+     * 결제 상태 일괄 조회
+     * @param endpoint 결제를 만든 엔드포인트
+     * @param externalPaymentIds 외부 결제사 ID 목록
+     * @return 외부 결제사 ID별 결제 상태 (결제사에 없는 결제는 제외)
      */
-    PaymentStatus checkPaymentStatus(String paymentId);
+    Map<String, PaymentStatus> checkPaymentStatuses(ProviderEndpoint endpoint, List<String> externalPaymentIds);
     
     /**
-     * 결제 취소
-     * @param paymentId 결제 ID
+     * 결제 취소 (환불)
+     * 결제사는 외부 결제 ID로 취소를 식별하므로 같은 결제를 다시 취소해도 한 번만 환불된다.
+     * @param endpoint 결제를 만든 엔드포인트
+     * @param externalPaymentId 외부 결제사 ID
      * @return 취소 결과
      */
-    PaymentResponseDto cancelPayment(String paymentId);
+    PaymentResponseDto cancelPayment(ProviderEndpoint endpoint, String externalPaymentId);
     
     /**
      * 해당 결제사 타입 반환
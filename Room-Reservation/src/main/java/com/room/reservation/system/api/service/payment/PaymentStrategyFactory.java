@@ -1,31 +1,38 @@
 package com.room.reservation.system.api.service.payment;
 
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 결제 전략 팩토리
  * F-Lab 방식: Factory Pattern을 사용한 전략 객체 생성
+ * 결제사 타입(enum)을 키로 하는 EnumMap에서 찾으므로 요청마다 문자열 해시/비교를 하지 않는다.
  */
 @Component
 public class PaymentStrategyFactory {
     
-    private final Map<String, PaymentStrategy> strategies;
+    private final Map<PaymentProviderType, PaymentStrategy> strategies = new EnumMap<>(PaymentProviderType.class);
 
     public PaymentStrategyFactory(List<PaymentStrategy> allStrategies) {
-        this.strategies = allStrategies.stream()
-            .collect(Collectors.toMap(
-                PaymentStrategy::getPaymentType,  // 키: 결제사 타입
-                Function.identity()                // 값: 전략 객체
-            ));
+        for (PaymentStrategy strategy : allStrategies) {
+            strategies.put(PaymentProviderType.valueOf(strategy.getPaymentType()), strategy);
+        }
+    }
+
+    public PaymentStrategy getPaymentStrategy(PaymentProviderType providerType) {
+        PaymentStrategy strategy = strategies.get(providerType);
+        validateExsitType(String.valueOf(providerType), strategy);
+
+        return strategy;
     }
     
     public PaymentStrategy getPaymentStrategy(String paymentType) {
-        PaymentStrategy strategy = strategies.get(paymentType);
+        PaymentStrategy strategy = strategies.get(toProviderType(paymentType));
         validateExsitType(paymentType, strategy);
 
         return strategy;
@@ -39,11 +46,20 @@ public class PaymentStrategyFactory {
         }
     }
 
+    private static PaymentProviderType toProviderType(String paymentType) {
+        return Arrays.stream(PaymentProviderType.values())
+            .filter(providerType -> providerType.name().equals(paymentType))
+            .findFirst()
+            .orElse(null);
+    }
+
     public List<String> getSupportedPaymentTypes() {
-        return strategies.keySet().stream().toList();
+        return strategies.keySet().stream()
+            .map(PaymentProviderType::name)
+            .toList();
     }
     
     public boolean isSupported(String paymentType) {
-        return strategies.containsKey(paymentType);
+        return strategies.containsKey(toProviderType(paymentType));
     }
-} 
\ No newline at end of file
+}
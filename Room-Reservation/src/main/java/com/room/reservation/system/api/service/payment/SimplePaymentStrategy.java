@@ -4,26 +4,105 @@ import com.room.reservation.system.api.dto.payment.request.PaymentRequestDto;
 import com.room.reservation.system.api.dto.payment.response.PaymentResponseDto;
 import com.room.reservation.system.api.dto.payment.response.PaymentPendingResponseDto;
 import com.room.reservation.system.api.dto.payment.request.PaymentProviderRequestDto;
+import com.room.reservation.system.api.dto.payment.request.PaymentStatusQueryDto;
+import com.room.reservation.system.api.dto.payment.response.ProviderPaymentStatusDto;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
 import com.room.reservation.system.api.persistence.entity.PaymentStatus;
 import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 public class SimplePaymentStrategy implements PaymentStrategy {
     
     private final RestTemplate restTemplate;
-    private static final String SIMPLE_API_BASE_URL = "http://mock-payment-server:8081";
+    private final PaymentAsyncHttpClient asyncClient;
+    private final PaymentProviderRegistry providerRegistry;
     
-    public SimplePaymentStrategy(RestTemplate restTemplate) {
+    public SimplePaymentStrategy(
+            @Qualifier("simplePaymentRestTemplate") RestTemplate restTemplate,
+            PaymentAsyncHttpClient asyncClient,
+            PaymentProviderRegistry providerRegistry
+    ) {
         this.restTemplate = restTemplate;
+        this.asyncClient = asyncClient;
+        this.providerRegistry = providerRegistry;
     }
-    
+
+    @Override
+    public CompletableFuture<PaymentPendingResponseDto> payAsync(ProviderEndpoint endpoint, Long paymentId, Reservation reservation, PaymentRequestDto request) {
+        final PaymentProviderRequestDto providerRequest = toProviderRequest(paymentId, reservation, request);
+
+        return providerRegistry.callAsync(endpoint, baseUrl ->
+            asyncClient.post(
+                PaymentProviderType.SIMPLE_PAYMENT,
+                baseUrl + "/payment",
+                PaymentStrategy.idempotencyHeaders(paymentId),
+                providerRequest,
+                PaymentPendingResponseDto.class
+            )
+        ).thenApply(mockResponse -> toPendingResponse(paymentId, mockResponse));
+    }
+
+    @Override
+    public PaymentStatus checkPaymentStatus(ProviderEndpoint endpoint, String externalPaymentId) {
+        return checkPaymentStatuses(endpoint, List.of(externalPaymentId)).get(externalPaymentId);
+    }
+
+    @Override
+    public Map<String, PaymentStatus> checkPaymentStatuses(ProviderEndpoint endpoint, List<String> externalPaymentIds) {
+        final ProviderPaymentStatusDto[] statuses = providerRegistry.call(endpoint, baseUrl ->
+            restTemplate.postForObject(
+                baseUrl + "/payment/status",
+                new PaymentStatusQueryDto(externalPaymentIds),
+                ProviderPaymentStatusDto[].class
+            )
+        );
+
+        return ProviderPaymentStatusDto.toStatusMap(statuses);
+    }
+
+    @Override
+    public PaymentResponseDto cancelPayment(ProviderEndpoint endpoint, String externalPaymentId) {
+        return providerRegistry.call(endpoint, baseUrl -> {
+            final ProviderPaymentStatusDto result = restTemplate.postForObject(
+                baseUrl + "/payment/{externalPaymentId}/cancel",
+                null,
+                ProviderPaymentStatusDto.class,
+                externalPaymentId
+            );
+
+            return new PaymentResponseDto(
+                externalPaymentId,                    // externalPaymentId
+                result.paymentStatus(),               // status (CANCELLED, 실패했던 결제는 FAILED)
+                null,                                 // amount
+                PaymentProviderType.SIMPLE_PAYMENT,   // providerType
+                null,                                 // providerName
+                baseUrl,                              // apiEndpoint
+                null,                                 // authInfo
+                LocalDateTime.now(),                  // processedAt
+                null                                  // failureReason
+            );
+        });
+    }
+
     @Override
-    public PaymentPendingResponseDto pay(Long paymentId, Reservation reservation, PaymentRequestDto request) {
-        final PaymentProviderRequestDto providerRequest = new PaymentProviderRequestDto(
+    public String getPaymentType() {
+        return "SIMPLE_PAYMENT";
+    }
+
+    private PaymentProviderRequestDto toProviderRequest(Long paymentId, Reservation reservation, PaymentRequestDto request) {
+        return new PaymentProviderRequestDto(
             paymentId.toString(),                      // 내부 결제 ID
             request.simplePayType(),        // 결제 방법
             request.amount(),               // 금액
@@ -33,13 +112,9 @@ public class SimplePaymentStrategy implements PaymentStrategy {
             request.phoneNumber(),          // 사용자 전화번호
             "SIMPLE_PAYMENT"                // 결제사 타입
         );
+    }
 
-        final PaymentPendingResponseDto mockResponse = restTemplate.postForObject(
-            SIMPLE_API_BASE_URL + "/payment",
-            providerRequest,
-            PaymentPendingResponseDto.class
-        );
-
+    private PaymentPendingResponseDto toPendingResponse(Long paymentId, PaymentPendingResponseDto mockResponse) {
         return new PaymentPendingResponseDto(
             paymentId.toString(),                // paymentId (내부 결제 ID)
             mockResponse.externalPaymentId(),    // externalPaymentId (Mock 서버에서 받은 ID)
@@ -47,19 +122,4 @@ public class SimplePaymentStrategy implements PaymentStrategy {
             "PENDING"                            // status
         );
     }
-
-    @Override
-    public PaymentStatus checkPaymentStatus(String paymentId) {
-        return null;
-    }
-
-    @Override
-    public PaymentResponseDto cancelPayment(String paymentId) {
-        return null;
-    }
-
-    @Override
-    public String getPaymentType() {
-        return "SIMPLE_PAYMENT";
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
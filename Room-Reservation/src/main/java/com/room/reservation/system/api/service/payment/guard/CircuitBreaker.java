@@ -0,0 +1,154 @@
+package com.room.reservation.system.api.service.payment.guard;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ * 최근 windowSize건의 실패율 또는 느린 호출 비율이 임계치를 넘으면 서킷을 열어 호출을 바로 거절하고,
+ * openDuration이 지나면 halfOpenCalls건의 시험 호출로 복구 여부를 판단한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,     // 정상: 모든 호출 허용
+        OPEN,       // 차단: 모든 호출 거절
+        HALF_OPEN   // 반열림: 시험 호출만 허용
+    }
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final byte[] outcomes;
+    private int index;
+    private int count;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            double slowCallRateThreshold,
+            Duration openDuration,
+            int halfOpenCalls,
+            LongSupplier nanoClock
+    ) {
+        this.outcomes = new byte[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부 (반열림 상태에서는 시험 호출 한도를 차감)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(boolean slow) {
+        if (state == State.HALF_OPEN) {
+            if (slow) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                reset(State.CLOSED);
+            }
+            return;
+        }
+
+        record(slow ? SLOW : 0);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+
+        record(FAILURE);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * 서킷이 열려 있다면 시험 호출이 허용되기까지 남은 시간
+     */
+    public synchronized Duration retryAfter() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (nanoClock.getAsLong() - openedAt)));
+    }
+
+    private void record(byte outcome) {
+        // 서킷이 열리기 전에 시작된 호출의 결과는 무시한다.
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (count == outcomes.length) {
+            final byte evicted = outcomes[index];
+            failures -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            count++;
+        }
+
+        outcomes[index] = outcome;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+        index = (index + 1) % outcomes.length;
+
+        if (count >= minimumCalls
+                && ((double) failures / count >= failureRateThreshold
+                || (double) slowCalls / count >= slowCallRateThreshold)) {
+            open();
+        }
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void reset(State next) {
+        state = next;
+        index = 0;
+        count = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.room.reservation.system.api.service.payment.guard;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 표본으로 p99를 계산
+ * 매 호출마다 정렬하지 않도록 일정 건수마다 다시 계산한 값을 보관한다.
+ */
+public class LatencyWindow {
+
+    private static final int RECALCULATE_EVERY = 32;
+
+    private final long[] samples;
+    private int index;
+    private int count;
+    private int sinceRecalculation;
+    private volatile long p99Nanos = -1;
+
+    public LatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+
+        if (++sinceRecalculation >= RECALCULATE_EVERY) {
+            sinceRecalculation = 0;
+            final long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            p99Nanos = sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+        }
+    }
+
+    /**
+     * 최근 p99 응답 시간 (표본이 모자라면 -1)
+     */
+    public long p99Nanos() {
+        return p99Nanos;
+    }
+}
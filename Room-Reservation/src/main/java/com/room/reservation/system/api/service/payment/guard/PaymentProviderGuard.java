@@ -0,0 +1,242 @@
+package com.room.reservation.system.api.service.payment.guard;
+
+import com.room.reservation.system.api.config.PaymentClientProperties;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 결제사 호출 보호
+ * 결제사마다 서킷 브레이커, 벌크헤드(동시 호출 한도), 적응형 제한 시간을 두어
+ * 장애가 난 결제사 하나가 발송 스레드를 모두 붙잡지 않도록 한다.
+ */
+@Component
+public class PaymentProviderGuard {
+
+    private static final Duration MIN_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Map<PaymentProviderType, ProviderGuard> guards = new EnumMap<>(PaymentProviderType.class);
+
+    public PaymentProviderGuard(PaymentClientProperties properties, MeterRegistry meterRegistry) {
+        for (PaymentProviderType providerType : PaymentProviderType.values()) {
+            guards.put(providerType, new ProviderGuard(
+                    providerType, properties.poolOf(providerType), properties.guard(), meterRegistry));
+        }
+    }
+
+    /**
+     * 결제사 호출
+     * @throws PaymentProviderUnavailableException 서킷이 열려 있거나 동시 호출 한도를 넘은 경우 (호출하지 않음)
+     */
+    public <T> T execute(PaymentProviderType providerType, Supplier<T> call) {
+        return guards.get(providerType).execute(call);
+    }
+
+    /**
+     * 결제사 비동기 호출
+     * 동시 호출 한도와 서킷 결과 기록은 호출이 끝나는 시점(Future 완료)에 반영된다.
+     * 서킷이 열려 있거나 동시 호출 한도를 넘은 경우 PaymentProviderUnavailableException으로 실패한 Future를 반환한다.
+     */
+    public <T> CompletableFuture<T> executeAsync(PaymentProviderType providerType, Supplier<CompletableFuture<T>> call) {
+        return guards.get(providerType).executeAsync(call);
+    }
+
+    /**
+     * 이번 호출에 적용할 응답 제한 시간
+     * 최근 응답 시간 p99의 배수를 [max(minTimeout, slowCallDuration), responseTimeout] 범위로 제한한다.
+     * 제한 시간에 걸린 호출도 걸린 시간으로 p99에 반영하므로, 결제사가 느려지면 제한 시간도 따라 늘어난다.
+     */
+    public Duration timeoutOf(PaymentProviderType providerType) {
+        return guards.get(providerType).timeout();
+    }
+
+    public CircuitBreaker.State stateOf(PaymentProviderType providerType) {
+        return guards.get(providerType).circuitBreaker.state();
+    }
+
+    private static class ProviderGuard {
+
+        private final PaymentProviderType providerType;
+        private final CircuitBreaker circuitBreaker;
+        private final Semaphore bulkhead;
+        private final LatencyWindow latencies;
+        private final long slowCallNanos;
+        private final double timeoutMultiplier;
+        private final long minTimeoutNanos;
+        private final long maxTimeoutNanos;
+
+        private final Counter successCounter;
+        private final Counter failureCounter;
+        private final Counter circuitRejectedCounter;
+        private final Counter bulkheadRejectedCounter;
+
+        ProviderGuard(
+                PaymentProviderType providerType,
+                PaymentClientProperties.Pool pool,
+                PaymentClientProperties.Guard guard,
+                MeterRegistry meterRegistry
+        ) {
+            this.providerType = providerType;
+            this.circuitBreaker = new CircuitBreaker(
+                    guard.windowSize(),
+                    guard.minimumCalls(),
+                    guard.failureRateThreshold(),
+                    guard.slowCallRateThreshold(),
+                    guard.openDuration(),
+                    guard.halfOpenCalls(),
+                    System::nanoTime
+            );
+            this.bulkhead = new Semaphore(pool.maxConcurrentCalls());
+            this.latencies = new LatencyWindow(Math.max(guard.windowSize(), 100));
+            this.slowCallNanos = guard.slowCallDuration().toNanos();
+            this.timeoutMultiplier = guard.timeoutMultiplier();
+            this.maxTimeoutNanos = pool.responseTimeout().toNanos();
+            // 느린 호출로 판단하기 전에 끊지 않도록 느린 호출 기준 시간보다 짧게 줄이지 않는다.
+            this.minTimeoutNanos = Math.min(maxTimeoutNanos,
+                    Math.max(guard.minTimeout().toNanos(), slowCallNanos));
+
+            final Tags tags = Tags.of("provider", providerType.name());
+            this.successCounter = callCounter(meterRegistry, tags, "success");
+            this.failureCounter = callCounter(meterRegistry, tags, "failure");
+            this.circuitRejectedCounter = callCounter(meterRegistry, tags, "rejected_circuit");
+            this.bulkheadRejectedCounter = callCounter(meterRegistry, tags, "rejected_bulkhead");
+
+            Gauge.builder("payment.provider.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                    .description("결제사 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("payment.provider.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                    .description("결제사 동시 호출 한도 중 남은 수")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("payment.provider.timeout", this, self -> self.timeout().toMillis())
+                    .description("결제사 적응형 응답 제한 시간 (ms)")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        <T> T execute(Supplier<T> call) {
+            acquire();
+
+            final long startedAt = System.nanoTime();
+            try {
+                final T result = call.get();
+                onComplete(null, System.nanoTime() - startedAt);
+                return result;
+            } catch (RuntimeException e) {
+                onComplete(e, System.nanoTime() - startedAt);
+                throw e;
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+            try {
+                acquire();
+            } catch (PaymentProviderUnavailableException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+
+            final long startedAt = System.nanoTime();
+            final CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                onComplete(e, System.nanoTime() - startedAt);
+                bulkhead.release();
+                return CompletableFuture.failedFuture(e);
+            }
+
+            return future.whenComplete((result, error) -> {
+                onComplete(unwrap(error), System.nanoTime() - startedAt);
+                bulkhead.release();
+            });
+        }
+
+        /**
+         * 동시 호출 한도와 서킷 허용을 차례로 얻는다. (실패하면 얻은 한도는 반환)
+         */
+        private void acquire() {
+            if (!bulkhead.tryAcquire()) {
+                bulkheadRejectedCounter.increment();
+                throw new PaymentProviderUnavailableException(providerType, "동시 호출 한도 초과", MIN_RETRY_AFTER);
+            }
+
+            if (!circuitBreaker.tryAcquire()) {
+                bulkhead.release();
+                circuitRejectedCounter.increment();
+                throw new PaymentProviderUnavailableException(providerType, "서킷 열림",
+                        max(circuitBreaker.retryAfter(), MIN_RETRY_AFTER));
+            }
+        }
+
+        /**
+         * 호출 결과 기록 (4xx는 요청 자체의 문제이므로 결제사는 정상으로 본다)
+         * 응답 제한 시간에 걸린 호출은 실패로 기록하되, 제한 시간이 늘어날 수 있도록 걸린 시간은 응답 시간에 남긴다.
+         */
+        private void onComplete(Throwable error, long elapsedNanos) {
+            if (error == null || error instanceof HttpClientErrorException) {
+                latencies.record(elapsedNanos);
+                circuitBreaker.onSuccess(elapsedNanos >= slowCallNanos);
+                successCounter.increment();
+                return;
+            }
+
+            if (isTimeout(error)) {
+                latencies.record(elapsedNanos);
+            }
+            circuitBreaker.onFailure();
+            failureCounter.increment();
+        }
+
+        Duration timeout() {
+            final long p99 = latencies.p99Nanos();
+            if (p99 < 0) {
+                return Duration.ofNanos(maxTimeoutNanos);
+            }
+
+            final long adaptive = (long) (p99 * timeoutMultiplier);
+            return Duration.ofNanos(Math.min(maxTimeoutNanos, Math.max(minTimeoutNanos, adaptive)));
+        }
+
+        private static boolean isTimeout(Throwable error) {
+            for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+                if (cause instanceof SocketTimeoutException || cause instanceof TimeoutException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Throwable unwrap(Throwable error) {
+            return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        }
+
+        private static Duration max(Duration a, Duration b) {
+            return a.compareTo(b) >= 0 ? a : b;
+        }
+
+        private static Counter callCounter(MeterRegistry meterRegistry, Tags tags, String result) {
+            return Counter.builder("payment.provider.calls")
+                    .description("결제사 호출 결과")
+                    .tags(tags)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.room.reservation.system.api.service.payment.guard;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 서킷이 열려 있거나 동시 호출 한도를 넘어 결제사를 호출하지 않은 경우
+ * 결제사에 요청이 나가지 않았으므로 retryAfter 이후 그대로 다시 보내면 된다.
+ */
+@Getter
+public class PaymentProviderUnavailableException extends RuntimeException {
+
+    private final PaymentProviderType providerType;
+    private final Duration retryAfter;
+
+    public PaymentProviderUnavailableException(PaymentProviderType providerType, String reason, Duration retryAfter) {
+        super(String.format("%s 결제사 호출 불가: %s", providerType, reason));
+        this.providerType = providerType;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,68 @@
+package com.room.reservation.system.api.service.payment.registry;
+
+/**
+ * 엔드포인트 응답 시간/오류율 (지수 가중 이동 평균)
+ * 실패한 호출은 최소 failureLatency만큼 걸린 것으로 기록하여,
+ * 연결 거부처럼 빨리 실패하는 엔드포인트가 빠른 엔드포인트로 보이지 않도록 한다.
+ */
+class EndpointHealth {
+
+    // 오류율이 응답 시간 점수에 주는 가중치 (오류율 50%면 점수 3배)
+    private static final double ERROR_WEIGHT = 4.0;
+
+    private final double decay;
+    private final long failureLatencyNanos;
+
+    private double latencyNanos = -1;
+    private double errorRate;
+    private long lastUsedNanos;
+
+    EndpointHealth(double decay, long failureLatencyNanos, long now) {
+        this.decay = decay;
+        this.failureLatencyNanos = failureLatencyNanos;
+        this.lastUsedNanos = now;
+    }
+
+    synchronized void record(long elapsedNanos, boolean success, long now) {
+        final long latency = success ? elapsedNanos : Math.max(elapsedNanos, failureLatencyNanos);
+        final double error = success ? 0.0 : 1.0;
+
+        if (latencyNanos < 0) {
+            latencyNanos = latency;
+            errorRate = error;
+        } else {
+            latencyNanos += decay * (latency - latencyNanos);
+            errorRate += decay * (error - errorRate);
+        }
+        lastUsedNanos = now;
+    }
+
+    /**
+     * 라우팅 점수 (낮을수록 건강함, 아직 호출 기록이 없으면 0)
+     */
+    synchronized double score() {
+        if (latencyNanos < 0) {
+            return 0;
+        }
+        return latencyNanos * (1 + ERROR_WEIGHT * errorRate);
+    }
+
+    /**
+     * probeInterval 동안 선택되지 않았으면 이번 호출을 시험 호출로 예약한다. (동시에 한 호출만 예약됨)
+     */
+    synchronized boolean tryProbe(long now, long probeIntervalNanos) {
+        if (now - lastUsedNanos < probeIntervalNanos) {
+            return false;
+        }
+        lastUsedNanos = now;
+        return true;
+    }
+
+    synchronized double latencyMillis() {
+        return latencyNanos < 0 ? 0 : latencyNanos / 1_000_000.0;
+    }
+
+    synchronized double errorRate() {
+        return errorRate;
+    }
+}
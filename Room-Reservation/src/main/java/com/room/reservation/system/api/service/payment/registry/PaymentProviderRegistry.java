@@ -0,0 +1,219 @@
+package com.room.reservation.system.api.service.payment.registry;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.repository.PaymentProviderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제사 엔드포인트 레지스트리
+ * 라우팅 대상 결제사(tbl_payment_provider.routing_enabled)를 타입별 불변 스냅샷으로 보관하고 주기적으로 통째로 교체하므로,
+ * 재시작 없이 엔드포인트를 추가/제거할 수 있다.
+ * 엔드포인트마다 최근 응답 시간과 오류율을 기록하고, 새 결제 요청은 같은 타입의 엔드포인트 중 가장 건강한 곳으로 보낸다.
+ * 이미 만들어진 결제의 재시도, 상태 조회, 취소는 결제를 만든 엔드포인트(endpointOf)로 보낸다.
+ * 한동안 선택되지 않은 엔드포인트는 가끔 시험 호출하여 회복되었는지 확인한다.
+ */
+@Slf4j
+@Component
+public class PaymentProviderRegistry {
+
+    private final PaymentProviderRepository paymentProviderRepository;
+    private final String fallbackEndpoint;
+    private final double decay;
+    private final long failureLatencyNanos;
+    private final long probeIntervalNanos;
+
+    // 엔드포인트 설정이 바뀌지 않는 한 스냅샷을 교체해도 응답 시간 기록은 유지된다.
+    private final Map<ProviderEndpoint, EndpointHealth> healths = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public PaymentProviderRegistry(
+            PaymentProviderRepository paymentProviderRepository,
+            @Value("${payment.registry.fallback-endpoint:http://mock-payment-server:8081}") String fallbackEndpoint,
+            @Value("${payment.registry.decay:0.2}") double decay,
+            @Value("${payment.registry.failure-latency:PT3S}") Duration failureLatency,
+            @Value("${payment.registry.probe-interval:PT30S}") Duration probeInterval
+    ) {
+        this.paymentProviderRepository = paymentProviderRepository;
+        this.fallbackEndpoint = fallbackEndpoint;
+        this.decay = decay;
+        this.failureLatencyNanos = failureLatency.toNanos();
+        this.probeIntervalNanos = probeInterval.toNanos();
+        this.snapshot = Snapshot.of(List.of(), fallbackEndpoint);
+    }
+
+    /**
+     * 라우팅 대상 엔드포인트 다시 적재 (실패하면 이전 스냅샷 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${payment.registry.reload-interval:30000}")
+    public void reload() {
+        final List<ProviderEndpoint> endpoints;
+        try {
+            endpoints = paymentProviderRepository.findByRoutingEnabledTrue().stream()
+                    .map(ProviderEndpoint::from)
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("결제사 엔드포인트 적재 실패, 이전 설정 유지 - 오류: {}", e.getMessage());
+            return;
+        }
+
+        final Snapshot next = Snapshot.of(endpoints, fallbackEndpoint);
+        if (next.equals(snapshot)) {
+            return;
+        }
+
+        snapshot = next;
+        healths.keySet().retainAll(next.all());
+
+        log.info("결제사 엔드포인트 적재 완료 - {}", next.endpoints().entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue().size())
+                .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * 가장 건강한 엔드포인트 선택
+     */
+    public ProviderEndpoint select(PaymentProviderType type) {
+        final List<ProviderEndpoint> endpoints = snapshot.endpointsOf(type);
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+
+        final long now = System.nanoTime();
+        ProviderEndpoint best = endpoints.get(0);
+        double bestScore = Double.MAX_VALUE;
+        for (ProviderEndpoint endpoint : endpoints) {
+            final double score = healthOf(endpoint, now).score();
+            if (score < bestScore) {
+                best = endpoint;
+                bestScore = score;
+            }
+        }
+
+        for (ProviderEndpoint endpoint : endpoints) {
+            if (endpoint != best && healthOf(endpoint, now).tryProbe(now, probeIntervalNanos)) {
+                return endpoint;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 결제를 만든 엔드포인트 조회 (상태 조회, 취소, 결제 재시도는 건강도와 관계없이 이 엔드포인트로 보낸다)
+     * 라우팅에서 빠진 엔드포인트도 결제사 테이블에 남아 있으면 찾아 준다.
+     * @param providerId 결제를 만든 결제사 ID (설정의 기본 엔드포인트로 만든 결제면 null)
+     * @throws IllegalStateException 결제사가 삭제되어 엔드포인트를 알 수 없는 경우
+     */
+    public ProviderEndpoint endpointOf(PaymentProviderType type, Long providerId) {
+        if (providerId == null) {
+            return ProviderEndpoint.fallback(type, fallbackEndpoint);
+        }
+
+        for (ProviderEndpoint endpoint : snapshot.endpointsOf(type)) {
+            if (providerId.equals(endpoint.providerId())) {
+                return endpoint;
+            }
+        }
+        return paymentProviderRepository.findById(providerId)
+                .map(ProviderEndpoint::from)
+                .orElseThrow(() -> new IllegalStateException("결제사 엔드포인트를 찾을 수 없음 - 결제사ID: " + providerId));
+    }
+
+    /**
+     * 엔드포인트 호출 결과 기록 (4xx는 요청 자체의 문제이므로 엔드포인트는 정상으로 본다)
+     */
+    public void record(ProviderEndpoint endpoint, long elapsedNanos, Throwable error) {
+        final long now = System.nanoTime();
+        healthOf(endpoint, now).record(elapsedNanos, error == null || error instanceof HttpClientErrorException, now);
+    }
+
+    /**
+     * 지정한 엔드포인트로 호출하고 응답 시간/결과를 기록한다.
+     * @param call 엔드포인트 기본 주소를 받아 결제사를 호출
+     */
+    public <T> T call(ProviderEndpoint endpoint, Function<String, T> call) {
+        final long startedAt = System.nanoTime();
+        try {
+            final T result = call.apply(endpoint.baseUrl());
+            record(endpoint, System.nanoTime() - startedAt, null);
+            return result;
+        } catch (RuntimeException e) {
+            record(endpoint, System.nanoTime() - startedAt, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 지정한 엔드포인트로 비동기 호출하고, Future가 완료될 때 응답 시간/결과를 기록한다.
+     */
+    public <T> CompletableFuture<T> callAsync(ProviderEndpoint endpoint, Function<String, CompletableFuture<T>> call) {
+        final long startedAt = System.nanoTime();
+        final CompletableFuture<T> future;
+        try {
+            future = call.apply(endpoint.baseUrl());
+        } catch (RuntimeException e) {
+            record(endpoint, System.nanoTime() - startedAt, e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((result, error) ->
+                record(endpoint, System.nanoTime() - startedAt, unwrap(error)));
+    }
+
+    public List<ProviderEndpoint> endpointsOf(PaymentProviderType type) {
+        return snapshot.endpointsOf(type);
+    }
+
+    private EndpointHealth healthOf(ProviderEndpoint endpoint, long now) {
+        return healths.computeIfAbsent(endpoint, key -> new EndpointHealth(decay, failureLatencyNanos, now));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private record Snapshot(Map<PaymentProviderType, List<ProviderEndpoint>> endpoints) {
+
+        /**
+         * 타입별 엔드포인트 묶음 (등록된 엔드포인트가 없는 타입은 기본 엔드포인트 하나로 채운다)
+         */
+        static Snapshot of(List<ProviderEndpoint> endpoints, String fallbackEndpoint) {
+            final Map<PaymentProviderType, List<ProviderEndpoint>> byType = new EnumMap<>(PaymentProviderType.class);
+            for (PaymentProviderType type : PaymentProviderType.values()) {
+                final List<ProviderEndpoint> ofType = endpoints.stream()
+                        .filter(endpoint -> endpoint.type() == type)
+                        .toList();
+                byType.put(type, ofType.isEmpty() ? List.of(ProviderEndpoint.fallback(type, fallbackEndpoint)) : ofType);
+            }
+            return new Snapshot(Collections.unmodifiableMap(byType));
+        }
+
+        List<ProviderEndpoint> endpointsOf(PaymentProviderType type) {
+            return endpoints.get(type);
+        }
+
+        List<ProviderEndpoint> all() {
+            return endpoints.values().stream()
+                    .flatMap(List::stream)
+                    .toList();
+        }
+    }
+}
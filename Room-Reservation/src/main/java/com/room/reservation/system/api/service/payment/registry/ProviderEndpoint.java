@@ -0,0 +1,27 @@
+package com.room.reservation.system.api.service.payment.registry;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProvider;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+
+/**
+ * 결제 요청을 보낼 결제사 엔드포인트 (불변)
+ * @param providerId 결제사 ID (설정의 기본 엔드포인트면 null)
+ * @param name 결제사 이름
+ * @param type 결제사 타입
+ * @param baseUrl 결제사 API 기본 주소
+ */
+public record ProviderEndpoint(
+        Long providerId,
+        String name,
+        PaymentProviderType type,
+        String baseUrl
+) {
+
+    public static ProviderEndpoint from(PaymentProvider provider) {
+        return new ProviderEndpoint(provider.getId(), provider.getName(), provider.getType(), provider.getApiEndpoint());
+    }
+
+    public static ProviderEndpoint fallback(PaymentProviderType type, String baseUrl) {
+        return new ProviderEndpoint(null, "default", type, baseUrl);
+    }
+}
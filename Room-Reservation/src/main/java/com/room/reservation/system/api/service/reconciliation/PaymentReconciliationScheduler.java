@@ -0,0 +1,153 @@
+package com.room.reservation.system.api.service.reconciliation;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import com.room.reservation.system.api.service.payment.PaymentStrategy;
+import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 상태 대사 스케줄러
+ * 웹훅이 유실되어도 결제가 PENDING으로 남지 않도록, 오래 대기 중인 결제를 페이지 단위로 읽어
+ * 결제를 만든 엔드포인트별로 batch-size건씩 묶어 상태를 조회하고(동시 조회 수는 concurrency로 제한) 결과를 상태별로 일괄 반영한다.
+ */
+@Slf4j
+@Component
+public class PaymentReconciliationScheduler {
+
+    private final PaymentReconciliationService reconciliationService;
+    private final PaymentStrategyFactory strategyFactory;
+    private final PaymentProviderGuard providerGuard;
+    private final PaymentProviderRegistry providerRegistry;
+    private final int pageSize;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    public PaymentReconciliationScheduler(
+            PaymentReconciliationService reconciliationService,
+            PaymentStrategyFactory strategyFactory,
+            PaymentProviderGuard providerGuard,
+            PaymentProviderRegistry providerRegistry,
+            @Value("${payment.reconciliation.page-size:500}") int pageSize,
+            @Value("${payment.reconciliation.batch-size:50}") int batchSize,
+            @Value("${payment.reconciliation.concurrency:4}") int concurrency
+    ) {
+        this.reconciliationService = reconciliationService;
+        this.strategyFactory = strategyFactory;
+        this.providerGuard = providerGuard;
+        this.providerRegistry = providerRegistry;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+
+        final AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "payment-reconcile-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconciliation.interval:60000}",
+            initialDelayString = "${payment.reconciliation.interval:60000}")
+    public void reconcile() {
+        List<StalePayment> page = reconciliationService.findStale(0L, pageSize);
+        while (!page.isEmpty()) {
+            reconcile(page);
+            if (page.size() < pageSize) {
+                return;
+            }
+            page = reconciliationService.findStale(page.get(page.size() - 1).paymentId(), pageSize);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void reconcile(List<StalePayment> page) {
+        // 결제는 만든 엔드포인트에만 있으므로 엔드포인트별로 묶어 조회한다.
+        final Map<Route, List<StalePayment>> byEndpoint = page.stream()
+                .collect(Collectors.groupingBy(
+                        payment -> new Route(payment.providerType(), payment.endpointProviderId()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        final List<CompletableFuture<Map<Long, PaymentStatus>>> queries = new ArrayList<>();
+        byEndpoint.forEach((route, payments) -> {
+            for (int from = 0; from < payments.size(); from += batchSize) {
+                final List<StalePayment> batch = payments.subList(from, Math.min(from + batchSize, payments.size()));
+                queries.add(CompletableFuture.supplyAsync(() -> queryStatuses(route, batch), executor));
+            }
+        });
+
+        // 결제사에서 결과가 확정된 결제만 상태별로 모은다.
+        final Map<PaymentStatus, List<Long>> resolved = new EnumMap<>(PaymentStatus.class);
+        queries.forEach(query -> query.join().forEach((paymentId, status) ->
+                resolved.computeIfAbsent(status, key -> new ArrayList<>()).add(paymentId)));
+
+        resolved.forEach((status, paymentIds) -> {
+            try {
+                reconciliationService.apply(status, paymentIds);
+            } catch (Exception e) {
+                // 반영하지 못한 결제는 다음 대사에서 다시 조회된다.
+                log.error("결제 상태 대사 반영 실패 - 상태: {}, 건수: {}, 오류: {}",
+                        status, paymentIds.size(), e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 결제사 상태 일괄 조회 (조회에 실패한 묶음은 다음 대사로 넘긴다)
+     * @return 결제 ID별 확정 상태 (아직 대기 중이거나 결제사에 없는 결제는 제외)
+     */
+    private Map<Long, PaymentStatus> queryStatuses(Route route, List<StalePayment> payments) {
+        final PaymentProviderType providerType = route.providerType();
+        try {
+            final PaymentStrategy strategy = strategyFactory.getPaymentStrategy(providerType);
+            final ProviderEndpoint endpoint = providerRegistry.endpointOf(providerType, route.endpointProviderId());
+            final List<String> externalPaymentIds = payments.stream()
+                    .map(StalePayment::externalPaymentId)
+                    .toList();
+            final Map<String, PaymentStatus> statuses = providerGuard.execute(providerType,
+                    () -> strategy.checkPaymentStatuses(endpoint, externalPaymentIds));
+
+            final Map<Long, PaymentStatus> result = new HashMap<>();
+            for (StalePayment payment : payments) {
+                final PaymentStatus status = statuses.get(payment.externalPaymentId());
+                if (status != null && status != PaymentStatus.PENDING) {
+                    result.put(payment.paymentId(), status);
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("결제사 결제 상태 조회 실패 - 결제사: {}, 건수: {}, 오류: {}",
+                    providerType, payments.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 상태를 조회할 엔드포인트 (결제사 타입 + 결제를 만든 결제사 ID)
+     */
+    private record Route(PaymentProviderType providerType, Long endpointProviderId) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.room.reservation.system.api.service.reconciliation;
+
+import com.room.reservation.system.api.dto.payment.PaymentStatusResponseDto;
+import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.ReservationStatus;
+import com.room.reservation.system.api.persistence.repository.PaymentRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.service.PaymentService;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.notification.PaymentStatusNotifier;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
+import com.room.reservation.system.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 결제 상태 대사
+ * 웹훅을 받지 못해 오래 대기 중인 결제를 찾고, 결제사에서 확인한 상태를 상태별 한 번의 UPDATE로 반영한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private final PaymentRepository paymentRepository;
+    private final ReservationRepository reservationRepository;
+    private final RoomOccupancyIndex occupancyIndex;
+    private final MeetingRoomAvailabilityCache availabilityCache;
+    private final PaymentStatusNotifier statusNotifier;
+    private final PaymentRefundService refundService;
+
+    @Value("${payment.reconciliation.stale-after:PT2M}")
+    private Duration staleAfter;
+
+    /**
+     * 마지막 변경 후 stale-after가 지난 결제 대기 건을 결제 ID 순으로 최대 limit건 조회
+     * @param afterId 이전 페이지의 마지막 결제 ID (첫 페이지는 0)
+     */
+    @Transactional(readOnly = true)
+    public List<StalePayment> findStale(long afterId, int limit) {
+        final LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+
+        return paymentRepository.findStalePending(afterId, staleBefore, PageRequest.of(0, limit)).stream()
+                .map(payment -> new StalePayment(
+                        payment.getId(), payment.getExternalPaymentId(), payment.getProviderType(),
+                        payment.getEndpointProviderId()))
+                .toList();
+    }
+
+    /**
+     * 결제사에서 확인한 상태 일괄 반영
+     * 그 사이 웹훅으로 상태가 바뀐 결제는 잠금 조회에서 걸러지고,
+     * 결제 성공이면 만료되지 않은 예약을 함께 확정하고, 이미 만료된 예약의 결제는 환불한다.
+     * @return 반영한 결제 수
+     */
+    public int apply(PaymentStatus status, Collection<Long> paymentIds) {
+        if (paymentIds.isEmpty() || status == PaymentStatus.PENDING) {
+            return 0;
+        }
+
+        final List<Payment> pending = paymentRepository.findPendingForUpdate(paymentIds);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        final LocalDateTime now = LocalDateTime.now();
+        paymentRepository.updateStatusAll(pending.stream().map(Payment::getId).toList(), status, now);
+
+        if (status == PaymentStatus.SUCCESS) {
+            confirmReservations(pending);
+        }
+        notifyStatus(pending, status);
+
+        log.info("결제 상태 대사 반영 - 상태: {}, 건수: {}", status, pending.size());
+        return pending.size();
+    }
+
+    /**
+     * 커밋 이후 결제 상태를 기다리는 클라이언트에 전달 (일괄 UPDATE라 엔티티 상태 대신 반영한 상태를 쓴다)
+     */
+    private void notifyStatus(List<Payment> payments, PaymentStatus status) {
+        final List<PaymentStatusResponseDto> responses = payments.stream()
+                .map(payment -> payment.toResponseDto(
+                        status, PaymentService.generateStatusMessage(status, payment.getPaymentProvider())))
+                .toList();
+
+        TransactionCallbacks.afterCommit(() -> responses.forEach(response ->
+                statusNotifier.publish(response.paymentId(), response)));
+    }
+
+    /**
+     * 결제가 성공한 예약 확정
+     * 예약 행은 잠금 조회로 함께 잠겨 있어 결제 기한 만료와 엇갈리지 않으며,
+     * 이미 만료되어 슬롯이 반환된 예약은 확정하지 않고 결제를 환불한다.
+     */
+    private void confirmReservations(List<Payment> payments) {
+        final List<Payment> expired = payments.stream()
+                .filter(payment -> payment.getReservation().getStatus() == ReservationStatus.EXPIRED)
+                .toList();
+        if (!expired.isEmpty()) {
+            expired.forEach(payment -> log.warn("만료된 예약의 결제 성공 대사, 환불 요청 - 예약ID: {}, 결제ID: {}",
+                    payment.getReservation().getId(), payment.getId()));
+            refundService.enqueue(expired);
+        }
+
+        final List<Reservation> confirmed = payments.stream()
+                .map(Payment::getReservation)
+                .filter(reservation -> reservation.getStatus() != ReservationStatus.EXPIRED)
+                .toList();
+        if (confirmed.isEmpty()) {
+            return;
+        }
+
+        reservationRepository.confirmAll(confirmed.stream().map(Reservation::getId).toList());
+
+        // 커밋 이후 점유 인덱스에 반영하고 예약 가능 시간 캐시 무효화
+        TransactionCallbacks.afterCommit(() -> confirmed.forEach(reservation -> {
+            occupancyIndex.occupy(reservation);
+            availabilityCache.invalidate(
+                    reservation.getMeetingRoom().getId(), reservation.getStartTime().toLocalDate());
+        }));
+    }
+}
@@ -0,0 +1,15 @@
+package com.room.reservation.system.api.service.reconciliation;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+
+/**
+ * 결제사에 상태를 확인할 결제 대기 건
+ * @param endpointProviderId 결제를 만든 엔드포인트의 결제사 ID (설정의 기본 엔드포인트면 null)
+ */
+public record StalePayment(
+        Long paymentId,
+        String externalPaymentId,
+        PaymentProviderType providerType,
+        Long endpointProviderId
+) {
+}
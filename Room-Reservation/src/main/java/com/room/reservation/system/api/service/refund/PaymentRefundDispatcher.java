@@ -0,0 +1,117 @@
+package com.room.reservation.system.api.service.refund;
+
+import com.room.reservation.system.api.dto.payment.response.PaymentResponseDto;
+import com.room.reservation.system.api.service.payment.PaymentStrategy;
+import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderUnavailableException;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제사 환불(결제 취소) 요청 발송기
+ * 보낼 시각이 된 환불 요청을 배치 단위로 선점하고, 정해진 동시성 안에서 결제를 만든 엔드포인트에 취소를 요청한다.
+ */
+@Slf4j
+@Component
+public class PaymentRefundDispatcher {
+
+    private final PaymentRefundService refundService;
+    private final PaymentStrategyFactory strategyFactory;
+    private final PaymentProviderGuard providerGuard;
+    private final PaymentProviderRegistry providerRegistry;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    public PaymentRefundDispatcher(
+            PaymentRefundService refundService,
+            PaymentStrategyFactory strategyFactory,
+            PaymentProviderGuard providerGuard,
+            PaymentProviderRegistry providerRegistry,
+            @Value("${payment.refund.batch-size:50}") int batchSize,
+            @Value("${payment.refund.concurrency:4}") int concurrency
+    ) {
+        this.refundService = refundService;
+        this.strategyFactory = strategyFactory;
+        this.providerGuard = providerGuard;
+        this.providerRegistry = providerRegistry;
+        this.batchSize = batchSize;
+
+        final AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "payment-refund-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${payment.refund.poll-interval:1000}")
+    public void dispatch() {
+        List<RefundDispatch> batch = refundService.claimDue(batchSize);
+        while (!batch.isEmpty()) {
+            CompletableFuture.allOf(batch.stream()
+                    .map(dispatch -> CompletableFuture.runAsync(() -> send(dispatch), executor))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+            batch = refundService.claimDue(batchSize);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    void send(RefundDispatch dispatch) {
+        try {
+            final PaymentStrategy strategy = strategyFactory.getPaymentStrategy(dispatch.providerType());
+            final PaymentResponseDto result = requestCancel(strategy, dispatch);
+            if (result != null) {
+                refundService.complete(dispatch, result.status());
+            }
+        } catch (Exception e) {
+            // 취소 결과를 기록하지 못한 환불은 선점 제한 시간이 지난 뒤 다시 취소 요청된다.
+            // 결제사는 이미 취소된 결제에 같은 결과를 돌려주므로 두 번 환불되지 않는다.
+            log.error("환불 요청 처리 실패 - 결제ID: {}, 오류: {}", dispatch.paymentId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 결제사 취소 호출 (트랜잭션 밖)
+     * 결제사가 거절(4xx)하면 환불 실패로 기록하고, 타임아웃이나 결제사 장애(5xx)는 재시도한다.
+     * 서킷이 열려 있어 보내지 못한 요청은 시도 횟수를 쓰지 않고 미룬다.
+     */
+    private PaymentResponseDto requestCancel(PaymentStrategy strategy, RefundDispatch dispatch) {
+        try {
+            final ProviderEndpoint endpoint = providerRegistry.endpointOf(
+                    dispatch.providerType(), dispatch.endpointProviderId());
+            return providerGuard.execute(dispatch.providerType(),
+                    () -> strategy.cancelPayment(endpoint, dispatch.externalPaymentId()));
+        } catch (PaymentProviderUnavailableException e) {
+            refundService.postpone(dispatch, e.getRetryAfter(), e.getMessage());
+            return null;
+        } catch (HttpClientErrorException e) {
+            refundService.reject(dispatch, "결제사 응답 코드 " + e.getStatusCode().value());
+            return null;
+        } catch (RuntimeException e) {
+            refundService.retryLater(dispatch, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.room.reservation.system.api.service.refund;
+
+import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.PaymentRefund;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import com.room.reservation.system.api.persistence.repository.PaymentRefundRepository;
+import com.room.reservation.system.global.retry.RetryPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 결제 환불 요청 관리
+ * 예약 삭제 시 환불 요청만 저장하고 바로 응답하며, 결제사 취소 호출은 PaymentRefundDispatcher가 트랜잭션 밖에서 처리한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PaymentRefundService {
+
+    private final PaymentRefundRepository refundRepository;
+    private final RetryPolicy retryPolicy;
+
+    public PaymentRefundService(
+            PaymentRefundRepository refundRepository,
+            @Value("${payment.refund.lease:PT30S}") Duration lease,
+            @Value("${payment.refund.retry-backoff:PT2S}") Duration retryBackoff,
+            @Value("${payment.refund.max-attempts:8}") int maxAttempts
+    ) {
+        this.refundRepository = refundRepository;
+        this.retryPolicy = new RetryPolicy(lease, retryBackoff, maxAttempts);
+    }
+
+    /**
+     * 환불 요청 저장 (예약 삭제, 만료된 예약의 결제 성공 반영과 같은 트랜잭션)
+     * 결제사에 전달되어 승인되었거나 승인 대기 중인 결제만 대상으로 하고, 이미 환불 요청이 있는 결제는 건너뛴다.
+     * @return 저장한 환불 요청 수
+     */
+    public int enqueue(Collection<Payment> payments) {
+        final List<Payment> refundable = payments.stream()
+                .filter(PaymentRefundService::isRefundable)
+                .toList();
+        if (refundable.isEmpty()) {
+            return 0;
+        }
+
+        final Set<Long> requested = refundRepository.findPaymentIdsIn(
+                refundable.stream().map(Payment::getId).toList());
+        final LocalDateTime now = LocalDateTime.now();
+        final List<PaymentRefund> refunds = refundable.stream()
+                .filter(payment -> !requested.contains(payment.getId()))
+                .map(payment -> PaymentRefund.create(payment, now))
+                .toList();
+        if (refunds.isEmpty()) {
+            return 0;
+        }
+
+        refundRepository.saveAll(refunds);
+        refunds.forEach(refund -> log.info("환불 요청 접수 - 결제ID: {}, 외부결제ID: {}, 금액: {}",
+                refund.getPaymentId(), refund.getExternalPaymentId(), refund.getAmount()));
+        return refunds.size();
+    }
+
+    /**
+     * 결제 정보가 이미 삭제된 결제의 환불 요청 저장
+     * 결제사 호출 중에 예약이 삭제되면 예약 삭제 시점에는 외부 결제 ID가 없어 환불 대상에서 빠지므로,
+     * 결제사 응답으로 외부 결제 ID를 받았을 때 환불 요청을 남긴다.
+     */
+    public void enqueueDeleted(
+            Long paymentId,
+            Long reservationId,
+            String externalPaymentId,
+            PaymentProviderType providerType,
+            Long endpointProviderId,
+            Integer amount
+    ) {
+        refundRepository.save(PaymentRefund.create(
+                paymentId, reservationId, externalPaymentId, providerType, endpointProviderId, amount,
+                LocalDateTime.now()));
+        log.info("삭제된 결제의 환불 요청 접수 - 결제ID: {}, 외부결제ID: {}, 금액: {}",
+                paymentId, externalPaymentId, amount);
+    }
+
+    /**
+     * 보낼 시각이 된 환불 요청을 최대 limit건 선점
+     */
+    public List<RefundDispatch> claimDue(int limit) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<PaymentRefund> due = refundRepository.findDue(now, PageRequest.of(0, limit));
+
+        final List<RefundDispatch> claimed = new ArrayList<>(due.size());
+        for (PaymentRefund refund : due) {
+            if (refundRepository.claim(refund.getId(), now, retryPolicy.leaseUntil(now)) == 0) {
+                continue;
+            }
+            claimed.add(new RefundDispatch(
+                    refund.getId(),
+                    refund.getPaymentId(),
+                    refund.getExternalPaymentId(),
+                    refund.getProviderType(),
+                    refund.getEndpointProviderId(),
+                    refund.getAttempts() + 1
+            ));
+        }
+        return claimed;
+    }
+
+    /**
+     * 결제사 취소 완료
+     */
+    public void complete(RefundDispatch dispatch, PaymentStatus providerStatus) {
+        refundRepository.findById(dispatch.refundId()).ifPresent(refund -> refund.complete(LocalDateTime.now()));
+        log.info("환불 완료 - 결제ID: {}, 외부결제ID: {}, 결제사 상태: {}",
+                dispatch.paymentId(), dispatch.externalPaymentId(), providerStatus);
+    }
+
+    /**
+     * 결제사 거절 등 다시 보내도 소용없는 경우: 환불 실패로 기록
+     */
+    public void reject(RefundDispatch dispatch, String reason) {
+        refundRepository.findById(dispatch.refundId()).ifPresent(refund -> refund.fail(reason, LocalDateTime.now()));
+        log.warn("환불 실패 처리 - 결제ID: {}, 외부결제ID: {}, 사유: {}",
+                dispatch.paymentId(), dispatch.externalPaymentId(), reason);
+    }
+
+    /**
+     * 타임아웃처럼 결과를 알 수 없는 경우: 지수 백오프로 재시도, 한도를 넘으면 실패로 기록
+     * 결제사는 외부 결제 ID로 취소를 식별하므로 같은 환불을 다시 보내도 이중 환불되지 않는다.
+     */
+    public void retryLater(RefundDispatch dispatch, String reason) {
+        if (retryPolicy.isExhausted(dispatch.attempt())) {
+            reject(dispatch, "재시도 한도 초과: " + reason);
+            return;
+        }
+
+        final LocalDateTime nextAttemptAt = retryPolicy.nextAttemptAt(LocalDateTime.now(), dispatch.attempt());
+        refundRepository.findById(dispatch.refundId()).ifPresent(refund -> refund.retryAt(nextAttemptAt, reason));
+        log.info("환불 재시도 예약 - 결제ID: {}, 시도: {}, 다음 시도: {}",
+                dispatch.paymentId(), dispatch.attempt(), nextAttemptAt);
+    }
+
+    /**
+     * 서킷이 열려 있거나 동시 호출 한도를 넘어 결제사에 보내지 못한 경우: 시도 횟수에 포함하지 않고 미룸
+     */
+    public void postpone(RefundDispatch dispatch, Duration delay, String reason) {
+        final LocalDateTime nextAttemptAt = LocalDateTime.now().plus(delay);
+        refundRepository.findById(dispatch.refundId()).ifPresent(refund -> refund.postpone(nextAttemptAt, reason));
+    }
+
+    private static boolean isRefundable(Payment payment) {
+        return payment.getExternalPaymentId() != null
+                && payment.getProviderType() != null
+                && (payment.getStatus() == PaymentStatus.SUCCESS || payment.getStatus() == PaymentStatus.PENDING);
+    }
+}
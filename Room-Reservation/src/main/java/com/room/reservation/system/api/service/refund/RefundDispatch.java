@@ -0,0 +1,18 @@
+package com.room.reservation.system.api.service.refund;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+
+/**
+ * 선점한 환불 요청 (결제사 호출에 필요한 정보)
+ * @param endpointProviderId 결제를 만든 엔드포인트의 결제사 ID (설정의 기본 엔드포인트면 null)
+ * @param attempt 이번 시도 횟수 (1부터)
+ */
+public record RefundDispatch(
+        Long refundId,
+        Long paymentId,
+        String externalPaymentId,
+        PaymentProviderType providerType,
+        Long endpointProviderId,
+        int attempt
+) {
+}
@@ -0,0 +1,121 @@
+package com.room.reservation.system.api.service.webhook;
+
+import com.room.reservation.system.api.persistence.entity.ProcessedWebhookEvent;
+import com.room.reservation.system.api.persistence.repository.ProcessedWebhookEventRepository;
+import com.room.reservation.system.global.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 웹훅 중복 판별 (외부 결제 ID + 거래 ID)
+ * - 최근 처리한 웹훅은 메모리(LRU)에서 바로 판별하고, 없으면 처리 기록 테이블(tbl_processed_webhook_event)을 확인
+ * - 처리 기록은 웹훅 반영과 같은 트랜잭션에서 저장하고, 커밋된 뒤에만 메모리에 올린다.
+ * - 같은 웹훅을 동시에 처리하면 unique 제약에 걸려 한쪽 트랜잭션만 커밋된다.
+ * - 중복 적중률은 payment.webhook.dedup.* 메트릭으로 노출
+ */
+@Component
+public class PaymentWebhookDeduplicator {
+
+    private final ProcessedWebhookEventRepository processedWebhookEventRepository;
+    private final Map<EventKey, Boolean> recent;
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder storeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PaymentWebhookDeduplicator(
+            ProcessedWebhookEventRepository processedWebhookEventRepository,
+            @Value("${payment.webhook.dedup.max-size:10000}") int maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.processedWebhookEventRepository = processedWebhookEventRepository;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<EventKey, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        FunctionCounter.builder("payment.webhook.dedup.requests", memoryHits, LongAdder::sum)
+                .tag("result", "memory_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("payment.webhook.dedup.requests", storeHits, LongAdder::sum)
+                .tag("result", "store_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("payment.webhook.dedup.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("payment.webhook.dedup.hit.ratio", this, PaymentWebhookDeduplicator::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("payment.webhook.dedup.size", this, PaymentWebhookDeduplicator::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 처리한 웹훅인지 확인 (외부 결제 ID나 거래 ID가 없으면 판별하지 않음)
+     */
+    public boolean isDuplicate(String externalPaymentId, String transactionId) {
+        if (externalPaymentId == null || transactionId == null) {
+            return false;
+        }
+
+        final EventKey key = new EventKey(externalPaymentId, transactionId);
+        synchronized (recent) {
+            if (recent.get(key) != null) {
+                memoryHits.increment();
+                return true;
+            }
+        }
+
+        if (processedWebhookEventRepository.existsByExternalPaymentIdAndTransactionId(externalPaymentId, transactionId)) {
+            storeHits.increment();
+            remember(key);
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * 처리 기록 저장 (바로 flush하여 같은 웹훅을 동시에 처리 중이면 반영 전에 unique 제약에 걸리게 한다)
+     */
+    public void record(String externalPaymentId, String transactionId) {
+        if (externalPaymentId == null || transactionId == null) {
+            return;
+        }
+
+        processedWebhookEventRepository.saveAndFlush(ProcessedWebhookEvent.create(externalPaymentId, transactionId));
+
+        final EventKey key = new EventKey(externalPaymentId, transactionId);
+        TransactionCallbacks.afterCommit(() -> remember(key));
+    }
+
+    public double hitRatio() {
+        final long hitCount = memoryHits.sum() + storeHits.sum();
+        final long total = hitCount + misses.sum();
+
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private void remember(EventKey key) {
+        synchronized (recent) {
+            recent.put(key, Boolean.TRUE);
+        }
+    }
+
+    private double size() {
+        synchronized (recent) {
+            return recent.size();
+        }
+    }
+
+    private record EventKey(String externalPaymentId, String transactionId) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.room.reservation.system.api.service.webhook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.room.reservation.system.api.dto.payment.WebhookPaymentDto;
+import com.room.reservation.system.api.persistence.entity.PaymentWebhookInbox;
+import com.room.reservation.system.api.persistence.entity.PaymentWebhookInboxStatus;
+import com.room.reservation.system.api.persistence.repository.PaymentWebhookInboxRepository;
+import com.room.reservation.system.api.service.WebhookService;
+import com.room.reservation.system.global.retry.RetryPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 웹훅 수신함 관리
+ * 수신 저장, 선점, 처리 결과 기록을 각각 짧은 트랜잭션으로 처리한다.
+ * 웹훅 처리와 처리 완료 기록은 한 트랜잭션이므로 처리된 웹훅이 다시 처리되지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PaymentWebhookInboxService {
+
+    private final PaymentWebhookInboxRepository inboxRepository;
+    private final WebhookService webhookService;
+    private final ObjectMapper objectMapper;
+    private final RetryPolicy retryPolicy;
+
+    public PaymentWebhookInboxService(
+            PaymentWebhookInboxRepository inboxRepository,
+            WebhookService webhookService,
+            ObjectMapper objectMapper,
+            @Value("${payment.webhook.queue.lease:PT30S}") Duration lease,
+            @Value("${payment.webhook.queue.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${payment.webhook.queue.max-attempts:5}") int maxAttempts
+    ) {
+        this.inboxRepository = inboxRepository;
+        this.webhookService = webhookService;
+        this.objectMapper = objectMapper;
+        this.retryPolicy = new RetryPolicy(lease, retryBackoff, maxAttempts);
+    }
+
+    /**
+     * 수신 웹훅 저장
+     * 바로 작업 큐에 넣으므로 처리 제한 시간(lease) 안에 처리되지 않았을 때만 다시 선점 대상이 된다.
+     */
+    public WebhookTask enqueue(String provider, WebhookPaymentDto webhook) {
+        final LocalDateTime now = LocalDateTime.now();
+        final PaymentWebhookInbox inbox = inboxRepository.save(PaymentWebhookInbox.create(
+                provider, partitionKeyOf(webhook), serialize(webhook), retryPolicy.leaseUntil(now)));
+
+        return new WebhookTask(inbox.getId(), inbox.getPartitionKey(), now);
+    }
+
+    /**
+     * 처리 시각이 된 웹훅을 최대 limit건 선점 (서버 재시작 등으로 처리되지 않은 웹훅과 재시도 대상)
+     */
+    public List<WebhookTask> claimDue(int limit) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<PaymentWebhookInbox> due = inboxRepository.findDue(now, PageRequest.of(0, limit));
+
+        final List<WebhookTask> claimed = new ArrayList<>(due.size());
+        for (PaymentWebhookInbox inbox : due) {
+            if (inboxRepository.claim(inbox.getId(), now, retryPolicy.leaseUntil(now)) == 0) {
+                continue;
+            }
+            claimed.add(new WebhookTask(inbox.getId(), inbox.getPartitionKey(), inbox.getCreatedAt()));
+        }
+        return claimed;
+    }
+
+    /**
+     * 웹훅 처리 (이미 처리된 웹훅이면 아무것도 하지 않음)
+     */
+    public void process(Long inboxId) {
+        final PaymentWebhookInbox inbox = inboxRepository.findByIdForUpdate(inboxId).orElse(null);
+        if (inbox == null || inbox.getStatus() != PaymentWebhookInboxStatus.PENDING) {
+            return;
+        }
+
+        final WebhookPaymentDto webhook = deserialize(inbox);
+        if (webhook == null) {
+            return;
+        }
+
+        webhookService.processPaymentWebhook(inbox.getProvider(), webhook);
+        inbox.processed(LocalDateTime.now());
+    }
+
+    /**
+     * 결제가 없는 등 다시 처리해도 소용없는 웹훅: 실패로 기록
+     */
+    public void reject(Long inboxId, String reason) {
+        inboxRepository.findById(inboxId).ifPresent(inbox -> inbox.fail(reason));
+        log.warn("결제 웹훅 처리 실패 - 수신함ID: {}, 사유: {}", inboxId, reason);
+    }
+
+    /**
+     * DB 오류 등 일시적인 실패: 지수 백오프로 재시도, 한도를 넘으면 실패로 기록
+     */
+    public void retryLater(Long inboxId, String reason) {
+        inboxRepository.findById(inboxId)
+                .filter(inbox -> inbox.getStatus() == PaymentWebhookInboxStatus.PENDING)
+                .ifPresent(inbox -> {
+                    final int attempts = inbox.retryAt(
+                            retryPolicy.nextAttemptAt(LocalDateTime.now(), inbox.getAttempts() + 1), reason);
+                    if (retryPolicy.isExhausted(attempts)) {
+                        inbox.fail("재시도 한도 초과: " + reason);
+                        log.warn("결제 웹훅 재시도 한도 초과 - 수신함ID: {}, 사유: {}", inboxId, reason);
+                    }
+                });
+    }
+
+    /**
+     * 같은 결제의 웹훅을 순서대로 처리하기 위한 키 (내부 결제 ID, 없으면 외부 결제 ID)
+     */
+    private static String partitionKeyOf(WebhookPaymentDto webhook) {
+        return webhook.paymentId() != null ? webhook.paymentId() : String.valueOf(webhook.externalPaymentId());
+    }
+
+    private String serialize(WebhookPaymentDto webhook) {
+        try {
+            return objectMapper.writeValueAsString(webhook);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 웹훅 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 읽을 수 없는 웹훅은 다시 시도해도 소용없으므로 바로 실패 처리하고 null 반환
+     */
+    private WebhookPaymentDto deserialize(PaymentWebhookInbox inbox) {
+        try {
+            return objectMapper.readValue(inbox.getPayload(), WebhookPaymentDto.class);
+        } catch (JsonProcessingException e) {
+            log.error("결제 웹훅 역직렬화 실패 - 수신함ID: {}", inbox.getId(), e);
+            inbox.fail("결제 웹훅 역직렬화 실패: " + e.getOriginalMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.room.reservation.system.api.service.webhook;
+
+import com.room.reservation.system.api.dto.payment.WebhookPaymentDto;
+import com.room.reservation.system.global.error.exception.ReservationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 웹훅 작업 큐
+ * 웹훅을 수신함에 저장한 뒤 바로 결제사에 응답하고, 처리는 결제 ID로 나눈 작업 스레드에서 한다.
+ * 같은 결제의 웹훅은 한 스레드에서 받은 순서대로, 다른 결제의 웹훅은 여러 스레드에서 동시에 처리된다.
+ * 처리 대기 중인 웹훅이 capacity에 이르면 저장하지 않고 거절하여 결제사가 나중에 다시 보내게 한다.
+ */
+@Slf4j
+@Component
+public class PaymentWebhookQueue {
+
+    private final PaymentWebhookInboxService inboxService;
+    private final ExecutorService[] partitions;
+    private final int capacity;
+    private final int sweepBatchSize;
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final Timer lagTimer;
+    private final Counter rejectedCounter;
+
+    public PaymentWebhookQueue(
+            PaymentWebhookInboxService inboxService,
+            @Value("${payment.webhook.queue.partitions:8}") int partitionCount,
+            @Value("${payment.webhook.queue.capacity:10000}") int capacity,
+            @Value("${payment.webhook.queue.sweep-batch-size:100}") int sweepBatchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.inboxService = inboxService;
+        this.capacity = capacity;
+        this.sweepBatchSize = sweepBatchSize;
+
+        this.partitions = new ExecutorService[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            final String threadName = "payment-webhook-" + (i + 1);
+            this.partitions[i] = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        Gauge.builder("payment.webhook.queue.depth", depth, AtomicInteger::get)
+                .description("처리 대기 중인 결제 웹훅 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("payment.webhook.queue.lag")
+                .description("결제 웹훅 수신부터 처리 시작까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("payment.webhook.queue.rejected")
+                .description("작업 큐가 가득 차 거절한 결제 웹훅 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수신 웹훅 저장 후 작업 큐에 넣음
+     * @return 작업 큐가 가득 차 받지 않았으면 false (저장하지 않음)
+     */
+    public boolean offer(String provider, WebhookPaymentDto webhook) {
+        if (depth.get() >= capacity) {
+            rejectedCounter.increment();
+            return false;
+        }
+
+        submit(inboxService.enqueue(provider, webhook));
+        return true;
+    }
+
+    /**
+     * 처리 제한 시간 안에 처리되지 않은 웹훅(서버 재시작 등)과 재시도 시각이 된 웹훅을 다시 작업 큐에 넣음
+     */
+    @Scheduled(fixedDelayString = "${payment.webhook.queue.sweep-interval:5000}")
+    public void sweep() {
+        final int room = capacity - depth.get();
+        if (room <= 0) {
+            return;
+        }
+
+        final List<WebhookTask> tasks = inboxService.claimDue(Math.min(room, sweepBatchSize));
+        tasks.forEach(this::submit);
+
+        if (!tasks.isEmpty()) {
+            log.info("결제 웹훅 재처리 대상 선점 - 건수: {}", tasks.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    public int depth() {
+        return depth.get();
+    }
+
+    void submit(WebhookTask task) {
+        depth.incrementAndGet();
+        partitionOf(task.partitionKey()).execute(() -> {
+            try {
+                process(task);
+            } finally {
+                depth.decrementAndGet();
+            }
+        });
+    }
+
+    private void process(WebhookTask task) {
+        lagTimer.record(Duration.between(task.receivedAt(), LocalDateTime.now()));
+
+        try {
+            inboxService.process(task.inboxId());
+        } catch (ReservationException e) {
+            // 결제를 찾을 수 없는 등 다시 처리해도 소용없는 웹훅
+            recordFailure(task, () -> inboxService.reject(task.inboxId(), e.getMessage()));
+        } catch (RuntimeException e) {
+            log.warn("결제 웹훅 처리 실패, 재시도 예약 - 수신함ID: {}, 오류: {}", task.inboxId(), e.getMessage());
+            recordFailure(task, () -> inboxService.retryLater(task.inboxId(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 실패 기록도 실패하면 처리 제한 시간이 지난 뒤 sweep에서 다시 처리된다.
+     */
+    private void recordFailure(WebhookTask task, Runnable record) {
+        try {
+            record.run();
+        } catch (RuntimeException e) {
+            log.error("결제 웹훅 실패 기록 실패 - 수신함ID: {}", task.inboxId(), e);
+        }
+    }
+
+    private ExecutorService partitionOf(String partitionKey) {
+        return partitions[Math.floorMod(partitionKey.hashCode(), partitions.length)];
+    }
+}
@@ -0,0 +1,14 @@
+package com.room.reservation.system.api.service.webhook;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작업 큐에 넣은 수신 웹훅 한 건
+ * @param partitionKey 같은 키의 웹훅은 같은 작업 스레드에서 받은 순서대로 처리된다.
+ * @param receivedAt 웹훅을 받은 시각 (처리 지연 측정용)
+ */
+public record WebhookTask(
+        Long inboxId,
+        String partitionKey,
+        LocalDateTime receivedAt
+) {}
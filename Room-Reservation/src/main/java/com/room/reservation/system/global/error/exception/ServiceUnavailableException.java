@@ -0,0 +1,19 @@
+package com.room.reservation.system.global.error.exception;
+
+import com.room.reservation.system.global.error.model.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 서버가 잠시 요청을 받을 수 없는 경우 (응답에 Retry-After로 재시도 대기 시간을 알려 준다)
+ */
+@Getter
+public class ServiceUnavailableException extends ReservationException {
+	private final Duration retryAfter;
+
+	public ServiceUnavailableException(ErrorCode errorCode, Duration retryAfter) {
+		super(errorCode);
+		this.retryAfter = retryAfter;
+	}
+}
@@ -2,7 +2,9 @@ package com.room.reservation.system.global.error.handler;
 
 import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
+import com.room.reservation.system.global.error.exception.ServiceUnavailableException;
 import com.room.reservation.system.global.error.model.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -26,6 +28,14 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(ServiceUnavailableException.class)
+	protected ResponseEntity<Object> handleServiceUnavailableException(ServiceUnavailableException e) {
+		ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+				.body(errorResponse);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	protected ResponseEntity<Object> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
 		List<FieldError> fieldErrors = e.getBindingResult().getFieldErrors();
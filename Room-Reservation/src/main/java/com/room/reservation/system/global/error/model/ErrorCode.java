@@ -23,8 +23,17 @@ public enum ErrorCode {
 	ALREADY_RESERVED_TIME("이미 예약된 시간대입니다.", HttpStatus.BAD_REQUEST),
 	FAIL_INVALID_USER("예약자 정보가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
 	FAIL_ALREADY_PAID("이미 결제가 완료된 예약입니다.", HttpStatus.BAD_REQUEST),
+	EXPIRED_RESERVATION("결제 기한이 지나 취소된 예약입니다.", HttpStatus.BAD_REQUEST),
+	FAIL_PAYMENT_IN_PROGRESS("이미 진행 중인 결제가 있습니다.", HttpStatus.BAD_REQUEST),
+	INVALID_IDEMPOTENCY_KEY("Idempotency-Key는 100자 이하여야 합니다.", HttpStatus.BAD_REQUEST),
+	IDEMPOTENCY_KEY_REUSED("다른 요청에 사용된 Idempotency-Key입니다.", HttpStatus.BAD_REQUEST),
+	IDEMPOTENCY_KEY_IN_PROGRESS("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.", HttpStatus.BAD_REQUEST),
 	FAIL_NOT_PAYMENT_PROVIDER("해당 결제사를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-	FAIL_INVALID_WEBHOOK("웹훅 검증에 실패했습니다.", HttpStatus.BAD_REQUEST);
+	FAIL_INVALID_WEBHOOK("웹훅 검증에 실패했습니다.", HttpStatus.BAD_REQUEST),
+	INVALID_WEBHOOK_BATCH("웹훅 묶음은 1건 이상, 허용된 최대 건수 이하여야 합니다.", HttpStatus.BAD_REQUEST),
+
+	//ServiceUnavailable 503 error
+	TOO_MANY_PAYMENT_STATUS_WAITERS("결제 상태를 기다리는 연결이 너무 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
 	private String message;
 	private HttpStatus statusCode;
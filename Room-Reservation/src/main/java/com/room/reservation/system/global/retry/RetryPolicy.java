@@ -0,0 +1,45 @@
+package com.room.reservation.system.global.retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 선점/재시도 정책 (결제 요청 아웃박스, 환불 요청, 웹훅 수신함 공통)
+ * - 선점한 요청은 lease 동안 다시 선점되지 않고, 결과를 기록하지 못하면 lease가 지난 뒤 다시 선점된다.
+ * - 결과를 알 수 없는 실패는 retryBackoff × 2^(시도 - 1) (최대 2^10배) 뒤에 다시 시도하고, maxAttempts번 시도하면 포기한다.
+ * @param lease 선점 제한 시간
+ * @param retryBackoff 첫 재시도 대기 시간
+ * @param maxAttempts 최대 시도 횟수
+ */
+public record RetryPolicy(Duration lease, Duration retryBackoff, int maxAttempts) {
+
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    /**
+     * 지금 선점한 요청이 다시 선점 대상이 되는 시각
+     */
+    public LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plus(lease);
+    }
+
+    /**
+     * attempt번째 시도가 실패한 뒤 기다릴 시간
+     */
+    public Duration backoffOf(int attempt) {
+        return retryBackoff.multipliedBy(1L << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+    }
+
+    /**
+     * attempt번째 시도가 실패한 뒤 다시 시도할 시각
+     */
+    public LocalDateTime nextAttemptAt(LocalDateTime now, int attempt) {
+        return now.plus(backoffOf(attempt));
+    }
+
+    /**
+     * attempt번째 시도로 재시도 한도를 모두 썼는지 확인
+     */
+    public boolean isExhausted(int attempt) {
+        return attempt >= maxAttempts;
+    }
+}
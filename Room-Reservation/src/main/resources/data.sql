@@ -10,4 +10,10 @@ INSERT INTO tbl_meetingroom (name, capacity, half_hourly_rate, is_active) VALUES
 ('B회의실', 20, 40000, true),
 ('C회의실', 15, 30000, true),
 ('대회의실', 50, 75000, true),
-('소회의실', 5, 15000, true);
\ No newline at end of file
+('소회의실', 5, 15000, true);
+
+-- PaymentProvider 초기 데이터 (결제 요청 라우팅 대상 엔드포인트, 결제사별로 여러 개 등록 가능)
+INSERT INTO tbl_payment_provider (name, api_endpoint, auth_info, type, routing_enabled) VALUES
+('A사 카드 결제 게이트웨이', 'http://mock-payment-server:8081', 'merchant_a_company', 'CARD_PAYMENT', true),
+('B사 간편 결제 게이트웨이', 'http://mock-payment-server:8081', 'merchant_b_company', 'SIMPLE_PAYMENT', true),
+('C사 가상계좌 게이트웨이', 'http://mock-payment-server:8081', 'merchant_c_company', 'VIRTUAL_ACCOUNT', true);
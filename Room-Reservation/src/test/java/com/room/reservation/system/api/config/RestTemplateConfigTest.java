@@ -0,0 +1,56 @@
+package com.room.reservation.system.api.config;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestTemplateConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RestTemplateConfig restTemplateConfig;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PaymentClientProperties properties = new PaymentClientProperties(Map.of(
+                PaymentProviderType.CARD_PAYMENT,
+                new PaymentClientProperties.Pool(50, null, Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofMillis(500), null)
+        ), null);
+        restTemplateConfig = new RestTemplateConfig(
+                properties, new PaymentProviderGuard(properties, meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        restTemplateConfig.close();
+    }
+
+    @Test
+    @DisplayName("결제사별로 연결 풀을 사용하는 RestTemplate을 만들고 풀 메트릭을 등록")
+    void paymentRestTemplate_RegistersPoolMetricsPerProvider() {
+        // when
+        RestTemplate card = restTemplateConfig.cardPaymentRestTemplate();
+        RestTemplate simple = restTemplateConfig.simplePaymentRestTemplate();
+
+        // then
+        assertThat(card).isNotSameAs(simple);
+        assertThat(card.getRequestFactory()).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("provider", "CARD_PAYMENT").gauge().value()).isEqualTo(50.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("provider", "SIMPLE_PAYMENT").gauge().value()).isEqualTo(20.0);
+        assertThat(meterRegistry.get("payment.client.connection.lease")
+                .tag("provider", "CARD_PAYMENT").timer()).isNotNull();
+    }
+}
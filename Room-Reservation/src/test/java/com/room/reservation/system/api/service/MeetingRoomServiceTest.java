@@ -1,5 +1,6 @@
 package com.room.reservation.system.api.service;
 
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomAvailabilityReadAllDto;
 import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomDetailDto;
 import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomReadAllDto;
 import com.room.reservation.system.api.dto.meetingRoom.TimeSlotDto;
@@ -8,6 +9,9 @@ import com.room.reservation.system.api.persistence.entity.Reservation;
 import com.room.reservation.system.api.persistence.entity.User;
 import com.room.reservation.system.api.persistence.repository.MeetingRoomRepository;
 import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.occupancy.MeetingRoomCapacityIndex;
+import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +19,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
@@ -38,6 +44,12 @@ class MeetingRoomServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private MeetingRoomCapacityIndex capacityIndex;
+
+    @Spy
+    private MeetingRoomAvailabilityCache availabilityCache = new MeetingRoomAvailabilityCache(1024);
+
     @InjectMocks
     private MeetingRoomService meetingRoomService;
 
@@ -111,7 +123,7 @@ class MeetingRoomServiceTest {
     void read_Success() {
         // given
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(reservationRepository.findReservationsAfterCurrentTime(eq(1L), any(LocalDateTime.class)))
+        when(reservationRepository.findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
 
         // when
@@ -125,7 +137,7 @@ class MeetingRoomServiceTest {
         assertThat(result.availableTimeSlots()).isNotEmpty();
 
         verify(meetingRoomRepository).findById(1L);
-        verify(reservationRepository).findReservationsAfterCurrentTime(eq(1L), any(LocalDateTime.class));
+        verify(reservationRepository).findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -180,7 +192,7 @@ class MeetingRoomServiceTest {
         List<Reservation> reservations = Arrays.asList(reservation1, reservation2);
 
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(reservationRepository.findReservationsAfterCurrentTime(eq(1L), any(LocalDateTime.class)))
+        when(reservationRepository.findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(reservations);
 
         // when
@@ -193,7 +205,7 @@ class MeetingRoomServiceTest {
         assertThat(result.availableTimeSlots().size()).isGreaterThan(0);
 
         verify(meetingRoomRepository).findById(1L);
-        verify(reservationRepository).findReservationsAfterCurrentTime(eq(1L), any(LocalDateTime.class));
+        verify(reservationRepository).findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -201,7 +213,7 @@ class MeetingRoomServiceTest {
     void calculateAvailableTimeSlots_Logic() {
         // given
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(reservationRepository.findReservationsAfterCurrentTime(eq(1L), any(LocalDateTime.class)))
+        when(reservationRepository.findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
 
         // when
@@ -214,6 +226,131 @@ class MeetingRoomServiceTest {
         assertThat(result.availableTimeSlots().size()).isGreaterThan(0);
 
         verify(meetingRoomRepository).findById(1L);
-        verify(reservationRepository).findReservationsAfterCurrentTime(eq(1L), any(LocalDateTime.class));
+        verify(reservationRepository).findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("같은 회의실, 같은 날짜의 반복 조회는 캐시에서 응답")
+    void read_Repeated_ServedFromCache() {
+        // given
+        when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
+        when(reservationRepository.findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        MeetingRoomDetailDto first = meetingRoomService.read(1L);
+        MeetingRoomDetailDto second = meetingRoomService.read(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(meetingRoomRepository, times(1)).findById(1L);
+        verify(reservationRepository, times(1))
+                .findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 이후 조회는 다시 계산")
+    void read_AfterInvalidate_Reloads() {
+        // given
+        when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
+        when(reservationRepository.findReservationsBetween(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        meetingRoomService.read(1L);
+
+        // when
+        availabilityCache.invalidate(1L, LocalDate.now());
+        meetingRoomService.read(1L);
+
+        // then
+        verify(meetingRoomRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("전체 회의실 예약 가능 시간을 한 번의 예약 조회로 계산")
+    void readAllAvailability_SingleQuery_GroupsByRoom() {
+        // given
+        MeetingRoom meetingRoom2 = new MeetingRoom("B회의실", 20, 40000);
+        try {
+            java.lang.reflect.Field idField = MeetingRoom.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(meetingRoom2, 2L);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        Reservation reservation = Reservation.create(
+                testUser,
+                testMeetingRoom,
+                tomorrow.atTime(10, 0),
+                tomorrow.atTime(11, 0),
+                50000
+        );
+
+        when(meetingRoomRepository.findByIsActiveTrue()).thenReturn(Arrays.asList(testMeetingRoom, meetingRoom2));
+        when(reservationRepository.findReservationsInRoomsBetween(
+                eq(List.of(1L, 2L)), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(reservation));
+
+        // when
+        MeetingRoomAvailabilityReadAllDto result = meetingRoomService.readAllAvailability(tomorrow);
+
+        // then
+        assertThat(result.date()).isEqualTo(tomorrow);
+        assertThat(result.meetingRooms()).hasSize(2);
+        assertThat(result.meetingRooms().get(0).availableTimeSlots()).containsExactly(
+                new TimeSlotDto(LocalTime.MIDNIGHT, LocalTime.of(10, 0)),
+                new TimeSlotDto(LocalTime.of(11, 0), LocalTime.of(23, 30))
+        );
+        assertThat(result.meetingRooms().get(1).availableTimeSlots()).containsExactly(
+                new TimeSlotDto(LocalTime.MIDNIGHT, LocalTime.of(23, 30))
+        );
+
+        verify(reservationRepository, times(1)).findReservationsInRoomsBetween(
+                anyCollection(), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(reservationRepository, never()).findReservationsBetween(
+                anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 전체 회의실 조회는 예약을 조회하지 않음")
+    void readAllAvailability_PastDate_NoQuery() {
+        // given
+        when(meetingRoomRepository.findByIsActiveTrue()).thenReturn(List.of(testMeetingRoom));
+
+        // when
+        MeetingRoomAvailabilityReadAllDto result = meetingRoomService.readAllAvailability(LocalDate.now().minusDays(1));
+
+        // then
+        assertThat(result.meetingRooms()).hasSize(1);
+        assertThat(result.meetingRooms().get(0).availableTimeSlots()).isEmpty();
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("빈 회의실 검색은 수용 인원 인덱스에서 응답")
+    void search_DelegatesToCapacityIndex() {
+        // given
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(capacityIndex.findAvailable(tomorrow, LocalTime.of(10, 0), LocalTime.of(11, 0), 8))
+                .thenReturn(List.of(testMeetingRoom.toMeetingRoomReadDto()));
+
+        // when
+        MeetingRoomReadAllDto result = meetingRoomService.search(tomorrow, LocalTime.of(10, 0), LocalTime.of(11, 0), 8);
+
+        // then
+        assertThat(result.meetingRooms()).extracting("name").containsExactly("A회의실");
+        verifyNoInteractions(meetingRoomRepository, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("빈 회의실 검색 시 잘못된 시간 범위는 예외 발생")
+    void search_InvalidTimeRange_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> meetingRoomService.search(
+                LocalDate.now().plusDays(1), LocalTime.of(11, 0), LocalTime.of(10, 0), 1))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(capacityIndex);
     }
 }
@@ -7,7 +7,10 @@ import com.room.reservation.system.api.dto.payment.response.PaymentPendingRespon
 import com.room.reservation.system.api.persistence.entity.*;
 import com.room.reservation.system.api.persistence.repository.PaymentRepository;
 import com.room.reservation.system.api.persistence.repository.ReservationRepository;
-import com.room.reservation.system.api.persistence.repository.UserRepository;
+import com.room.reservation.system.api.service.cache.PaymentIdempotencyCache;
+import com.room.reservation.system.api.service.cache.UserIdentityCache;
+import com.room.reservation.system.api.service.notification.PaymentStatusNotifier;
+import com.room.reservation.system.api.service.outbox.PaymentOutboxService;
 import com.room.reservation.system.api.service.payment.PaymentStrategy;
 import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
 import com.room.reservation.system.global.error.exception.BadRequestException;
@@ -16,9 +19,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -39,7 +44,7 @@ class PaymentServiceTest {
     private ReservationRepository reservationRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserIdentityCache userIdentityCache;
 
     @Mock
     private PaymentRepository paymentRepository;
@@ -47,6 +52,15 @@ class PaymentServiceTest {
     @Mock
     private PaymentStrategy paymentStrategy;
 
+    @Mock
+    private PaymentOutboxService outboxService;
+
+    @Mock
+    private PaymentIdempotencyCache idempotencyCache;
+
+    @Mock
+    private PaymentStatusNotifier statusNotifier;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -94,7 +108,7 @@ class PaymentServiceTest {
             throw new RuntimeException(e);
         }
 
-        testPayment = Payment.create(50000, testReservation);
+        testPayment = Payment.create(50000, testReservation, PaymentProviderType.CARD_PAYMENT);
         // Reflection을 사용하여 id 설정
         try {
             java.lang.reflect.Field idField = Payment.class.getDeclaredField("id");
@@ -116,32 +130,128 @@ class PaymentServiceTest {
     }
 
     @Test
-    @DisplayName("결제 처리 성공")
+    @DisplayName("결제 요청 시 결제와 결제사 요청 아웃박스를 저장하고 결제사 호출 없이 PENDING 응답")
     void processPayment_Success() {
         // given
         PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000, 
                 "홍길동", "010-1234-5678", null, null, null);
-        PaymentPendingResponseDto expectedResponse = new PaymentPendingResponseDto("1", "ext_123", "결제가 진행중입니다", "PENDING");
 
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.save(any(Payment.class))).thenReturn(testPayment);
-        when(strategyFactory.getPaymentStrategy("CARD_PAYMENT")).thenReturn(paymentStrategy);
-        when(paymentStrategy.pay(any(), any(), any())).thenReturn(expectedResponse);
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(paymentRepository.saveAndFlush(any(Payment.class))).thenReturn(testPayment);
+        when(strategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).thenReturn(paymentStrategy);
 
         // when
-        PaymentPendingResponseDto result = paymentService.processPayment(1L, request);
+        PaymentPendingResponseDto result = paymentService.processPayment(1L, request, null);
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.externalPaymentId()).isEqualTo("ext_123");
+        assertThat(result.paymentId()).isEqualTo("1");
+        assertThat(result.externalPaymentId()).isNull();
         assertThat(result.status()).isEqualTo("PENDING");
 
         verify(reservationRepository).findById(1L);
-        verify(userRepository).findByNameAndPhoneNumber("홍길동", "010-1234-5678");
-        verify(paymentRepository).save(any(Payment.class));
-        verify(strategyFactory).getPaymentStrategy("CARD_PAYMENT");
-        verify(paymentStrategy).pay(any(), any(), any());
+        verify(userIdentityCache).findUserId("홍길동", "010-1234-5678");
+        verify(paymentRepository).saveAndFlush(any(Payment.class));
+        verify(strategyFactory).getPaymentStrategy(PaymentProviderType.CARD_PAYMENT);
+        verify(outboxService).enqueue(testPayment, request);
+        verifyNoInteractions(paymentStrategy);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key와 함께 결제 요청 시 커밋 이후 최초 응답을 캐시에 저장")
+    void processPayment_WithIdempotencyKey_CachesResponse() {
+        // given
+        PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", null, null, null);
+
+        when(idempotencyCache.get("key-1")).thenReturn(Optional.empty());
+        when(paymentRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.empty());
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(paymentRepository.saveAndFlush(any(Payment.class))).thenReturn(testPayment);
+
+        // when
+        PaymentPendingResponseDto result = paymentService.processPayment(1L, request, "key-1");
+
+        // then
+        verify(outboxService).enqueue(testPayment, request);
+        verify(idempotencyCache).put("key-1", 1L, result);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재요청 시 결제를 새로 만들지 않고 최초 응답 반환")
+    void processPayment_IdempotentReplay_ReturnsOriginalResponse() {
+        // given
+        PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", null, null, null);
+        PaymentPendingResponseDto original = new PaymentPendingResponseDto("1", null, "결제 요청이 접수되었습니다.", "PENDING");
+
+        when(idempotencyCache.get("key-1"))
+                .thenReturn(Optional.of(new PaymentIdempotencyCache.CachedResponse(1L, original)));
+
+        // when
+        PaymentPendingResponseDto result = paymentService.processPayment(1L, request, "key-1");
+
+        // then
+        assertThat(result).isSameAs(original);
+        verifyNoInteractions(paymentRepository, outboxService, strategyFactory);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 Idempotency-Key는 DB에서 최초 결제를 찾아 응답하고 캐시에 적재")
+    void processPayment_IdempotentReplayFromDatabase_ReturnsOriginalResponse() {
+        // given
+        PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", null, null, null);
+
+        when(idempotencyCache.get("key-1")).thenReturn(Optional.empty());
+        when(paymentRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(testPayment));
+
+        // when
+        PaymentPendingResponseDto result = paymentService.processPayment(1L, request, "key-1");
+
+        // then
+        assertThat(result.paymentId()).isEqualTo("1");
+        assertThat(result.status()).isEqualTo("PENDING");
+        verify(idempotencyCache).put("key-1", 1L, result);
+        verify(paymentRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("다른 예약에 사용된 Idempotency-Key로 결제 요청 시 예외 발생")
+    void processPayment_IdempotencyKeyReused_ThrowsException() {
+        // given
+        PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", null, null, null);
+        PaymentPendingResponseDto original = new PaymentPendingResponseDto("1", null, "결제 요청이 접수되었습니다.", "PENDING");
+
+        when(idempotencyCache.get("key-1"))
+                .thenReturn(Optional.of(new PaymentIdempotencyCache.CachedResponse(2L, original)));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(1L, request, "key-1"))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(paymentRepository, outboxService);
+    }
+
+    @Test
+    @DisplayName("결제 대기 중인 결제가 있는 예약에 결제 요청 시 예외 발생")
+    void processPayment_PendingPaymentExists_ThrowsException() {
+        // given
+        PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", null, null, null);
+
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(paymentRepository.existsPendingByReservationId(1L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(1L, request, null))
+                .isInstanceOf(BadRequestException.class);
+        verify(paymentRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(outboxService);
     }
 
     @Test
@@ -154,7 +264,7 @@ class PaymentServiceTest {
         when(reservationRepository.findById(999L)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> paymentService.processPayment(999L, request))
+        assertThatThrownBy(() -> paymentService.processPayment(999L, request, null))
                 .isInstanceOf(NotFoundException.class);
     }
 
@@ -166,11 +276,10 @@ class PaymentServiceTest {
                 "존재하지않는사용자", "010-9999-9999", null, null, null);
 
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
-        when(userRepository.findByNameAndPhoneNumber("존재하지않는사용자", "010-9999-9999"))
-                .thenReturn(Optional.empty());
+        when(userIdentityCache.findUserId("존재하지않는사용자", "010-9999-9999")).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+        assertThatThrownBy(() -> paymentService.processPayment(1L, request, null))
                 .isInstanceOf(NotFoundException.class);
     }
 
@@ -191,11 +300,10 @@ class PaymentServiceTest {
                 "다른사용자", "010-9999-9999", null, null, null);
 
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
-        when(userRepository.findByNameAndPhoneNumber("다른사용자", "010-9999-9999"))
-                .thenReturn(Optional.of(otherUser));
+        when(userIdentityCache.findUserId("다른사용자", "010-9999-9999")).thenReturn(Optional.of(otherUser.getId()));
 
         // when & then
-        assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+        assertThatThrownBy(() -> paymentService.processPayment(1L, request, null))
                 .isInstanceOf(BadRequestException.class);
     }
 
@@ -226,13 +334,38 @@ class PaymentServiceTest {
                 "홍길동", "010-1234-5678", null, null, null);
 
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(confirmedReservation));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
 
         // when & then
-        assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+        assertThatThrownBy(() -> paymentService.processPayment(1L, request, null))
                 .isInstanceOf(BadRequestException.class);
     }
 
+    @Test
+    @DisplayName("결제 기한이 지난 예약으로 결제 시도 시 예외 발생")
+    void processPayment_HoldExpired_ThrowsException() {
+        // given
+        Reservation expiredReservation = Reservation.create(
+                testUser,
+                testMeetingRoom,
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(14, 0)),
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(15, 0)),
+                50000,
+                LocalDateTime.now().minusMinutes(1)
+        );
+
+        PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", null, null, null);
+
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(expiredReservation));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(1L, request, null))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(paymentRepository);
+    }
+
     @Test
     @DisplayName("결제 상태 조회 성공")
     void getPaymentStatus_Success() {
@@ -242,7 +375,7 @@ class PaymentServiceTest {
         testPayment.updatePaymentProvider(testPaymentProvider);
 
         when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
 
         // when
         PaymentStatusResponseDto result = paymentService.getPaymentStatus(1L, request);
@@ -253,7 +386,7 @@ class PaymentServiceTest {
         assertThat(result.providerName()).isEqualTo("테스트결제사");
 
         verify(paymentRepository).findById(1L);
-        verify(userRepository).findByNameAndPhoneNumber("홍길동", "010-1234-5678");
+        verify(userIdentityCache).findUserId("홍길동", "010-1234-5678");
     }
 
     @Test
@@ -285,11 +418,51 @@ class PaymentServiceTest {
         PaymentStatusRequestDto request = new PaymentStatusRequestDto("다른사용자", "010-9999-9999");
 
         when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
-        when(userRepository.findByNameAndPhoneNumber("다른사용자", "010-9999-9999"))
-                .thenReturn(Optional.of(otherUser));
+        when(userIdentityCache.findUserId("다른사용자", "010-9999-9999")).thenReturn(Optional.of(otherUser.getId()));
 
         // when & then
         assertThatThrownBy(() -> paymentService.getPaymentStatus(1L, request))
                 .isInstanceOf(BadRequestException.class);
     }
+
+    @Test
+    @DisplayName("결제 상태 구독 시 대기 등록 후 현재 상태를 바로 전달")
+    void subscribePaymentStatus_SendsCurrentStatus() {
+        // given
+        PaymentStatusRequestDto request = new PaymentStatusRequestDto("홍길동", "010-1234-5678");
+        SseEmitter emitter = new SseEmitter();
+
+        when(statusNotifier.subscribe(1L)).thenReturn(emitter);
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+
+        // when
+        SseEmitter result = paymentService.subscribePaymentStatus(1L, request);
+
+        // then
+        assertThat(result).isSameAs(emitter);
+        InOrder inOrder = inOrder(statusNotifier, paymentRepository);
+        inOrder.verify(statusNotifier).subscribe(1L);
+        inOrder.verify(paymentRepository).findById(1L);
+        inOrder.verify(statusNotifier).send(eq(1L), eq(emitter), argThat(response -> "PENDING".equals(response.paymentStatus())));
+        verify(statusNotifier, never()).unsubscribe(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 결제 상태 구독 시 대기 해제 후 예외 발생")
+    void subscribePaymentStatus_InvalidUser_Unsubscribes() {
+        // given
+        PaymentStatusRequestDto request = new PaymentStatusRequestDto("다른사용자", "010-9999-9999");
+        SseEmitter emitter = new SseEmitter();
+
+        when(statusNotifier.subscribe(1L)).thenReturn(emitter);
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
+        when(userIdentityCache.findUserId("다른사용자", "010-9999-9999")).thenReturn(Optional.of(2L));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.subscribePaymentStatus(1L, request))
+                .isInstanceOf(BadRequestException.class);
+        verify(statusNotifier).unsubscribe(1L, emitter);
+        verify(statusNotifier, never()).send(any(), any(), any());
+    }
 }
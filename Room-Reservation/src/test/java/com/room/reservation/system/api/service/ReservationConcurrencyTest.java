@@ -0,0 +1,152 @@
+package com.room.reservation.system.api.service;
+
+import com.room.reservation.system.api.dto.reservation.ReservationCreateDto;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationSlotRepository;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.global.error.exception.BadRequestException;
+import com.room.reservation.system.global.error.model.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 슬롯 점유 테이블의 유니크 제약만으로 동시 예약이 차단되는지 검증하는 스트레스 테스트
+ * 여러 서버 인스턴스 상황을 재현하기 위해 메모리 점유 인덱스는 항상 통과시킨다.
+ */
+@SpringBootTest
+class ReservationConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+    private static final LocalTime START_TIME = LocalTime.of(10, 0);
+    private static final LocalTime END_TIME = LocalTime.of(11, 0);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @MockBean
+    private RoomOccupancyIndex occupancyIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(occupancyIndex.tryOccupy(any(), any(), any(), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationSlotRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 회의실, 같은 시간 동시 예약 시 하나만 성공")
+    void create_SameSlotConcurrently_OnlyOneSucceeds() throws Exception {
+        // given
+        List<ReservationCreateDto> requests = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            requests.add(new ReservationCreateDto(1L, TOMORROW, START_TIME, END_TIME, "홍길동", "010-1234-5678"));
+        }
+
+        // when
+        BookingResult result = bookConcurrently(requests);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.alreadyReserved()).isEqualTo(THREAD_COUNT - 1);
+        assertThat(result.unexpected()).isZero();
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 회의실 동시 예약은 모두 성공")
+    void create_DifferentRoomsConcurrently_AllSucceed() throws Exception {
+        // given
+        List<ReservationCreateDto> requests = new ArrayList<>();
+        for (long meetingRoomId = 1; meetingRoomId <= 5; meetingRoomId++) {
+            requests.add(new ReservationCreateDto(meetingRoomId, TOMORROW, START_TIME, END_TIME, "김길동", "010-2345-6789"));
+        }
+
+        // when
+        BookingResult result = bookConcurrently(requests);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(5);
+        assertThat(result.alreadyReserved()).isZero();
+        assertThat(result.unexpected()).isZero();
+    }
+
+    private BookingResult bookConcurrently(List<ReservationCreateDto> requests) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final List<Future<Outcome>> futures = new ArrayList<>();
+
+        for (ReservationCreateDto request : requests) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                try {
+                    reservationService.create(request);
+                    return Outcome.SUCCEEDED;
+                } catch (BadRequestException e) {
+                    return ErrorCode.ALREADY_RESERVED_TIME.getMessage().equals(e.getMessage())
+                            ? Outcome.ALREADY_RESERVED
+                            : Outcome.UNEXPECTED;
+                }
+            }));
+        }
+
+        startGate.countDown();
+
+        int succeeded = 0;
+        int alreadyReserved = 0;
+        int unexpected = 0;
+        for (Future<Outcome> future : futures) {
+            Outcome outcome;
+            try {
+                outcome = future.get(30, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                outcome = Outcome.UNEXPECTED;
+            }
+
+            switch (outcome) {
+                case SUCCEEDED -> succeeded++;
+                case ALREADY_RESERVED -> alreadyReserved++;
+                case UNEXPECTED -> unexpected++;
+            }
+        }
+        executor.shutdown();
+
+        return new BookingResult(succeeded, alreadyReserved, unexpected);
+    }
+
+    private enum Outcome {
+        SUCCEEDED, ALREADY_RESERVED, UNEXPECTED
+    }
+
+    private record BookingResult(int succeeded, int alreadyReserved, int unexpected) {
+    }
+}
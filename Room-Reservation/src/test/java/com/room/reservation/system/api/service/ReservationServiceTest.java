@@ -1,27 +1,42 @@
 package com.room.reservation.system.api.service;
 
 import com.room.reservation.system.api.dto.reservation.ReservationCreateDto;
+import com.room.reservation.system.api.dto.reservation.ReservationCursorDto;
 import com.room.reservation.system.api.dto.reservation.ReservationDeleteDto;
 import com.room.reservation.system.api.dto.reservation.ReservationReadAllDto;
+import com.room.reservation.system.api.dto.reservation.ReservationReadDto;
 import com.room.reservation.system.api.dto.reservation.ReservationReadRequestDto;
+import com.room.reservation.system.api.dto.reservation.ReservationRecurringCreateDto;
 import com.room.reservation.system.api.persistence.entity.MeetingRoom;
 import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
 import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.ReservationStatus;
 import com.room.reservation.system.api.persistence.entity.User;
 import com.room.reservation.system.api.persistence.repository.MeetingRoomRepository;
+import com.room.reservation.system.api.persistence.repository.PaymentOutboxRepository;
 import com.room.reservation.system.api.persistence.repository.PaymentRepository;
 import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationSlotRepository;
 import com.room.reservation.system.api.persistence.repository.UserRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.cache.UserIdentityCache;
+import com.room.reservation.system.api.service.hold.ReservationHoldService;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
 import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
@@ -32,6 +47,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +66,27 @@ class ReservationServiceTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Mock
+    private RoomOccupancyIndex occupancyIndex;
+
+    @Mock
+    private MeetingRoomAvailabilityCache availabilityCache;
+
+    @Mock
+    private ReservationHoldService holdService;
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    @Mock
+    private PaymentRefundService refundService;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -101,10 +139,11 @@ class ReservationServiceTest {
         // given
         LocalTime startTime = LocalTime.of(14, 0);
         LocalTime endTime = LocalTime.of(15, 0);
-        ReservationCreateDto dto = new ReservationCreateDto(1L, startTime, endTime, "홍길동", "010-1234-5678");
+        ReservationCreateDto dto = new ReservationCreateDto(1L, LocalDate.now(), startTime, endTime, "홍길동", "010-1234-5678");
 
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
 
         // when & then - 시간 검증 로직이 있으므로 예외가 발생할 수 있음
         // 실제로는 시간 검증 로직을 Mock하거나 다른 방법을 사용해야 함
@@ -112,11 +151,40 @@ class ReservationServiceTest {
                 .isInstanceOf(BadRequestException.class);
     }
 
+    @Test
+    @DisplayName("다른 날짜 예약 생성 성공 - 해당 날짜로 예약 시간 저장")
+    void createReservation_FutureDate_Success() {
+        // given
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        ReservationCreateDto dto = new ReservationCreateDto(1L, tomorrow, LocalTime.of(9, 0), LocalTime.of(10, 30),
+                "홍길동", "010-1234-5678");
+
+        when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
+        when(occupancyIndex.tryOccupy(1L, tomorrow, LocalTime.of(9, 0), LocalTime.of(10, 30))).thenReturn(true);
+        when(holdService.deadlineFrom(any(LocalDateTime.class))).thenReturn(LocalDateTime.now().plusMinutes(10));
+
+        // when
+        reservationService.create(dto);
+
+        // then
+        ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
+        verify(reservationRepository).save(captor.capture());
+        assertThat(captor.getValue().getStartTime()).isEqualTo(tomorrow.atTime(9, 0));
+        assertThat(captor.getValue().getEndTime()).isEqualTo(tomorrow.atTime(10, 30));
+        assertThat(captor.getValue().getTotalAmount()).isEqualTo(75000);
+        assertThat(captor.getValue().getHoldExpiresAt()).isNotNull();
+        verify(reservationSlotRepository).saveAllAndFlush(anyList());
+        verify(holdService).schedule(List.of(captor.getValue()));
+        verify(availabilityCache).invalidate(1L, tomorrow);
+    }
+
     @Test
     @DisplayName("존재하지 않는 회의실로 예약 시도 시 예외 발생")
     void createReservation_MeetingRoomNotFound_ThrowsException() {
         // given
-        ReservationCreateDto dto = new ReservationCreateDto(999L, LocalTime.of(14, 0), LocalTime.of(15, 0), 
+        ReservationCreateDto dto = new ReservationCreateDto(999L, LocalDate.now(), LocalTime.of(14, 0), LocalTime.of(15, 0), 
                 "홍길동", "010-1234-5678");
 
         when(meetingRoomRepository.findById(999L)).thenReturn(Optional.empty());
@@ -130,12 +198,11 @@ class ReservationServiceTest {
     @DisplayName("존재하지 않는 사용자로 예약 시도 시 예외 발생")
     void createReservation_UserNotFound_ThrowsException() {
         // given
-        ReservationCreateDto dto = new ReservationCreateDto(1L, LocalTime.of(14, 0), LocalTime.of(15, 0), 
+        ReservationCreateDto dto = new ReservationCreateDto(1L, LocalDate.now(), LocalTime.of(14, 0), LocalTime.of(15, 0), 
                 "존재하지않는사용자", "010-9999-9999");
 
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(userRepository.findByNameAndPhoneNumber("존재하지않는사용자", "010-9999-9999"))
-                .thenReturn(Optional.empty());
+        when(userIdentityCache.findUserId("존재하지않는사용자", "010-9999-9999")).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> reservationService.create(dto))
@@ -147,11 +214,12 @@ class ReservationServiceTest {
     void createReservation_PastTime_ThrowsException() {
         // given
         LocalTime pastTime = LocalTime.now().minusHours(1);
-        ReservationCreateDto dto = new ReservationCreateDto(1L, pastTime, LocalTime.of(15, 0), 
+        ReservationCreateDto dto = new ReservationCreateDto(1L, LocalDate.now(), pastTime, LocalTime.of(15, 0), 
                 "홍길동", "010-1234-5678");
 
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
 
         // when & then
         assertThatThrownBy(() -> reservationService.create(dto))
@@ -164,10 +232,11 @@ class ReservationServiceTest {
         // given
         LocalTime startTime = LocalTime.of(15, 0);
         LocalTime endTime = LocalTime.of(14, 0);
-        ReservationCreateDto dto = new ReservationCreateDto(1L, startTime, endTime, "홍길동", "010-1234-5678");
+        ReservationCreateDto dto = new ReservationCreateDto(1L, LocalDate.now(), startTime, endTime, "홍길동", "010-1234-5678");
 
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
 
         // when & then
         assertThatThrownBy(() -> reservationService.create(dto))
@@ -179,11 +248,12 @@ class ReservationServiceTest {
     void createReservation_InvalidTimeFormat_ThrowsException() {
         // given
         LocalTime invalidTime = LocalTime.of(14, 15);
-        ReservationCreateDto dto = new ReservationCreateDto(1L, invalidTime, LocalTime.of(15, 0), 
+        ReservationCreateDto dto = new ReservationCreateDto(1L, LocalDate.now(), invalidTime, LocalTime.of(15, 0), 
                 "홍길동", "010-1234-5678");
 
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
 
         // when & then
         assertThatThrownBy(() -> reservationService.create(dto))
@@ -196,42 +266,117 @@ class ReservationServiceTest {
         // given
         LocalTime startTime = LocalTime.of(14, 0);
         LocalTime endTime = LocalTime.of(15, 0);
-        ReservationCreateDto dto = new ReservationCreateDto(1L, startTime, endTime, "홍길동", "010-1234-5678");
-
-        Reservation existingReservation = Reservation.create(
-                testUser,
-                testMeetingRoom,
-                LocalDateTime.now().with(LocalTime.of(14, 30)),
-                LocalDateTime.now().with(LocalTime.of(15, 30)),
-                50000
-        );
-        // Reflection을 사용하여 id 설정
-        try {
-            java.lang.reflect.Field idField = Reservation.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(existingReservation, 2L);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        ReservationCreateDto dto = new ReservationCreateDto(1L, LocalDate.now(), startTime, endTime, "홍길동", "010-1234-5678");
 
         when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
-        when(userRepository.findByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findReservationsAfterCurrentTime(eq(1L), any(LocalDateTime.class)))
-                .thenReturn(Arrays.asList(existingReservation));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
+        // 현재 시간에 따라 시간 검증에서 먼저 실패할 수 있으므로 lenient 처리
+        lenient().when(occupancyIndex.tryOccupy(eq(1L), any(LocalDate.class), eq(startTime), eq(endTime)))
+                .thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> reservationService.create(dto))
                 .isInstanceOf(BadRequestException.class);
     }
 
+    @Test
+    @DisplayName("반복 예약 생성 성공 - 매주 같은 시간으로 일괄 저장")
+    void createRecurring_Success() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalTime startTime = LocalTime.of(10, 0);
+        LocalTime endTime = LocalTime.of(11, 0);
+        ReservationRecurringCreateDto dto = new ReservationRecurringCreateDto(
+                1L, startDate, 4, startTime, endTime, "홍길동", "010-1234-5678");
+        List<LocalDate> dates = List.of(startDate, startDate.plusWeeks(1), startDate.plusWeeks(2), startDate.plusWeeks(3));
+
+        when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
+        when(reservationSlotRepository.findClaimedDates(1L, dates, 20, 22)).thenReturn(Collections.emptyList());
+        when(occupancyIndex.tryOccupy(eq(1L), any(LocalDate.class), eq(startTime), eq(endTime))).thenReturn(true);
+
+        // when
+        int count = reservationService.createRecurring(dto);
+
+        // then
+        assertThat(count).isEqualTo(4);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Reservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(Reservation::getStartTime)
+                .containsExactly(
+                        startDate.atTime(10, 0),
+                        startDate.plusWeeks(1).atTime(10, 0),
+                        startDate.plusWeeks(2).atTime(10, 0),
+                        startDate.plusWeeks(3).atTime(10, 0)
+                );
+        verify(reservationSlotRepository, times(1)).findClaimedDates(1L, dates, 20, 22);
+        verify(reservationSlotRepository, times(1)).saveAllAndFlush(anyList());
+        dates.forEach(date -> verify(availabilityCache).invalidate(1L, date));
+    }
+
+    @Test
+    @DisplayName("반복 예약 중 한 회차라도 이미 예약되어 있으면 전체 실패")
+    void createRecurring_ClaimedDate_ThrowsException() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        ReservationRecurringCreateDto dto = new ReservationRecurringCreateDto(
+                1L, startDate, 3, LocalTime.of(10, 0), LocalTime.of(11, 0), "홍길동", "010-1234-5678");
+
+        when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
+        when(reservationSlotRepository.findClaimedDates(eq(1L), anyList(), anyInt(), anyInt()))
+                .thenReturn(List.of(startDate.plusWeeks(1)));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createRecurring(dto))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(occupancyIndex, never()).tryOccupy(any(), any(), any(), any());
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("반복 예약 중 점유 인덱스에서 충돌하면 앞서 점유한 회차를 되돌림")
+    void createRecurring_OccupancyConflict_ReleasesOccupiedDates() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalTime startTime = LocalTime.of(10, 0);
+        LocalTime endTime = LocalTime.of(11, 0);
+        ReservationRecurringCreateDto dto = new ReservationRecurringCreateDto(
+                1L, startDate, 3, startTime, endTime, "홍길동", "010-1234-5678");
+
+        when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(testMeetingRoom));
+        when(userIdentityCache.findUserId("홍길동", "010-1234-5678")).thenReturn(Optional.of(testUser.getId()));
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
+        when(reservationSlotRepository.findClaimedDates(eq(1L), anyList(), anyInt(), anyInt()))
+                .thenReturn(Collections.emptyList());
+        when(occupancyIndex.tryOccupy(1L, startDate, startTime, endTime)).thenReturn(true);
+        when(occupancyIndex.tryOccupy(1L, startDate.plusWeeks(1), startTime, endTime)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createRecurring(dto))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(occupancyIndex).release(1L, startDate, startTime, endTime);
+        verify(occupancyIndex, never()).tryOccupy(1L, startDate.plusWeeks(2), startTime, endTime);
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("예약 목록 조회 성공")
     void readAllReservations_Success() {
         // given
         ReservationReadRequestDto dto = new ReservationReadRequestDto("홍길동", "010-1234-5678");
-        List<Reservation> reservations = Arrays.asList(testReservation);
+        List<ReservationReadDto> reservations = Arrays.asList(readDto(1L, testReservation.getStartTime()));
 
-        when(reservationRepository.findAllReservationsByUser("홍길동", "010-1234-5678"))
+        when(reservationRepository.findReservationPageByUser(
+                "홍길동", "010-1234-5678", PageRequest.of(0, 21)))
                 .thenReturn(reservations);
 
         // when
@@ -240,7 +385,51 @@ class ReservationServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.reservations()).hasSize(1);
-        verify(reservationRepository).findAllReservationsByUser("홍길동", "010-1234-5678");
+        assertThat(result.nextCursor()).isNull();
+        verify(reservationRepository).findReservationPageByUser("홍길동", "010-1234-5678", PageRequest.of(0, 21));
+    }
+
+    @Test
+    @DisplayName("예약 목록이 페이지 크기보다 많으면 다음 커서 반환")
+    void readAllReservations_HasNext_ReturnsNextCursor() {
+        // given
+        LocalDateTime startTime = LocalDate.now().plusDays(1).atTime(10, 0);
+        ReservationReadRequestDto dto = new ReservationReadRequestDto("홍길동", "010-1234-5678", null, 2);
+
+        when(reservationRepository.findReservationPageByUser("홍길동", "010-1234-5678", PageRequest.of(0, 3)))
+                .thenReturn(List.of(
+                        readDto(1L, startTime),
+                        readDto(2L, startTime),
+                        readDto(3L, startTime.plusHours(1))
+                ));
+
+        // when
+        ReservationReadAllDto result = reservationService.readAllReservations(dto);
+
+        // then
+        assertThat(result.reservations()).extracting(ReservationReadDto::reservationId).containsExactly(1L, 2L);
+        assertThat(result.nextCursor()).isEqualTo(new ReservationCursorDto(startTime, 2L));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 이후부터 조회")
+    void readAllReservations_WithCursor_ReadsAfterCursor() {
+        // given
+        LocalDateTime startTime = LocalDate.now().plusDays(1).atTime(10, 0);
+        ReservationCursorDto cursor = new ReservationCursorDto(startTime, 2L);
+        ReservationReadRequestDto dto = new ReservationReadRequestDto("홍길동", "010-1234-5678", cursor, 2);
+
+        when(reservationRepository.findReservationPageByUserAfter(
+                "홍길동", "010-1234-5678", startTime, 2L, PageRequest.of(0, 3)))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        ReservationReadAllDto result = reservationService.readAllReservations(dto);
+
+        // then
+        assertThat(result.reservations()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
+        verify(reservationRepository, never()).findReservationPageByUser(any(), any(), any());
     }
 
     @Test
@@ -249,7 +438,8 @@ class ReservationServiceTest {
         // given
         ReservationReadRequestDto dto = new ReservationReadRequestDto("홍길동", "010-1234-5678");
 
-        when(reservationRepository.findAllReservationsByUser("홍길동", "010-1234-5678"))
+        when(reservationRepository.findReservationPageByUser(
+                "홍길동", "010-1234-5678", PageRequest.of(0, 21)))
                 .thenReturn(Collections.emptyList());
 
         // when & then
@@ -262,7 +452,7 @@ class ReservationServiceTest {
     void deleteReservation_Success() {
         // given
         ReservationDeleteDto dto = new ReservationDeleteDto("홍길동", "010-1234-5678", 1L);
-        Payment testPayment = Payment.create(50000, testReservation);
+        Payment testPayment = Payment.create(50000, testReservation, PaymentProviderType.CARD_PAYMENT);
         List<Payment> payments = Arrays.asList(testPayment);
 
         when(reservationRepository.findReservationByUserAndId("홍길동", "010-1234-5678", 1L))
@@ -274,9 +464,48 @@ class ReservationServiceTest {
 
         // then
         verify(reservationRepository).findReservationByUserAndId("홍길동", "010-1234-5678", 1L);
+        verify(reservationSlotRepository).deleteByReservationId(1L);
+        verify(paymentOutboxRepository).deleteByReservationId(1L);
         verify(paymentRepository).findByReservationId(1L);
+        verify(refundService).enqueue(payments);
         verify(paymentRepository).deleteAll(payments);
         verify(reservationRepository).delete(testReservation);
+        verify(occupancyIndex).release(testReservation);
+        verify(availabilityCache).invalidate(1L, testReservation.getStartTime().toLocalDate());
+    }
+
+    @Test
+    @DisplayName("만료 후 같은 시간대가 다시 예약되었으면 만료된 예약을 삭제해도 새 예약의 점유는 유지")
+    void deleteReservation_ExpiredThenRebooked_KeepsRebookedOccupancy() {
+        // given
+        RoomOccupancyIndex realOccupancyIndex = new RoomOccupancyIndex(reservationRepository);
+        ReservationService service = new ReservationService(meetingRoomRepository, userRepository,
+                reservationRepository, paymentRepository, paymentOutboxRepository, reservationSlotRepository,
+                realOccupancyIndex, availabilityCache, holdService, userIdentityCache, refundService);
+        LocalDate date = testReservation.getStartTime().toLocalDate();
+
+        // 만료 처리로 점유 해제
+        realOccupancyIndex.occupy(testReservation);
+        realOccupancyIndex.release(testReservation);
+        setField(testReservation, "status", ReservationStatus.EXPIRED);
+
+        // 같은 시간대 재예약
+        Reservation rebooked = Reservation.create(testUser, testMeetingRoom,
+                testReservation.getStartTime(), testReservation.getEndTime(), 50000);
+        realOccupancyIndex.occupy(rebooked);
+
+        when(reservationRepository.findReservationByUserAndId("홍길동", "010-1234-5678", 1L))
+                .thenReturn(Optional.of(testReservation));
+        when(paymentRepository.findByReservationId(1L)).thenReturn(Collections.emptyList());
+
+        // when
+        service.delete(new ReservationDeleteDto("홍길동", "010-1234-5678", 1L));
+
+        // then
+        assertThat(realOccupancyIndex.isAvailable(1L, date, LocalTime.of(14, 0), LocalTime.of(15, 0))).isFalse();
+        verify(reservationSlotRepository, never()).deleteByReservationId(any());
+        verify(reservationRepository).delete(testReservation);
+        verifyNoInteractions(availabilityCache);
     }
 
     @Test
@@ -292,4 +521,19 @@ class ReservationServiceTest {
         assertThatThrownBy(() -> reservationService.delete(dto))
                 .isInstanceOf(NotFoundException.class);
     }
+
+    private static ReservationReadDto readDto(Long reservationId, LocalDateTime startTime) {
+        return new ReservationReadDto(
+                reservationId, "홍길동", startTime, startTime.plusHours(1), 50000, "PENDING");
+    }
+
+    private static void setField(Reservation reservation, String name, Object value) {
+        try {
+            java.lang.reflect.Field field = Reservation.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(reservation, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
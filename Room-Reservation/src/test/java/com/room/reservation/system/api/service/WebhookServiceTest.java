@@ -1,9 +1,16 @@
 package com.room.reservation.system.api.service;
 
+import com.room.reservation.system.api.dto.payment.WebhookBatchResultDto;
 import com.room.reservation.system.api.dto.payment.WebhookPaymentDto;
 import com.room.reservation.system.api.persistence.entity.*;
-import com.room.reservation.system.api.persistence.repository.PaymentProviderRepository;
 import com.room.reservation.system.api.persistence.repository.PaymentRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.cache.PaymentProviderCache;
+import com.room.reservation.system.api.service.notification.PaymentStatusNotifier;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
+import com.room.reservation.system.api.service.webhook.PaymentWebhookDeduplicator;
+import com.room.reservation.system.global.error.exception.BadRequestException;
 import com.room.reservation.system.global.error.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,10 +19,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,7 +40,22 @@ class WebhookServiceTest {
     private PaymentRepository paymentRepository;
 
     @Mock
-    private PaymentProviderRepository paymentProviderRepository;
+    private PaymentProviderCache paymentProviderCache;
+
+    @Mock
+    private RoomOccupancyIndex occupancyIndex;
+
+    @Mock
+    private MeetingRoomAvailabilityCache availabilityCache;
+
+    @Mock
+    private PaymentStatusNotifier statusNotifier;
+
+    @Mock
+    private PaymentWebhookDeduplicator webhookDeduplicator;
+
+    @Mock
+    private PaymentRefundService refundService;
 
     @InjectMocks
     private WebhookService webhookService;
@@ -42,6 +68,8 @@ class WebhookServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(webhookService, "maxBatchSize", 3);
+
         testUser = new User("홍길동", "010-1234-5678");
         // Reflection을 사용하여 id 설정
         try {
@@ -78,7 +106,8 @@ class WebhookServiceTest {
             throw new RuntimeException(e);
         }
 
-        testPayment = Payment.create(50000, testReservation);
+        testPayment = Payment.create(50000, testReservation, PaymentProviderType.CARD_PAYMENT);
+        testPayment.updateExternalPaymentId("ext_123");
         // Reflection을 사용하여 id 설정
         try {
             java.lang.reflect.Field idField = Payment.class.getDeclaredField("id");
@@ -108,21 +137,130 @@ class WebhookServiceTest {
                 "ext_123", "SUCCESS", 50000, "txn_123", "결제 성공", 
                 "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
 
-        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
-        when(paymentProviderRepository.findByName("테스트결제사")).thenReturn(Optional.of(testPaymentProvider));
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenReturn(Optional.of(testPayment));
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
 
         // when
         webhookService.processPaymentWebhook(providerType, webhookData);
 
         // then
-        verify(paymentRepository).findById(1L);
-        verify(paymentProviderRepository).findByName("테스트결제사");
+        verify(paymentRepository).findWithReservationByExternalPaymentIdForUpdate("ext_123");
+        verify(paymentProviderCache).getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth");
         
         // 결제 상태가 SUCCESS로 변경되었는지 확인
         assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
         
         // 예약 상태가 CONFIRMED로 변경되었는지 확인
         assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verify(occupancyIndex).occupy(testReservation);
+        verify(availabilityCache).invalidate(1L, testReservation.getStartTime().toLocalDate());
+
+        // 처리 기록이 남았는지 확인
+        verify(webhookDeduplicator).record("ext_123", "txn_123");
+
+        // 결제 상태를 기다리는 클라이언트에 전달되었는지 확인
+        verify(statusNotifier).publish(eq(1L), argThat(response ->
+                "SUCCESS".equals(response.paymentStatus()) && "테스트결제사".equals(response.providerName())));
+    }
+
+    @Test
+    @DisplayName("외부 결제 ID가 아직 기록되지 않은 결제는 내부 결제 ID로 조회")
+    void processPaymentWebhook_ExternalIdNotRecorded_FallsBackToPaymentId() {
+        // given
+        WebhookPaymentDto webhookData = new WebhookPaymentDto(
+                "ext_new", "SUCCESS", 50000, "txn_123", "결제 성공",
+                "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
+
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_new")).thenReturn(Optional.empty());
+        when(paymentRepository.findWithReservationByIdForUpdate(1L)).thenReturn(Optional.of(testPayment));
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
+
+        // when
+        webhookService.processPaymentWebhook("CARD_PAYMENT", webhookData);
+
+        // then
+        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("이미 처리한 웹훅은 결제를 조회하거나 변경하지 않음")
+    void processPaymentWebhook_Duplicate_Skipped() {
+        // given
+        WebhookPaymentDto webhookData = new WebhookPaymentDto(
+                "ext_123", "SUCCESS", 50000, "txn_123", "결제 성공",
+                "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
+        when(webhookDeduplicator.isDuplicate("ext_123", "txn_123")).thenReturn(true);
+
+        // when
+        webhookService.processPaymentWebhook("CARD_PAYMENT", webhookData);
+
+        // then
+        verify(webhookDeduplicator, never()).record(any(), any());
+        verifyNoInteractions(paymentRepository, paymentProviderCache, statusNotifier);
+        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("만료된 예약의 결제 성공 웹훅 처리 - 예약을 확정하지 않고 환불 요청")
+    void processPaymentWebhook_ExpiredReservation_NotConfirmed() {
+        // given
+        String providerType = "CARD_PAYMENT";
+        WebhookPaymentDto webhookData = new WebhookPaymentDto(
+                "ext_123", "SUCCESS", 50000, "txn_123", "결제 성공",
+                "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
+        try {
+            java.lang.reflect.Field statusField = Reservation.class.getDeclaredField("status");
+            statusField.setAccessible(true);
+            statusField.set(testReservation, ReservationStatus.EXPIRED);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenReturn(Optional.of(testPayment));
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
+
+        // when
+        webhookService.processPaymentWebhook(providerType, webhookData);
+
+        // then
+        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        verify(refundService).enqueue(List.of(testPayment));
+        verifyNoInteractions(occupancyIndex, availabilityCache);
+    }
+
+    @Test
+    @DisplayName("외부 결제 ID가 기록되기 전에 만료된 예약의 결제 성공 웹훅 - 웹훅의 외부 결제 ID로 환불 요청")
+    void processPaymentWebhook_ExpiredReservationWithoutExternalId_RecordsAndRefunds() {
+        // given
+        Payment payment = Payment.create(50000, testReservation, PaymentProviderType.CARD_PAYMENT);
+        WebhookPaymentDto webhookData = new WebhookPaymentDto(
+                "ext_new", "SUCCESS", 50000, "txn_123", "결제 성공",
+                "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "2");
+        try {
+            java.lang.reflect.Field statusField = Reservation.class.getDeclaredField("status");
+            statusField.setAccessible(true);
+            statusField.set(testReservation, ReservationStatus.EXPIRED);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_new")).thenReturn(Optional.empty());
+        when(paymentRepository.findWithReservationByIdForUpdate(2L)).thenReturn(Optional.of(payment));
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
+
+        // when
+        webhookService.processPaymentWebhook("CARD_PAYMENT", webhookData);
+
+        // then
+        assertThat(payment.getExternalPaymentId()).isEqualTo("ext_new");
+        assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        verify(refundService).enqueue(List.of(payment));
     }
 
     @Test
@@ -134,15 +272,16 @@ class WebhookServiceTest {
                 "ext_123", "FAILED", 50000, "txn_123", "결제 실패", 
                 "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
 
-        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
-        when(paymentProviderRepository.findByName("테스트결제사")).thenReturn(Optional.of(testPaymentProvider));
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenReturn(Optional.of(testPayment));
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
 
         // when
         webhookService.processPaymentWebhook(providerType, webhookData);
 
         // then
-        verify(paymentRepository).findById(1L);
-        verify(paymentProviderRepository).findByName("테스트결제사");
+        verify(paymentRepository).findWithReservationByExternalPaymentIdForUpdate("ext_123");
+        verify(paymentProviderCache).getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth");
         
         // 결제 상태가 FAILED로 변경되었는지 확인
         assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.FAILED);
@@ -160,15 +299,16 @@ class WebhookServiceTest {
                 "ext_123", "CANCELLED", 50000, "txn_123", "결제 취소", 
                 "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
 
-        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
-        when(paymentProviderRepository.findByName("테스트결제사")).thenReturn(Optional.of(testPaymentProvider));
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenReturn(Optional.of(testPayment));
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
 
         // when
         webhookService.processPaymentWebhook(providerType, webhookData);
 
         // then
-        verify(paymentRepository).findById(1L);
-        verify(paymentProviderRepository).findByName("테스트결제사");
+        verify(paymentRepository).findWithReservationByExternalPaymentIdForUpdate("ext_123");
+        verify(paymentProviderCache).getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth");
         
         // 결제 상태가 CANCELLED로 변경되었는지 확인
         assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
@@ -186,35 +326,36 @@ class WebhookServiceTest {
                 "ext_123", "SUCCESS", 50000, "txn_123", "결제 성공", 
                 "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "999");
 
-        when(paymentRepository.findById(999L)).thenReturn(Optional.empty());
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenReturn(Optional.empty());
+        when(paymentRepository.findWithReservationByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> webhookService.processPaymentWebhook(providerType, webhookData))
                 .isInstanceOf(NotFoundException.class);
 
-        verify(paymentRepository).findById(999L);
+        verify(paymentRepository).findWithReservationByIdForUpdate(999L);
     }
 
     @Test
-    @DisplayName("새로운 결제사로 웹훅 처리 - 새로운 PaymentProvider 생성")
+    @DisplayName("새로운 결제사로 웹훅 처리 - 결제사 캐시에서 조회/등록한 결제사로 반영")
     void processPaymentWebhook_NewPaymentProvider_CreatesNewProvider() {
         // given
         String providerType = "CARD_PAYMENT";
         WebhookPaymentDto webhookData = new WebhookPaymentDto(
                 "ext_123", "SUCCESS", 50000, "txn_123", "결제 성공", 
                 "새로운결제사", "http://new.com", "new_auth", "CARD_PAYMENT", "1");
+        PaymentProvider newProvider = PaymentProvider.create("새로운결제사", PaymentProviderType.CARD_PAYMENT, "http://new.com", "new_auth");
 
-        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
-        when(paymentProviderRepository.findByName("새로운결제사")).thenReturn(Optional.empty());
-        when(paymentProviderRepository.save(any(PaymentProvider.class))).thenReturn(testPaymentProvider);
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenReturn(Optional.of(testPayment));
+        when(paymentProviderCache.getOrCreate("새로운결제사", PaymentProviderType.CARD_PAYMENT, "http://new.com", "new_auth"))
+                .thenReturn(newProvider);
 
         // when
         webhookService.processPaymentWebhook(providerType, webhookData);
 
         // then
-        verify(paymentRepository).findById(1L);
-        verify(paymentProviderRepository).findByName("새로운결제사");
-        verify(paymentProviderRepository).save(any(PaymentProvider.class));
+        verify(paymentRepository).findWithReservationByExternalPaymentIdForUpdate("ext_123");
+        assertThat(testPayment.getPaymentProvider()).isEqualTo(newProvider);
     }
 
     @Test
@@ -226,15 +367,16 @@ class WebhookServiceTest {
                 "ext_123", "UNKNOWN_STATUS", 50000, "txn_123", "알 수 없는 상태", 
                 "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
 
-        when(paymentRepository.findById(1L)).thenReturn(Optional.of(testPayment));
-        when(paymentProviderRepository.findByName("테스트결제사")).thenReturn(Optional.of(testPaymentProvider));
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenReturn(Optional.of(testPayment));
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
 
         // when
         webhookService.processPaymentWebhook(providerType, webhookData);
 
         // then
-        verify(paymentRepository).findById(1L);
-        verify(paymentProviderRepository).findByName("테스트결제사");
+        verify(paymentRepository).findWithReservationByExternalPaymentIdForUpdate("ext_123");
+        verify(paymentProviderCache).getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth");
         
         // 알 수 없는 상태가 FAILED로 처리되었는지 확인
         assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.FAILED);
@@ -252,13 +394,105 @@ class WebhookServiceTest {
                 "ext_123", "SUCCESS", 50000, "txn_123", "결제 성공", 
                 "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
 
-        when(paymentRepository.findById(1L)).thenThrow(new RuntimeException("Database error"));
+        when(paymentRepository.findWithReservationByExternalPaymentIdForUpdate("ext_123")).thenThrow(new RuntimeException("Database error"));
 
         // when & then
         assertThatThrownBy(() -> webhookService.processPaymentWebhook(providerType, webhookData))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Database error");
 
-        verify(paymentRepository).findById(1L);
+        verify(paymentRepository).findWithReservationByExternalPaymentIdForUpdate("ext_123");
+    }
+
+    @Test
+    @DisplayName("웹훅 묶음 일괄 처리 - 결제를 한 번에 조회하고 없는 결제는 건너뜀")
+    void processPaymentWebhooks_AppliesInBulkAndSkipsUnknown() {
+        // given
+        List<WebhookPaymentDto> webhooks = List.of(
+                new WebhookPaymentDto("ext_123", "SUCCESS", 50000, "txn_123", "결제 성공",
+                        "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1"),
+                new WebhookPaymentDto("ext_999", "SUCCESS", 50000, "txn_999", "결제 성공",
+                        "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "999"));
+
+        when(paymentRepository.findAllWithReservationByExternalPaymentIdInForUpdate(Set.of("ext_123", "ext_999")))
+                .thenReturn(List.of(testPayment));
+        when(paymentRepository.findAllWithReservationByIdInForUpdate(Set.of(999L))).thenReturn(List.of());
+        when(paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth"))
+                .thenReturn(testPaymentProvider);
+
+        // when
+        WebhookBatchResultDto result = webhookService.processPaymentWebhooks("CARD_PAYMENT", webhooks);
+
+        // then
+        assertThat(result).isEqualTo(new WebhookBatchResultDto(2, 1, 1));
+        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(testPayment.getPaymentProvider()).isEqualTo(testPaymentProvider);
+        assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verify(paymentRepository, never()).findWithReservationByExternalPaymentIdForUpdate(any());
+        verify(paymentProviderCache, times(1)).getOrCreate(any(), any(), any(), any());
+        verify(statusNotifier).publish(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("웹훅 묶음 일괄 처리 - 같은 결제의 웹훅은 마지막 웹훅 상태로 반영")
+    void processPaymentWebhooks_SamePayment_LastWins() {
+        // given
+        List<WebhookPaymentDto> webhooks = List.of(
+                new WebhookPaymentDto("ext_123", "FAILED", 50000, "txn_123", "결제 실패",
+                        "새로운결제사", "http://new.com", "new_auth", "CARD_PAYMENT", "1"),
+                new WebhookPaymentDto("ext_123", "CANCELLED", 50000, "txn_124", "결제 취소",
+                        "새로운결제사", "http://new.com", "new_auth", "CARD_PAYMENT", "1"));
+
+        when(paymentRepository.findAllWithReservationByExternalPaymentIdInForUpdate(Set.of("ext_123")))
+                .thenReturn(List.of(testPayment));
+        when(paymentProviderCache.getOrCreate("새로운결제사", PaymentProviderType.CARD_PAYMENT, "http://new.com", "new_auth"))
+                .thenReturn(PaymentProvider.create("새로운결제사", PaymentProviderType.CARD_PAYMENT, "http://new.com", "new_auth"));
+
+        // when
+        WebhookBatchResultDto result = webhookService.processPaymentWebhooks("CARD_PAYMENT", webhooks);
+
+        // then
+        assertThat(result).isEqualTo(new WebhookBatchResultDto(2, 2, 0));
+        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(testPayment.getPaymentProvider().getName()).isEqualTo("새로운결제사");
+        verify(paymentProviderCache, times(1)).getOrCreate(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("웹훅 묶음 일괄 처리 - 이미 처리한 웹훅은 건너뜀")
+    void processPaymentWebhooks_Duplicate_Skipped() {
+        // given
+        List<WebhookPaymentDto> webhooks = List.of(
+                new WebhookPaymentDto("ext_123", "SUCCESS", 50000, "txn_123", "결제 성공",
+                        "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1"));
+
+        when(paymentRepository.findAllWithReservationByExternalPaymentIdInForUpdate(Set.of("ext_123")))
+                .thenReturn(List.of(testPayment));
+        when(webhookDeduplicator.isDuplicate("ext_123", "txn_123")).thenReturn(true);
+        lenient().when(paymentProviderCache.getOrCreate(any(), any(), any(), any())).thenReturn(testPaymentProvider);
+
+        // when
+        WebhookBatchResultDto result = webhookService.processPaymentWebhooks("CARD_PAYMENT", webhooks);
+
+        // then
+        assertThat(result).isEqualTo(new WebhookBatchResultDto(1, 0, 1));
+        assertThat(testPayment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(webhookDeduplicator, never()).record(any(), any());
+    }
+
+    @Test
+    @DisplayName("웹훅 묶음이 최대 건수를 넘거나 비어 있으면 예외 발생")
+    void processPaymentWebhooks_InvalidSize_ThrowsException() {
+        // given
+        WebhookPaymentDto webhookData = new WebhookPaymentDto(
+                "ext_123", "SUCCESS", 50000, "txn_123", "결제 성공",
+                "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", "1");
+
+        // when & then
+        assertThatThrownBy(() -> webhookService.processPaymentWebhooks("CARD_PAYMENT", Collections.nCopies(4, webhookData)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> webhookService.processPaymentWebhooks("CARD_PAYMENT", List.of()))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(paymentRepository, paymentProviderCache);
     }
 }
@@ -0,0 +1,122 @@
+package com.room.reservation.system.api.service.cache;
+
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomDetailDto;
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomReadDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeetingRoomAvailabilityCacheTest {
+
+    private static final int MAX_ENTRIES = 2;
+
+    private final MeetingRoomAvailabilityCache cache = new MeetingRoomAvailabilityCache(MAX_ENTRIES);
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    @DisplayName("동시에 같은 키를 조회하면 한 번만 적재")
+    void get_ConcurrentMisses_LoadsOnce() throws Exception {
+        // given
+        final int threadCount = 16;
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        final List<Future<MeetingRoomDetailDto>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                return cache.get(1L, today, () -> {
+                    loadCount.incrementAndGet();
+                    sleep(100);
+                    return detail("A회의실");
+                });
+            }));
+        }
+        startLatch.countDown();
+
+        final List<MeetingRoomDetailDto> results = new ArrayList<>();
+        for (Future<MeetingRoomDetailDto> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(results).allSatisfy(result -> assertThat(result).isSameAs(results.get(0)));
+    }
+
+    @Test
+    @DisplayName("회의실과 날짜가 다르면 별도로 적재")
+    void get_DifferentKeys_LoadedSeparately() {
+        // when
+        MeetingRoomDetailDto first = cache.get(1L, today, () -> detail("A회의실"));
+        MeetingRoomDetailDto otherRoom = cache.get(2L, today, () -> detail("B회의실"));
+        MeetingRoomDetailDto otherDate = cache.get(1L, today.plusDays(1), () -> detail("A회의실"));
+
+        // then
+        assertThat(otherRoom).isNotSameAs(first);
+        assertThat(otherDate).isNotSameAs(first);
+        assertThat(cache.get(1L, today, () -> detail("A회의실"))).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("적재 실패는 캐시하지 않음")
+    void get_LoaderFails_NotCached() {
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L, today, () -> {
+            throw new IllegalStateException("적재 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        MeetingRoomDetailDto result = cache.get(1L, today, () -> detail("A회의실"));
+        assertThat(result.meetingRoom().name()).isEqualTo("A회의실");
+    }
+
+    @Test
+    @DisplayName("항목이 최대 개수에 이르면 새 키는 캐시하지 않고 매번 적재")
+    void get_Full_NewKeyNotCached() {
+        // given
+        final AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, today, () -> detail("A회의실"));
+        cache.get(2L, today, () -> detail("B회의실"));
+
+        // when
+        cache.get(3L, today, () -> {
+            loadCount.incrementAndGet();
+            return detail("C회의실");
+        });
+        cache.get(3L, today, () -> {
+            loadCount.incrementAndGet();
+            return detail("C회의실");
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private static MeetingRoomDetailDto detail(String name) {
+        return new MeetingRoomDetailDto(new MeetingRoomReadDto(1L, name, 10, 25000, true), Collections.emptyList());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.room.reservation.system.api.service.cache;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProvider;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.repository.PaymentProviderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentProviderCacheTest {
+
+    @Mock
+    private PaymentProviderRepository paymentProviderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentProviderCache paymentProviderCache;
+    private PaymentProvider testPaymentProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentProviderCache = new PaymentProviderCache(paymentProviderRepository, meterRegistry);
+        testPaymentProvider = PaymentProvider.create("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth");
+    }
+
+    @Test
+    @DisplayName("같은 결제사는 한 번만 조회하고 이후 캐시에서 응답")
+    void getOrCreate_Repeated_ServedFromCache() {
+        // given
+        when(paymentProviderRepository.findByName("테스트결제사")).thenReturn(Optional.of(testPaymentProvider));
+
+        // when
+        PaymentProvider first = getOrCreate();
+        PaymentProvider second = getOrCreate();
+
+        // then
+        assertThat(first).isSameAs(testPaymentProvider);
+        assertThat(second).isSameAs(testPaymentProvider);
+        verify(paymentProviderRepository, times(1)).findByName("테스트결제사");
+        verify(paymentProviderRepository, never()).saveAndFlush(any());
+        assertThat(paymentProviderCache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("payment.provider.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처음 보는 결제사를 동시에 요청해도 한 번만 등록")
+    void getOrCreate_ConcurrentMiss_InsertsOnce() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(paymentProviderRepository.findByName("테스트결제사")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        when(paymentProviderRepository.saveAndFlush(any(PaymentProvider.class))).thenReturn(testPaymentProvider);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Callable<PaymentProvider> task = this::getOrCreate;
+
+            // when
+            Future<PaymentProvider> first = executor.submit(task);
+            loading.await(1, TimeUnit.SECONDS);
+            Future<PaymentProvider> second = executor.submit(task);
+            release.countDown();
+
+            // then
+            assertThat(List.of(first.get(1, TimeUnit.SECONDS), second.get(1, TimeUnit.SECONDS)))
+                    .containsOnly(testPaymentProvider);
+            verify(paymentProviderRepository, times(1)).findByName("테스트결제사");
+            verify(paymentProviderRepository, times(1)).saveAndFlush(any(PaymentProvider.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 등록해 unique 제약에 걸리면 예외를 전달하고, 다음 요청은 등록된 결제사를 다시 조회")
+    void getOrCreate_UniqueViolation_PropagatesAndReloads() {
+        // given
+        when(paymentProviderRepository.findByName("테스트결제사"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(testPaymentProvider));
+        when(paymentProviderRepository.saveAndFlush(any(PaymentProvider.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // when
+        assertThatThrownBy(this::getOrCreate).isInstanceOf(DataIntegrityViolationException.class);
+        PaymentProvider result = getOrCreate();
+
+        // then
+        assertThat(result).isSameAs(testPaymentProvider);
+        verify(paymentProviderRepository, times(2)).findByName("테스트결제사");
+    }
+
+    private PaymentProvider getOrCreate() {
+        return paymentProviderCache.getOrCreate("테스트결제사", PaymentProviderType.CARD_PAYMENT, "http://test.com", "auth");
+    }
+}
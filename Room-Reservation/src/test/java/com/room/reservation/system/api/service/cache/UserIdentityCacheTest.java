@@ -0,0 +1,78 @@
+package com.room.reservation.system.api.service.cache;
+
+import com.room.reservation.system.api.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserIdentityCache userIdentityCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userIdentityCache = new UserIdentityCache(userRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 한 번만 조회하고 이후 캐시에서 응답")
+    void findUserId_Repeated_ServedFromCache() {
+        // given
+        when(userRepository.findIdByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(1L));
+
+        // when
+        Optional<Long> first = userIdentityCache.findUserId("홍길동", "010-1234-5678");
+        Optional<Long> second = userIdentityCache.findUserId("홍길동", "010-1234-5678");
+
+        // then
+        assertThat(first).contains(1L);
+        assertThat(second).contains(1L);
+        verify(userRepository, times(1)).findIdByNameAndPhoneNumber("홍길동", "010-1234-5678");
+        assertThat(userIdentityCache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("user.identity.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자도 캐시하여 DB 조회 없이 거절")
+    void findUserId_UnknownUser_NegativeCached() {
+        // given
+        when(userRepository.findIdByNameAndPhoneNumber("존재하지않는사용자", "010-9999-9999")).thenReturn(Optional.empty());
+
+        // when
+        Optional<Long> first = userIdentityCache.findUserId("존재하지않는사용자", "010-9999-9999");
+        Optional<Long> second = userIdentityCache.findUserId("존재하지않는사용자", "010-9999-9999");
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(userRepository, times(1)).findIdByNameAndPhoneNumber("존재하지않는사용자", "010-9999-9999");
+    }
+
+    @Test
+    @DisplayName("이름이 같아도 전화번호가 다르면 다른 사용자")
+    void findUserId_DifferentPhoneNumber_LoadedSeparately() {
+        // given
+        when(userRepository.findIdByNameAndPhoneNumber("홍길동", "010-1234-5678")).thenReturn(Optional.of(1L));
+        when(userRepository.findIdByNameAndPhoneNumber("홍길동", "010-0000-0000")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(userIdentityCache.findUserId("홍길동", "010-1234-5678")).contains(1L);
+        assertThat(userIdentityCache.findUserId("홍길동", "010-0000-0000")).isEmpty();
+    }
+}
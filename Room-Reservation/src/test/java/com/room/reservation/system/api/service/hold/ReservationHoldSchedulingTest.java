@@ -0,0 +1,86 @@
+package com.room.reservation.system.api.service.hold;
+
+import com.room.reservation.system.api.service.outbox.PaymentOutboxDispatcher;
+import com.room.reservation.system.api.service.outbox.PaymentOutboxService;
+import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * application.yml의 스케줄러 스레드 풀 설정으로, 결제사 응답을 기다리는 발송기가 예약 만료 타이머를 막지 않는지 확인
+ */
+class ReservationHoldSchedulingTest {
+
+    private static final CountDownLatch dispatchInFlight = new CountDownLatch(1);
+    private static final CountDownLatch releaseDispatch = new CountDownLatch(1);
+    private static final CountDownLatch ticksDuringDispatch = new CountDownLatch(3);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withConfiguration(AutoConfigurations.of(TaskSchedulingAutoConfiguration.class))
+            .withUserConfiguration(SchedulingConfig.class);
+
+    @Test
+    @DisplayName("결제 요청 발송이 결제사 응답을 기다리는 동안에도 예약 만료 타이머는 계속 돈다")
+    void tick_KeepsFiring_WhileDispatchInFlight() {
+        contextRunner.run(context -> {
+            try {
+                // given
+                assertThat(dispatchInFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+                // when & then
+                assertThat(ticksDuringDispatch.await(10, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                releaseDispatch.countDown();
+            }
+        });
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfig {
+
+        @Bean
+        ReservationHoldScheduler reservationHoldScheduler() {
+            ReservationHoldWheel holdWheel = mock(ReservationHoldWheel.class);
+            when(holdWheel.advance(anyLong())).thenAnswer(invocation -> {
+                if (dispatchInFlight.getCount() == 0) {
+                    ticksDuringDispatch.countDown();
+                }
+                return List.of();
+            });
+            return new ReservationHoldScheduler(holdWheel, mock(ReservationHoldService.class));
+        }
+
+        @Bean
+        PaymentOutboxDispatcher paymentOutboxDispatcher() {
+            PaymentOutboxService outboxService = mock(PaymentOutboxService.class);
+            // 결제사 응답을 기다리는 배치처럼 스케줄러 스레드를 붙잡는다.
+            when(outboxService.claimDue(anyInt())).thenAnswer(invocation -> {
+                dispatchInFlight.countDown();
+                releaseDispatch.await(15, TimeUnit.SECONDS);
+                return List.of();
+            });
+            return new PaymentOutboxDispatcher(outboxService, mock(PaymentStrategyFactory.class),
+                    mock(PaymentProviderGuard.class), 50, 1);
+        }
+    }
+}
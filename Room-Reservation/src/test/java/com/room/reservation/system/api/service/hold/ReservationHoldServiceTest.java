@@ -0,0 +1,191 @@
+package com.room.reservation.system.api.service.hold;
+
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.ReservationStatus;
+import com.room.reservation.system.api.persistence.entity.User;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationSlotRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationHoldServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Mock
+    private RoomOccupancyIndex occupancyIndex;
+
+    @Mock
+    private MeetingRoomAvailabilityCache availabilityCache;
+
+    @Mock
+    private ReservationHoldWheel holdWheel;
+
+    @InjectMocks
+    private ReservationHoldService holdService;
+
+    private Reservation expiredReservation;
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        MeetingRoom testMeetingRoom = new MeetingRoom("A회의실", 10, 25000);
+        // Reflection을 사용하여 id 설정
+        try {
+            java.lang.reflect.Field idField = MeetingRoom.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(testMeetingRoom, 1L);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        expiredReservation = Reservation.create(
+                new User("홍길동", "010-1234-5678"),
+                testMeetingRoom,
+                tomorrow.atTime(14, 0),
+                tomorrow.atTime(15, 0),
+                50000,
+                LocalDateTime.now().minusMinutes(1)
+        );
+        // Reflection을 사용하여 id 설정
+        try {
+            java.lang.reflect.Field idField = Reservation.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(expiredReservation, 1L);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("기한이 지난 예약을 일괄 만료하고 슬롯 반환")
+    void expire_ExpiredHolds_BulkExpiresAndReleases() {
+        // given
+        when(reservationRepository.findExpiredHoldsForUpdate(eq(List.of(1L, 2L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(expiredReservation));
+
+        // when
+        int count = holdService.expire(List.of(1L, 2L));
+
+        // then
+        assertThat(count).isEqualTo(1);
+        verify(reservationRepository).expireAll(List.of(1L));
+        verify(reservationSlotRepository).deleteByReservationIdIn(List.of(1L));
+        verify(occupancyIndex).release(expiredReservation);
+        verify(availabilityCache).invalidate(1L, tomorrow);
+    }
+
+    @Test
+    @DisplayName("그 사이 확정된 예약은 만료하지 않음")
+    void expire_NoLongerPending_Skipped() {
+        // given
+        when(reservationRepository.findExpiredHoldsForUpdate(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        int count = holdService.expire(List.of(1L));
+
+        // then
+        assertThat(count).isZero();
+        verify(reservationRepository, never()).expireAll(anyCollection());
+        verifyNoInteractions(reservationSlotRepository, occupancyIndex, availabilityCache);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 만료시킨 예약도 점유 인덱스에서 해제하고, 같은 날 다시 잡힌 예약은 다시 점유")
+    void expire_AlreadyExpiredElsewhere_ReleasesLocalIndex() {
+        // given
+        setField(expiredReservation, "status", ReservationStatus.EXPIRED);
+        Reservation rebooked = Reservation.create(
+                expiredReservation.getUser(),
+                expiredReservation.getMeetingRoom(),
+                tomorrow.atTime(14, 0),
+                tomorrow.atTime(15, 0),
+                50000
+        );
+        when(reservationRepository.findExpiredHoldsForUpdate(eq(List.of(1L)), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        when(reservationRepository.findExpiredIn(List.of(1L))).thenReturn(List.of(expiredReservation));
+        when(reservationRepository.findReservationsBetween(
+                eq(1L), eq(tomorrow.atStartOfDay()), eq(tomorrow.plusDays(1).atStartOfDay()), any(LocalDateTime.class)))
+                .thenReturn(List.of(rebooked));
+
+        // when
+        int count = holdService.expire(List.of(1L));
+
+        // then
+        assertThat(count).isZero();
+        verify(reservationRepository, never()).expireAll(anyCollection());
+        verifyNoInteractions(reservationSlotRepository);
+        InOrder inOrder = inOrder(occupancyIndex);
+        inOrder.verify(occupancyIndex).release(expiredReservation);
+        inOrder.verify(occupancyIndex).occupy(rebooked);
+        verify(availabilityCache).invalidate(1L, tomorrow);
+    }
+
+    @Test
+    @DisplayName("결제 기한이 있는 예약만 만료 타이머에 등록")
+    void schedule_OnlyHoldsWithDeadline() {
+        // given
+        Reservation withoutHold = Reservation.create(
+                expiredReservation.getUser(),
+                expiredReservation.getMeetingRoom(),
+                tomorrow.atTime(16, 0),
+                tomorrow.atTime(17, 0),
+                50000
+        );
+
+        // when
+        holdService.schedule(List.of(expiredReservation, withoutHold));
+
+        // then
+        verify(holdWheel).schedule(1L, expiredReservation.getHoldExpiresAt());
+        verifyNoMoreInteractions(holdWheel);
+    }
+
+    @Test
+    @DisplayName("만료 처리된 예약은 유효하지 않음")
+    void reservation_IsExpired() {
+        // when & then
+        assertThat(expiredReservation.isExpired(LocalDateTime.now())).isTrue();
+        assertThat(expiredReservation.isExpired(LocalDateTime.now().minusMinutes(5))).isFalse();
+
+        expiredReservation.confirm();
+        assertThat(expiredReservation.isExpired(LocalDateTime.now())).isFalse();
+        assertThat(expiredReservation.getHoldExpiresAt()).isNull();
+    }
+
+    private static void setField(Reservation reservation, String name, Object value) {
+        try {
+            java.lang.reflect.Field field = Reservation.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(reservation, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
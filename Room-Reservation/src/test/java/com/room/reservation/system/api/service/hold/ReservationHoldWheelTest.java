@@ -0,0 +1,60 @@
+package com.room.reservation.system.api.service.hold;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationHoldWheelTest {
+
+    private final ReservationHoldWheel holdWheel = new ReservationHoldWheel();
+
+    @Test
+    @DisplayName("만료 시각이 지난 예약만 반환")
+    void advance_ReturnsOnlyExpiredHolds() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        holdWheel.schedule(1L, now.plusSeconds(2));
+        holdWheel.schedule(2L, now.plusSeconds(30));
+
+        // when
+        List<Long> expired = holdWheel.advance(toEpochMillis(now.plusSeconds(5)));
+
+        // then
+        assertThat(expired).containsExactly(1L);
+        assertThat(holdWheel.advance(toEpochMillis(now.plusSeconds(31)))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 만료 시각은 다음 바퀴까지 남아 있음")
+    void advance_HoldBeyondOneRound_KeptUntilDeadline() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        long roundSeconds = ReservationHoldWheel.WHEEL_SIZE * ReservationHoldWheel.TICK_MILLIS / 1000;
+        holdWheel.schedule(1L, now.plusSeconds(roundSeconds + 10));
+
+        // when & then
+        assertThat(holdWheel.advance(toEpochMillis(now.plusSeconds(roundSeconds)))).isEmpty();
+        assertThat(holdWheel.advance(toEpochMillis(now.plusSeconds(roundSeconds + 11)))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각은 다음 틱에 만료")
+    void schedule_PastDeadline_ExpiresOnNextTick() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        holdWheel.schedule(1L, now.minusMinutes(1));
+
+        // when & then
+        assertThat(holdWheel.advance(toEpochMillis(now.plusSeconds(2)))).containsExactly(1L);
+        assertThat(holdWheel.advance(toEpochMillis(now.plusSeconds(3)))).isEmpty();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
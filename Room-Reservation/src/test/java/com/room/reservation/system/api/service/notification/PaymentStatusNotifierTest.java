@@ -0,0 +1,116 @@
+package com.room.reservation.system.api.service.notification;
+
+import com.room.reservation.system.api.dto.payment.PaymentStatusResponseDto;
+import com.room.reservation.system.global.error.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PaymentStatusNotifierTest {
+
+    private static final int MAX_WAITERS = 2;
+
+    private PaymentStatusNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new PaymentStatusNotifier(Duration.ofSeconds(30), MAX_WAITERS, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("결제가 확정되면 대기 중인 연결에 전달하고 대기 해제")
+    void publish_FinalStatus_ReleasesWaiters() {
+        // given
+        notifier.subscribe(1L);
+        notifier.subscribe(1L);
+
+        // when
+        notifier.publish(1L, status(1L, "SUCCESS"));
+
+        // then
+        assertThat(notifier.waiterCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("결제 대기 상태 전달 시에는 연결을 유지")
+    void publish_PendingStatus_KeepsWaiters() {
+        // given
+        notifier.subscribe(1L);
+
+        // when
+        notifier.publish(1L, status(1L, "PENDING"));
+
+        // then
+        assertThat(notifier.waiterCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 결제의 상태 변경은 전달하지 않음")
+    void publish_OtherPayment_Ignored() {
+        // given
+        notifier.subscribe(1L);
+
+        // when
+        notifier.publish(2L, status(2L, "SUCCESS"));
+
+        // then
+        assertThat(notifier.waiterCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 연결이 max-waiters를 넘으면 예외 발생")
+    void subscribe_TooManyWaiters_ThrowsException() {
+        // given
+        notifier.subscribe(1L);
+        notifier.subscribe(2L);
+
+        // when & then
+        assertThatThrownBy(() -> notifier.subscribe(3L))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(notifier.waiterCount()).isEqualTo(MAX_WAITERS);
+    }
+
+    @Test
+    @DisplayName("같은 연결을 여러 번 해제해도 한 번만 해제")
+    void unsubscribe_Twice_ReleasesOnce() {
+        // given
+        SseEmitter emitter = notifier.subscribe(1L);
+        notifier.subscribe(1L);
+
+        // when
+        notifier.unsubscribe(1L, emitter);
+        notifier.unsubscribe(1L, emitter);
+
+        // then
+        assertThat(notifier.waiterCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 연결을 끊었으면 오류로 닫고 대기 해제")
+    void send_ClientDisconnected_CompletesWithError() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        IOException disconnected = new IOException("Broken pipe");
+        doThrow(disconnected).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        notifier.send(1L, emitter, status(1L, "PENDING"));
+
+        // then
+        verify(emitter).completeWithError(disconnected);
+    }
+
+    private PaymentStatusResponseDto status(Long paymentId, String paymentStatus) {
+        return new PaymentStatusResponseDto(1L, paymentId, "ext_" + paymentId, paymentStatus, "테스트결제사", 50000, "메시지");
+    }
+}
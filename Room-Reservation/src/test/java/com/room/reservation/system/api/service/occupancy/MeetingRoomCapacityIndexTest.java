@@ -0,0 +1,126 @@
+package com.room.reservation.system.api.service.occupancy;
+
+import com.room.reservation.system.api.dto.meetingRoom.MeetingRoomReadDto;
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.repository.MeetingRoomRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingRoomCapacityIndexTest {
+
+    @Mock
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private RoomOccupancyIndex occupancyIndex;
+    private MeetingRoomCapacityIndex capacityIndex;
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        occupancyIndex = new RoomOccupancyIndex(reservationRepository);
+        capacityIndex = new MeetingRoomCapacityIndex(meetingRoomRepository, occupancyIndex);
+
+        when(meetingRoomRepository.findByIsActiveTrue()).thenReturn(List.of(
+                meetingRoom(1L, "A회의실", 10),
+                meetingRoom(2L, "B회의실", 20),
+                meetingRoom(3L, "C회의실", 15),
+                meetingRoom(4L, "대회의실", 50),
+                meetingRoom(5L, "소회의실", 5)
+        ));
+        capacityIndex.reload();
+    }
+
+    @Test
+    @DisplayName("최소 인원 이상인 회의실을 수용 인원이 작은 순으로 조회")
+    void findAvailable_OrderedBySmallestFitting() {
+        // when
+        List<MeetingRoomReadDto> result = capacityIndex.findAvailable(
+                tomorrow, LocalTime.of(10, 0), LocalTime.of(11, 0), 12);
+
+        // then
+        assertThat(result).extracting(MeetingRoomReadDto::name)
+                .containsExactly("C회의실", "B회의실", "대회의실");
+    }
+
+    @Test
+    @DisplayName("해당 시간대가 점유된 회의실은 제외")
+    void findAvailable_OccupiedRoom_Excluded() {
+        // given
+        occupancyIndex.tryOccupy(3L, tomorrow, LocalTime.of(10, 30), LocalTime.of(11, 30));
+
+        // when
+        List<MeetingRoomReadDto> result = capacityIndex.findAvailable(
+                tomorrow, LocalTime.of(10, 0), LocalTime.of(11, 0), 12);
+
+        // then
+        assertThat(result).extracting(MeetingRoomReadDto::id).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("수용 가능한 회의실이 없으면 빈 목록")
+    void findAvailable_NoRoomLargeEnough_ReturnsEmpty() {
+        // when & then
+        assertThat(capacityIndex.findAvailable(tomorrow, LocalTime.of(10, 0), LocalTime.of(11, 0), 100))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 추가된 회의실이 조회 대상에 반영")
+    void reload_RoomAdded_Indexed() {
+        // given
+        when(meetingRoomRepository.findByIsActiveTrue()).thenReturn(List.of(
+                meetingRoom(1L, "A회의실", 10),
+                meetingRoom(6L, "세미나실", 100)
+        ));
+
+        // when
+        capacityIndex.reload();
+
+        // then
+        assertThat(capacityIndex.findAvailable(tomorrow, LocalTime.of(10, 0), LocalTime.of(11, 0), 100))
+                .extracting(MeetingRoomReadDto::id).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("다시 적재하다 실패하면 이전 스냅샷 유지")
+    void reload_Failure_KeepsPreviousSnapshot() {
+        // given
+        when(meetingRoomRepository.findByIsActiveTrue()).thenThrow(new RuntimeException("DB 연결 실패"));
+
+        // when
+        capacityIndex.reload();
+
+        // then
+        assertThat(capacityIndex.findAvailable(tomorrow, LocalTime.of(10, 0), LocalTime.of(11, 0), 12))
+                .extracting(MeetingRoomReadDto::id).containsExactly(3L, 2L, 4L);
+    }
+
+    private static MeetingRoom meetingRoom(Long id, String name, int capacity) {
+        MeetingRoom meetingRoom = new MeetingRoom(name, capacity, 25000);
+        // Reflection을 사용하여 id 설정
+        try {
+            java.lang.reflect.Field idField = MeetingRoom.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(meetingRoom, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return meetingRoom;
+    }
+}
@@ -0,0 +1,125 @@
+package com.room.reservation.system.api.service.occupancy;
+
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.User;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomOccupancyIndexTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @InjectMocks
+    private RoomOccupancyIndex occupancyIndex;
+
+    private MeetingRoom testMeetingRoom;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        testMeetingRoom = new MeetingRoom("A회의실", 10, 25000);
+        // Reflection을 사용하여 id 설정
+        try {
+            java.lang.reflect.Field idField = MeetingRoom.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(testMeetingRoom, 1L);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 시간대 점유 성공 후 겹치는 시간대 점유 실패")
+    void tryOccupy_OverlappingSlot_ReturnsFalse() {
+        // when
+        boolean first = occupancyIndex.tryOccupy(1L, today, LocalTime.of(14, 0), LocalTime.of(15, 0));
+        boolean overlapped = occupancyIndex.tryOccupy(1L, today, LocalTime.of(14, 30), LocalTime.of(15, 30));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(overlapped).isFalse();
+    }
+
+    @Test
+    @DisplayName("맞닿은 시간대, 다른 회의실, 다른 날짜는 점유 가능")
+    void tryOccupy_AdjacentOrOtherRoom_ReturnsTrue() {
+        // given
+        occupancyIndex.tryOccupy(1L, today, LocalTime.of(14, 0), LocalTime.of(15, 0));
+
+        // when & then
+        assertThat(occupancyIndex.tryOccupy(1L, today, LocalTime.of(15, 0), LocalTime.of(16, 0))).isTrue();
+        assertThat(occupancyIndex.tryOccupy(1L, today, LocalTime.of(13, 0), LocalTime.of(14, 0))).isTrue();
+        assertThat(occupancyIndex.tryOccupy(2L, today, LocalTime.of(14, 0), LocalTime.of(15, 0))).isTrue();
+        assertThat(occupancyIndex.tryOccupy(1L, today.plusDays(1), LocalTime.of(14, 0), LocalTime.of(15, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("해제한 시간대는 다시 점유 가능")
+    void release_ThenTryOccupy_ReturnsTrue() {
+        // given
+        occupancyIndex.tryOccupy(1L, today, LocalTime.of(9, 0), LocalTime.of(12, 0));
+
+        // when
+        occupancyIndex.release(1L, today, LocalTime.of(9, 0), LocalTime.of(12, 0));
+
+        // then
+        assertThat(occupancyIndex.isAvailable(1L, today, LocalTime.of(9, 0), LocalTime.of(12, 0))).isTrue();
+        assertThat(occupancyIndex.tryOccupy(1L, today, LocalTime.of(10, 0), LocalTime.of(10, 30))).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작 시 DB 예약으로 인덱스 적재")
+    void load_FromRepository_OccupiesSlots() {
+        // given
+        Reservation reservation = Reservation.create(
+                new User("홍길동", "010-1234-5678"),
+                testMeetingRoom,
+                LocalDateTime.of(today, LocalTime.of(14, 0)),
+                LocalDateTime.of(today, LocalTime.of(15, 0)),
+                50000
+        );
+        when(reservationRepository.findAllReservationsFrom(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of(reservation));
+
+        // when
+        occupancyIndex.load();
+
+        // then
+        assertThat(occupancyIndex.isAvailable(1L, today, LocalTime.of(14, 30), LocalTime.of(15, 0))).isFalse();
+        assertThat(occupancyIndex.isAvailable(1L, today, LocalTime.of(15, 0), LocalTime.of(15, 30))).isTrue();
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 점유 비트맵만 제거")
+    void evictBefore_PastDays_Removed() {
+        // given
+        occupancyIndex.tryOccupy(1L, today.minusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        occupancyIndex.tryOccupy(2L, today.minusDays(2), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        occupancyIndex.tryOccupy(1L, today, LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        // when
+        int evicted = occupancyIndex.evictBefore(today);
+
+        // then
+        assertThat(evicted).isEqualTo(2);
+        assertThat(occupancyIndex.isAvailable(1L, today.minusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0))).isTrue();
+        assertThat(occupancyIndex.isAvailable(1L, today, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+    }
+}
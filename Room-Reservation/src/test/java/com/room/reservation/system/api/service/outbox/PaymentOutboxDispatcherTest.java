@@ -0,0 +1,215 @@
+package com.room.reservation.system.api.service.outbox;
+
+import com.room.reservation.system.api.dto.payment.request.PaymentRequestDto;
+import com.room.reservation.system.api.dto.payment.response.PaymentPendingResponseDto;
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.User;
+import com.room.reservation.system.api.service.payment.PaymentStrategy;
+import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderUnavailableException;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final ProviderEndpoint ENDPOINT =
+            new ProviderEndpoint(3L, "A사 카드 2", PaymentProviderType.CARD_PAYMENT, "http://card-2:8081");
+
+    @Mock
+    private PaymentOutboxService outboxService;
+
+    @Mock
+    private PaymentStrategyFactory strategyFactory;
+
+    @Mock
+    private PaymentStrategy paymentStrategy;
+
+    @Mock
+    private PaymentProviderGuard providerGuard;
+
+    private PaymentOutboxDispatcher dispatcher;
+    private PaymentRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PaymentOutboxDispatcher(outboxService, strategyFactory, providerGuard, BATCH_SIZE, 2);
+        lenient().when(providerGuard.executeAsync(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", "1234-5678-9012-3456", null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 결제 요청을 선점 시 정한 엔드포인트로 보내고 외부 결제 ID 기록")
+    void dispatch_Success_RecordsExternalPaymentId() {
+        // given
+        PaymentDispatch dispatch = dispatchOf(reservation(LocalDateTime.now().plusMinutes(10)));
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        when(strategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).thenReturn(paymentStrategy);
+        when(paymentStrategy.payAsync(ENDPOINT, 1L, dispatch.reservation(), request))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new PaymentPendingResponseDto("1", "ext_123", "결제가 진행중입니다", "PENDING")));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outboxService).complete(dispatch, "ext_123");
+        verify(outboxService, never()).retryLater(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제사가 요청을 거절하면 재시도 없이 실패로 기록")
+    void dispatch_ProviderRejected_Rejects() {
+        // given
+        PaymentDispatch dispatch = dispatchOf(reservation(LocalDateTime.now().plusMinutes(10)));
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        when(strategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).thenReturn(paymentStrategy);
+        when(paymentStrategy.payAsync(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new HttpClientErrorException(HttpStatus.BAD_REQUEST)));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outboxService).reject(eq(dispatch), anyString());
+        verify(outboxService, never()).complete(any(), any());
+        verify(outboxService, never()).retryLater(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제사 응답 시간 초과 시 결제를 PENDING으로 두고 재시도 예약")
+    void dispatch_ProviderTimeout_RetriesLater() {
+        // given
+        PaymentDispatch dispatch = dispatchOf(reservation(LocalDateTime.now().plusMinutes(10)));
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        when(strategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).thenReturn(paymentStrategy);
+        when(paymentStrategy.payAsync(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("Read timed out")));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outboxService).retryLater(dispatch, "Read timed out");
+        verify(outboxService, never()).reject(any(), any());
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 결제사에 보내지 못하면 시도 횟수를 쓰지 않고 미룸")
+    void dispatch_CircuitOpen_Postpones() {
+        // given
+        PaymentDispatch dispatch = dispatchOf(reservation(LocalDateTime.now().plusMinutes(10)));
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        when(strategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).thenReturn(paymentStrategy);
+        doReturn(CompletableFuture.failedFuture(new PaymentProviderUnavailableException(
+                PaymentProviderType.CARD_PAYMENT, "서킷 열림", Duration.ofSeconds(30))))
+                .when(providerGuard).executeAsync(eq(PaymentProviderType.CARD_PAYMENT), any());
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outboxService).postpone(eq(dispatch), eq(Duration.ofSeconds(30)), anyString());
+        verify(outboxService, never()).retryLater(any(), any());
+        verifyNoInteractions(paymentStrategy);
+    }
+
+    @Test
+    @DisplayName("결제 기한이 지난 예약은 결제사에 보내지 않고 실패로 기록")
+    void dispatch_HoldExpired_RejectsWithoutCallingProvider() {
+        // given
+        PaymentDispatch dispatch = dispatchOf(reservation(LocalDateTime.now().minusMinutes(1)));
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outboxService).reject(eq(dispatch), anyString());
+        verifyNoInteractions(strategyFactory);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 남은 요청이 없을 때까지 이어서 선점")
+    void dispatch_FullBatch_ClaimsNextBatch() {
+        // given
+        when(outboxService.claimDue(BATCH_SIZE)).thenReturn(fullBatch()).thenReturn(List.of());
+        when(strategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).thenReturn(paymentStrategy);
+        when(paymentStrategy.payAsync(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new PaymentPendingResponseDto("1", "ext_123", "결제가 진행중입니다", "PENDING")));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outboxService, times(2)).claimDue(anyInt());
+        verify(outboxService, times(BATCH_SIZE)).complete(any(), eq("ext_123"));
+    }
+
+    private List<PaymentDispatch> fullBatch() {
+        Reservation reservation = reservation(LocalDateTime.now().plusMinutes(10));
+        return LongStream.rangeClosed(1, BATCH_SIZE)
+                .mapToObj(id -> new PaymentDispatch(id, id, 1, PaymentProviderType.CARD_PAYMENT, ENDPOINT, reservation, request))
+                .toList();
+    }
+
+    private PaymentDispatch dispatchOf(Reservation reservation) {
+        return new PaymentDispatch(1L, 1L, 1, PaymentProviderType.CARD_PAYMENT, ENDPOINT, reservation, request);
+    }
+
+    private Reservation reservation(LocalDateTime holdExpiresAt) {
+        User user = new User("홍길동", "010-1234-5678");
+        MeetingRoom meetingRoom = new MeetingRoom("A회의실", 10, 25000);
+        Reservation reservation = Reservation.create(
+                user,
+                meetingRoom,
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(14, 0)),
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(15, 0)),
+                50000,
+                holdExpiresAt
+        );
+        // Reflection을 사용하여 id 설정
+        try {
+            java.lang.reflect.Field idField = Reservation.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(reservation, 1L);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return reservation;
+    }
+}
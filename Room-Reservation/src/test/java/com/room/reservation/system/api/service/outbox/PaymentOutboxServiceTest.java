@@ -0,0 +1,188 @@
+package com.room.reservation.system.api.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.room.reservation.system.api.dto.payment.request.PaymentRequestDto;
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentOutbox;
+import com.room.reservation.system.api.persistence.entity.PaymentOutboxStatus;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.RetryableRequest;
+import com.room.reservation.system.api.persistence.entity.User;
+import com.room.reservation.system.api.persistence.repository.PaymentOutboxRepository;
+import com.room.reservation.system.api.persistence.repository.PaymentRepository;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentOutboxServiceTest {
+
+    private static final ProviderEndpoint ENDPOINT =
+            new ProviderEndpoint(3L, "A사 카드 2", PaymentProviderType.CARD_PAYMENT, "http://card-2:8081");
+
+    @Mock
+    private PaymentOutboxRepository outboxRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentProviderRegistry providerRegistry;
+
+    @Mock
+    private PaymentRefundService refundService;
+
+    private PaymentOutboxService outboxService;
+    private PaymentDispatch dispatch;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new PaymentOutboxService(outboxRepository, paymentRepository, providerRegistry, refundService,
+                new ObjectMapper(), Duration.ofSeconds(30), Duration.ofSeconds(1), 5);
+        PaymentRequestDto request = new PaymentRequestDto(PaymentProviderType.CARD_PAYMENT, "CARD", 50000,
+                "홍길동", "010-1234-5678", "1234-5678-9012-3456", null, null);
+        dispatch = new PaymentDispatch(7L, 10L, 1, PaymentProviderType.CARD_PAYMENT, ENDPOINT, reservation(), request);
+    }
+
+    @Test
+    @DisplayName("결제사 응답으로 받은 외부 결제 ID를 기록하고 환불은 요청하지 않음")
+    void complete_PaymentExists_RecordsExternalPaymentId() {
+        // given
+        when(paymentRepository.updateExternalPaymentId(eq(10L), eq("CARD_ABC"), any())).thenReturn(1);
+        when(outboxRepository.findById(7L)).thenReturn(Optional.empty());
+
+        // when
+        outboxService.complete(dispatch, "CARD_ABC");
+
+        // then
+        verifyNoInteractions(refundService);
+    }
+
+    @Test
+    @DisplayName("결제사 호출 중에 예약이 삭제된 결제는 받은 외부 결제 ID로 환불 요청")
+    void complete_PaymentDeletedInFlight_EnqueuesRefund() {
+        // given
+        when(paymentRepository.updateExternalPaymentId(eq(10L), eq("CARD_ABC"), any())).thenReturn(0);
+        when(paymentRepository.existsById(10L)).thenReturn(false);
+
+        // when
+        outboxService.complete(dispatch, "CARD_ABC");
+
+        // then
+        verify(refundService).enqueueDeleted(10L, 1L, "CARD_ABC", PaymentProviderType.CARD_PAYMENT, 3L, 50000);
+    }
+
+    @Test
+    @DisplayName("이미 다른 외부 결제 ID가 기록된 결제는 덮어쓰지 않고 환불도 요청하지 않음")
+    void complete_OtherExternalPaymentId_KeepsRecorded() {
+        // given
+        when(paymentRepository.updateExternalPaymentId(eq(10L), eq("CARD_ABC"), any())).thenReturn(0);
+        when(paymentRepository.existsById(10L)).thenReturn(true);
+        when(outboxRepository.findById(7L)).thenReturn(Optional.empty());
+
+        // when
+        outboxService.complete(dispatch, "CARD_ABC");
+
+        // then
+        verifyNoInteractions(refundService);
+    }
+
+    @Test
+    @DisplayName("처음 보내는 결제 요청은 선점 후 엔티티를 고치지 않고 UPDATE 쿼리로 엔드포인트를 기록")
+    void claimDue_FirstAttempt_AssignsEndpointByUpdate() throws Exception {
+        // given
+        PaymentOutbox outbox = outbox(0);
+        when(outboxRepository.findDue(any(), any())).thenReturn(List.of(outbox));
+        when(outboxRepository.claim(eq(7L), any(), any())).thenReturn(1);
+        when(providerRegistry.select(PaymentProviderType.CARD_PAYMENT)).thenReturn(ENDPOINT);
+
+        // when
+        List<PaymentDispatch> claimed = outboxService.claimDue(10);
+
+        // then
+        assertThat(claimed).extracting(PaymentDispatch::endpoint).containsExactly(ENDPOINT);
+        verify(paymentRepository).assignEndpoint(eq(10L), eq(3L), any());
+        assertThat(outbox.getPayment().getEndpointProviderId()).isNull();
+    }
+
+    @Test
+    @DisplayName("다시 보낼 엔드포인트가 없으면 엔티티를 고치지 않고 UPDATE 쿼리로 실패 처리")
+    void claimDue_EndpointRemoved_FailsByUpdate() throws Exception {
+        // given
+        PaymentOutbox outbox = outbox(1);
+        when(outboxRepository.findDue(any(), any())).thenReturn(List.of(outbox));
+        when(outboxRepository.claim(eq(7L), any(), any())).thenReturn(1);
+        when(providerRegistry.endpointOf(PaymentProviderType.CARD_PAYMENT, null))
+                .thenThrow(new IllegalStateException("삭제된 엔드포인트"));
+
+        // when
+        List<PaymentDispatch> claimed = outboxService.claimDue(10);
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(outboxRepository).failIfPending(7L, "삭제된 엔드포인트");
+        verify(paymentRepository).failIfPending(eq(10L), any());
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+    }
+
+    private PaymentOutbox outbox(int attempts) throws Exception {
+        Payment payment = Payment.create(50000, reservation(), PaymentProviderType.CARD_PAYMENT);
+        setField(Payment.class, payment, "id", 10L);
+        PaymentOutbox outbox = PaymentOutbox.create(payment, PaymentProviderType.CARD_PAYMENT,
+                new ObjectMapper().writeValueAsString(dispatch.request()), LocalDateTime.now());
+        setField(PaymentOutbox.class, outbox, "id", 7L);
+        setField(RetryableRequest.class, outbox, "attempts", attempts);
+        return outbox;
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) {
+        try {
+            java.lang.reflect.Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Reservation reservation() {
+        User user = new User("홍길동", "010-1234-5678");
+        MeetingRoom meetingRoom = new MeetingRoom("A회의실", 10, 25000);
+        Reservation reservation = Reservation.create(
+                user,
+                meetingRoom,
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(14, 0)),
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(15, 0)),
+                50000,
+                LocalDateTime.now().plusMinutes(10)
+        );
+        // Reflection을 사용하여 id 설정
+        try {
+            java.lang.reflect.Field idField = Reservation.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(reservation, 1L);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return reservation;
+    }
+}
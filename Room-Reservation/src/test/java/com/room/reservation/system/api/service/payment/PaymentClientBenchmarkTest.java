@@ -0,0 +1,132 @@
+package com.room.reservation.system.api.service.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.room.reservation.system.api.config.PaymentClientProperties;
+import com.room.reservation.system.api.config.RestTemplateConfig;
+import com.room.reservation.system.api.dto.payment.response.PaymentPendingResponseDto;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제사 호출 처리량 비교 (블로킹 RestTemplate vs 비동기 클라이언트)
+ * 응답이 늦는 결제사를 흉내 낸 로컬 서버에 같은 수의 요청을 보내고 초당 처리 건수를 로그로 남긴다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class PaymentClientBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentClientBenchmarkTest.class);
+
+    private static final int REQUESTS = 400;
+    private static final int BLOCKING_THREADS = 8;
+    private static final long PROVIDER_LATENCY_MILLIS = 50;
+    private static final String RESPONSE_BODY =
+            "{\"paymentId\":\"1\",\"externalPaymentId\":\"ext_1\",\"message\":\"ok\",\"status\":\"PENDING\"}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private RestTemplateConfig restTemplateConfig;
+    private PaymentAsyncHttpClient asyncClient;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        serverExecutor = Executors.newFixedThreadPool(REQUESTS);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        server.createContext("/payment", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(PROVIDER_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/payment";
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PaymentClientProperties properties = new PaymentClientProperties(Map.of(
+                PaymentProviderType.CARD_PAYMENT,
+                new PaymentClientProperties.Pool(REQUESTS, REQUESTS, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(5), null)
+        ), null);
+        PaymentProviderGuard providerGuard = new PaymentProviderGuard(properties, meterRegistry);
+        restTemplateConfig = new RestTemplateConfig(properties, providerGuard, meterRegistry);
+        asyncClient = new PaymentAsyncHttpClient(properties, providerGuard, new ObjectMapper(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        asyncClient.close();
+        restTemplateConfig.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 요청 수에서 비동기 호출이 블로킹 호출보다 처리량이 높음")
+    void asyncClient_OutperformsBlockingClient() {
+        // given
+        RestTemplate restTemplate = restTemplateConfig.cardPaymentRestTemplate();
+        Map<String, String> request = Map.of("paymentId", "1");
+
+        // when
+        double blocking = throughput(() -> {
+            ExecutorService executor = Executors.newFixedThreadPool(BLOCKING_THREADS);
+            try {
+                CompletableFuture.allOf(IntStream.range(0, REQUESTS)
+                        .mapToObj(i -> CompletableFuture.runAsync(
+                                () -> restTemplate.postForObject(url, request, PaymentPendingResponseDto.class), executor))
+                        .toArray(CompletableFuture[]::new)
+                ).join();
+            } finally {
+                executor.shutdown();
+            }
+        });
+        double async = throughput(() -> {
+            List<CompletableFuture<PaymentPendingResponseDto>> futures = IntStream.range(0, REQUESTS)
+                    .mapToObj(i -> asyncClient.post(PaymentProviderType.CARD_PAYMENT, url, request, PaymentPendingResponseDto.class))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        });
+
+        // then
+        log.info("결제사 호출 {}건 (응답 지연 {}ms) - 블로킹({} 스레드): {} 건/초, 비동기: {} 건/초",
+                REQUESTS, PROVIDER_LATENCY_MILLIS, BLOCKING_THREADS,
+                String.format("%.1f", blocking), String.format("%.1f", async));
+        assertThat(async).isGreaterThan(blocking);
+    }
+
+    private static double throughput(Runnable run) {
+        long startedAt = System.nanoTime();
+        run.run();
+        return REQUESTS / ((System.nanoTime() - startedAt) / 1_000_000_000.0);
+    }
+}
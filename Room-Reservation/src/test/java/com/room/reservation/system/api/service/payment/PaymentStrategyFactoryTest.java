@@ -1,5 +1,6 @@
 package com.room.reservation.system.api.service.payment;
 
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -80,6 +81,15 @@ class PaymentStrategyFactoryTest {
         assertThat(result.getPaymentType()).isEqualTo("VIRTUAL_ACCOUNT");
     }
 
+    @Test
+    @DisplayName("결제사 타입(enum)으로 전략 조회 성공")
+    void getPaymentStrategy_ByProviderType_Success() {
+        // when & then
+        assertThat(paymentStrategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).isEqualTo(cardPaymentStrategy);
+        assertThat(paymentStrategyFactory.getPaymentStrategy(PaymentProviderType.SIMPLE_PAYMENT)).isEqualTo(simplePaymentStrategy);
+        assertThat(paymentStrategyFactory.getPaymentStrategy(PaymentProviderType.VIRTUAL_ACCOUNT)).isEqualTo(virtualAccountPaymentStrategy);
+    }
+
     @Test
     @DisplayName("지원하지 않는 결제 타입으로 전략 조회 시 예외 발생")
     void getPaymentStrategy_UnsupportedType_ThrowsException() {
@@ -133,7 +143,7 @@ class PaymentStrategyFactoryTest {
     @DisplayName("null 값으로 전략 조회 시 예외 발생")
     void getPaymentStrategy_NullType_ThrowsException() {
         // when & then
-        assertThatThrownBy(() -> paymentStrategyFactory.getPaymentStrategy(null))
+        assertThatThrownBy(() -> paymentStrategyFactory.getPaymentStrategy((String) null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("지원하지 않는 결제사 타입입니다: null");
     }
@@ -0,0 +1,110 @@
+package com.room.reservation.system.api.service.payment.guard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private AtomicLong nanoClock;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        nanoClock = new AtomicLong();
+        // 최근 10건 중 최소 4건 이상, 실패율 50% 이상이면 열림, 30초 뒤 시험 호출 2건
+        circuitBreaker = new CircuitBreaker(10, 4, 0.5, 0.5, Duration.ofSeconds(30), 2, nanoClock::get);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷을 열고 호출을 거절")
+    void failureRateExceeded_Opens() {
+        // given
+        circuitBreaker.onSuccess(false);
+        circuitBreaker.onSuccess(false);
+        circuitBreaker.onFailure();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("최소 호출 수에 못 미치면 실패만 있어도 서킷을 열지 않음")
+    void belowMinimumCalls_StaysClosed() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 임계치를 넘어도 서킷을 엶")
+    void slowCallRateExceeded_Opens() {
+        // when
+        circuitBreaker.onSuccess(true);
+        circuitBreaker.onSuccess(true);
+        circuitBreaker.onSuccess(false);
+        circuitBreaker.onSuccess(false);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("열린 뒤 대기 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 닫힘")
+    void halfOpen_AllTrialsSucceed_Closes() {
+        // given
+        openCircuit();
+        nanoClock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        boolean first = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        boolean third = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess(false);
+        circuitBreaker.onSuccess(false);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열림")
+    void halfOpen_TrialFails_Reopens() {
+        // given
+        openCircuit();
+        nanoClock.addAndGet(Duration.ofSeconds(30).toNanos());
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,92 @@
+package com.room.reservation.system.api.service.payment.guard;
+
+import com.room.reservation.system.api.config.PaymentClientProperties;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentProviderGuardTest {
+
+    private static final PaymentProviderType PROVIDER = PaymentProviderType.CARD_PAYMENT;
+    private static final Duration SLOW_CALL_DURATION = Duration.ofMillis(5);
+    private static final long SLOWED_LATENCY_MILLIS = 15;
+
+    private PaymentProviderGuard providerGuard;
+
+    @BeforeEach
+    void setUp() {
+        // 적응형 제한 시간 하한 1ms, 느린 호출 기준 5ms, 상한 1초 (실패만으로는 서킷을 열지 않음)
+        PaymentClientProperties properties = new PaymentClientProperties(
+                Map.of(PROVIDER, new PaymentClientProperties.Pool(10, 10, null, Duration.ofSeconds(1), null, null)),
+                new PaymentClientProperties.Guard(100, 10, 1.0, 1.0, SLOW_CALL_DURATION, null, null, 2.0,
+                        Duration.ofMillis(1)));
+        providerGuard = new PaymentProviderGuard(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("적응형 제한 시간은 느린 호출 기준 시간보다 짧아지지 않음")
+    void timeout_FastProvider_FlooredAtSlowCallDuration() {
+        // when
+        for (int i = 0; i < 32; i++) {
+            providerGuard.execute(PROVIDER, () -> "ok");
+        }
+
+        // then
+        assertThat(providerGuard.timeoutOf(PROVIDER)).isEqualTo(SLOW_CALL_DURATION);
+    }
+
+    @Test
+    @DisplayName("결제사가 느려지면 제한 시간에 걸린 호출도 반영되어 제한 시간이 응답 시간을 따라 늘어남")
+    void timeout_LatencyStepsUp_Follows() {
+        // given
+        for (int i = 0; i < 32; i++) {
+            providerGuard.execute(PROVIDER, () -> "ok");
+        }
+
+        // when
+        int consecutiveSuccesses = 0;
+        for (int i = 0; i < 300 && consecutiveSuccesses < 32; i++) {
+            try {
+                providerGuard.execute(PROVIDER, this::slowedProvider);
+                consecutiveSuccesses++;
+            } catch (ResourceAccessException e) {
+                consecutiveSuccesses = 0;
+            }
+        }
+
+        // then
+        assertThat(consecutiveSuccesses).isEqualTo(32);
+        assertThat(providerGuard.timeoutOf(PROVIDER)).isGreaterThan(Duration.ofMillis(SLOWED_LATENCY_MILLIS));
+        assertThat(providerGuard.stateOf(PROVIDER)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    /**
+     * 응답이 SLOWED_LATENCY_MILLIS 걸리는 결제사 (지금 제한 시간보다 늦으면 제한 시간에 끊김)
+     */
+    private String slowedProvider() {
+        long timeoutMillis = providerGuard.timeoutOf(PROVIDER).toMillis();
+        if (SLOWED_LATENCY_MILLIS > timeoutMillis) {
+            sleep(timeoutMillis);
+            throw new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+        }
+        sleep(SLOWED_LATENCY_MILLIS);
+        return "ok";
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.room.reservation.system.api.service.payment.registry;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProvider;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.repository.PaymentProviderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentProviderRegistryTest {
+
+    private static final String FALLBACK_ENDPOINT = "http://fallback:8081";
+    private static final long MILLIS = 1_000_000L;
+
+    @Mock
+    private PaymentProviderRepository paymentProviderRepository;
+
+    private PaymentProviderRegistry registry;
+    private PaymentProvider primary;
+    private PaymentProvider secondary;
+
+    @BeforeEach
+    void setUp() {
+        // 시험 호출이 끼어들지 않도록 probe-interval을 길게 둔다.
+        registry = new PaymentProviderRegistry(paymentProviderRepository, FALLBACK_ENDPOINT,
+                0.5, Duration.ofSeconds(3), Duration.ofHours(1));
+        primary = provider(1L, "A사 카드 1", "http://card-1:8081");
+        secondary = provider(2L, "A사 카드 2", "http://card-2:8081");
+    }
+
+    @Test
+    @DisplayName("등록된 엔드포인트가 없는 결제사는 기본 엔드포인트로 보냄")
+    void select_NoEndpoints_UsesFallback() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue()).thenReturn(List.of(primary));
+        registry.reload();
+
+        // when
+        ProviderEndpoint endpoint = registry.select(PaymentProviderType.SIMPLE_PAYMENT);
+
+        // then
+        assertThat(endpoint.baseUrl()).isEqualTo(FALLBACK_ENDPOINT);
+        assertThat(registry.select(PaymentProviderType.CARD_PAYMENT).baseUrl()).isEqualTo("http://card-1:8081");
+    }
+
+    @Test
+    @DisplayName("같은 결제사의 엔드포인트 중 응답이 빠른 곳으로 보냄")
+    void select_RoutesToFasterEndpoint() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue()).thenReturn(List.of(primary, secondary));
+        registry.reload();
+        List<ProviderEndpoint> endpoints = registry.endpointsOf(PaymentProviderType.CARD_PAYMENT);
+        registry.record(endpoints.get(0), 400 * MILLIS, null);
+        registry.record(endpoints.get(1), 50 * MILLIS, null);
+
+        // when
+        ProviderEndpoint endpoint = registry.select(PaymentProviderType.CARD_PAYMENT);
+
+        // then
+        assertThat(endpoint.baseUrl()).isEqualTo("http://card-2:8081");
+    }
+
+    @Test
+    @DisplayName("빨리 실패하는 엔드포인트는 느리더라도 성공하는 엔드포인트보다 후순위")
+    void select_FailingEndpoint_IsDeprioritized() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue()).thenReturn(List.of(primary, secondary));
+        registry.reload();
+
+        // when
+        assertThatThrownBy(() -> registry.call(registry.select(PaymentProviderType.CARD_PAYMENT), baseUrl -> {
+            throw new ResourceAccessException("Connection refused");
+        })).isInstanceOf(ResourceAccessException.class);
+        registry.record(registry.endpointsOf(PaymentProviderType.CARD_PAYMENT).get(1), 800 * MILLIS, null);
+
+        // then
+        assertThat(registry.select(PaymentProviderType.CARD_PAYMENT).baseUrl()).isEqualTo("http://card-2:8081");
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 요청의 문제이므로 엔드포인트 실패로 보지 않음")
+    void call_ClientError_DoesNotPenalizeEndpoint() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue()).thenReturn(List.of(primary, secondary));
+        registry.reload();
+        registry.record(registry.endpointsOf(PaymentProviderType.CARD_PAYMENT).get(1), 800 * MILLIS, null);
+
+        // when
+        assertThatThrownBy(() -> registry.call(registry.select(PaymentProviderType.CARD_PAYMENT), baseUrl -> {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        })).isInstanceOf(HttpClientErrorException.class);
+
+        // then
+        assertThat(registry.select(PaymentProviderType.CARD_PAYMENT).baseUrl()).isEqualTo("http://card-1:8081");
+    }
+
+    @Test
+    @DisplayName("이미 만든 결제는 더 건강한 엔드포인트가 있어도 결제를 만든 엔드포인트로 보냄")
+    void endpointOf_PinnedEndpoint_IgnoresHealth() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue()).thenReturn(List.of(primary, secondary));
+        registry.reload();
+        List<ProviderEndpoint> endpoints = registry.endpointsOf(PaymentProviderType.CARD_PAYMENT);
+        registry.record(endpoints.get(0), 400 * MILLIS, null);
+        registry.record(endpoints.get(1), 50 * MILLIS, null);
+
+        // when
+        ProviderEndpoint endpoint = registry.endpointOf(PaymentProviderType.CARD_PAYMENT, 1L);
+
+        // then
+        assertThat(endpoint.baseUrl()).isEqualTo("http://card-1:8081");
+        assertThat(registry.select(PaymentProviderType.CARD_PAYMENT).baseUrl()).isEqualTo("http://card-2:8081");
+    }
+
+    @Test
+    @DisplayName("라우팅에서 빠진 엔드포인트로 만든 결제는 결제사 테이블에서 엔드포인트를 찾음")
+    void endpointOf_RemovedFromRouting_LoadsProvider() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue()).thenReturn(List.of(secondary));
+        when(paymentProviderRepository.findById(1L)).thenReturn(Optional.of(primary));
+        registry.reload();
+
+        // when
+        ProviderEndpoint endpoint = registry.endpointOf(PaymentProviderType.CARD_PAYMENT, 1L);
+
+        // then
+        assertThat(endpoint.baseUrl()).isEqualTo("http://card-1:8081");
+        assertThat(registry.endpointOf(PaymentProviderType.CARD_PAYMENT, null).baseUrl()).isEqualTo(FALLBACK_ENDPOINT);
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 재시작 없이 추가/제거된 엔드포인트 반영")
+    void reload_ReplacesEndpoints() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue())
+                .thenReturn(List.of(primary))
+                .thenReturn(List.of(secondary));
+        registry.reload();
+
+        // when
+        registry.reload();
+
+        // then
+        assertThat(registry.endpointsOf(PaymentProviderType.CARD_PAYMENT))
+                .extracting(ProviderEndpoint::baseUrl)
+                .containsExactly("http://card-2:8081");
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 이전 엔드포인트를 그대로 사용")
+    void reload_Failure_KeepsPreviousSnapshot() {
+        // given
+        when(paymentProviderRepository.findByRoutingEnabledTrue())
+                .thenReturn(List.of(primary))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+        registry.reload();
+
+        // when
+        registry.reload();
+
+        // then
+        assertThat(registry.select(PaymentProviderType.CARD_PAYMENT).baseUrl()).isEqualTo("http://card-1:8081");
+    }
+
+    private PaymentProvider provider(Long id, String name, String apiEndpoint) {
+        PaymentProvider provider = PaymentProvider.create(name, PaymentProviderType.CARD_PAYMENT, apiEndpoint, "auth");
+        // Reflection을 사용하여 id 설정
+        try {
+            java.lang.reflect.Field idField = PaymentProvider.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(provider, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return provider;
+    }
+}
@@ -0,0 +1,184 @@
+package com.room.reservation.system.api.service.reconciliation;
+
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import com.room.reservation.system.api.service.payment.PaymentStrategy;
+import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationSchedulerTest {
+
+    private static final int PAGE_SIZE = 4;
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private PaymentReconciliationService reconciliationService;
+
+    @Mock
+    private PaymentStrategyFactory strategyFactory;
+
+    @Mock
+    private PaymentStrategy paymentStrategy;
+
+    @Mock
+    private PaymentProviderGuard providerGuard;
+
+    @Mock
+    private PaymentProviderRegistry providerRegistry;
+
+    private PaymentReconciliationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PaymentReconciliationScheduler(
+                reconciliationService, strategyFactory, providerGuard, providerRegistry, PAGE_SIZE, BATCH_SIZE, 2);
+        lenient().when(providerGuard.execute(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(strategyFactory.getPaymentStrategy(any(PaymentProviderType.class))).thenReturn(paymentStrategy);
+        lenient().when(providerRegistry.endpointOf(any(PaymentProviderType.class), any()))
+                .thenAnswer(invocation -> endpoint(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("결제사에서 확정된 결제만 상태별로 모아 일괄 반영")
+    void reconcile_AppliesResolvedStatusesInBulk() {
+        // given
+        when(reconciliationService.findStale(0L, PAGE_SIZE)).thenReturn(List.of(
+                stale(1L, PaymentProviderType.CARD_PAYMENT),
+                stale(2L, PaymentProviderType.CARD_PAYMENT),
+                stale(3L, PaymentProviderType.SIMPLE_PAYMENT)
+        ));
+        when(paymentStrategy.checkPaymentStatuses(any(ProviderEndpoint.class), eq(List.of("ext_1", "ext_2"))))
+                .thenReturn(Map.of("ext_1", PaymentStatus.SUCCESS, "ext_2", PaymentStatus.PENDING));
+        when(paymentStrategy.checkPaymentStatuses(any(ProviderEndpoint.class), eq(List.of("ext_3"))))
+                .thenReturn(Map.of("ext_3", PaymentStatus.FAILED));
+
+        // when
+        scheduler.reconcile();
+
+        // then
+        verify(reconciliationService).apply(PaymentStatus.SUCCESS, List.of(1L));
+        verify(reconciliationService).apply(PaymentStatus.FAILED, List.of(3L));
+        verify(reconciliationService, never()).apply(eq(PaymentStatus.PENDING), any());
+    }
+
+    @Test
+    @DisplayName("결제사별로 batch-size건씩 나누어 조회")
+    void reconcile_QueriesProviderInBatches() {
+        // given
+        when(reconciliationService.findStale(0L, PAGE_SIZE)).thenReturn(List.of(
+                stale(1L, PaymentProviderType.CARD_PAYMENT),
+                stale(2L, PaymentProviderType.CARD_PAYMENT),
+                stale(3L, PaymentProviderType.CARD_PAYMENT)
+        ));
+        when(paymentStrategy.checkPaymentStatuses(any(ProviderEndpoint.class), anyList())).thenReturn(Map.of());
+
+        // when
+        scheduler.reconcile();
+
+        // then
+        verify(paymentStrategy).checkPaymentStatuses(any(ProviderEndpoint.class), eq(List.of("ext_1", "ext_2")));
+        verify(paymentStrategy).checkPaymentStatuses(any(ProviderEndpoint.class), eq(List.of("ext_3")));
+        verify(reconciliationService, never()).apply(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 결제사라도 결제를 만든 엔드포인트별로 나누어 조회")
+    void reconcile_QueriesEachPaymentAtItsEndpoint() {
+        // given
+        when(reconciliationService.findStale(0L, PAGE_SIZE)).thenReturn(List.of(
+                stale(1L, PaymentProviderType.CARD_PAYMENT, 1L),
+                stale(2L, PaymentProviderType.CARD_PAYMENT, 2L),
+                stale(3L, PaymentProviderType.CARD_PAYMENT, 1L)
+        ));
+        when(paymentStrategy.checkPaymentStatuses(any(ProviderEndpoint.class), anyList())).thenReturn(Map.of());
+
+        // when
+        scheduler.reconcile();
+
+        // then
+        verify(paymentStrategy).checkPaymentStatuses(
+                endpoint(PaymentProviderType.CARD_PAYMENT, 1L), List.of("ext_1", "ext_3"));
+        verify(paymentStrategy).checkPaymentStatuses(
+                endpoint(PaymentProviderType.CARD_PAYMENT, 2L), List.of("ext_2"));
+    }
+
+    @Test
+    @DisplayName("조회에 실패한 결제사는 건너뛰고 나머지 결과는 반영")
+    void reconcile_ProviderFailure_SkipsBatch() {
+        // given
+        when(reconciliationService.findStale(0L, PAGE_SIZE)).thenReturn(List.of(
+                stale(1L, PaymentProviderType.CARD_PAYMENT),
+                stale(2L, PaymentProviderType.VIRTUAL_ACCOUNT)
+        ));
+        when(paymentStrategy.checkPaymentStatuses(any(ProviderEndpoint.class), eq(List.of("ext_1"))))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+        when(paymentStrategy.checkPaymentStatuses(any(ProviderEndpoint.class), eq(List.of("ext_2"))))
+                .thenReturn(Map.of("ext_2", PaymentStatus.SUCCESS));
+
+        // when
+        scheduler.reconcile();
+
+        // then
+        verify(reconciliationService).apply(PaymentStatus.SUCCESS, List.of(2L));
+        verifyNoMoreInteractions(ignoreStubs(reconciliationService));
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차면 마지막 결제 ID 다음부터 이어서 조회")
+    void reconcile_FullPage_ContinuesFromLastId() {
+        // given
+        List<StalePayment> firstPage = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(id -> stale(id, PaymentProviderType.CARD_PAYMENT))
+                .toList();
+        when(reconciliationService.findStale(0L, PAGE_SIZE)).thenReturn(firstPage);
+        when(reconciliationService.findStale((long) PAGE_SIZE, PAGE_SIZE)).thenReturn(List.of());
+        when(paymentStrategy.checkPaymentStatuses(any(ProviderEndpoint.class), anyList())).thenReturn(Map.of());
+
+        // when
+        scheduler.reconcile();
+
+        // then
+        verify(reconciliationService).findStale(0L, PAGE_SIZE);
+        verify(reconciliationService).findStale((long) PAGE_SIZE, PAGE_SIZE);
+    }
+
+    private StalePayment stale(Long paymentId, PaymentProviderType providerType) {
+        return stale(paymentId, providerType, null);
+    }
+
+    private StalePayment stale(Long paymentId, PaymentProviderType providerType, Long endpointProviderId) {
+        return new StalePayment(paymentId, "ext_" + paymentId, providerType, endpointProviderId);
+    }
+
+    private static ProviderEndpoint endpoint(PaymentProviderType providerType, Long providerId) {
+        return providerId == null
+                ? ProviderEndpoint.fallback(providerType, "http://mock-payment-server:8081")
+                : new ProviderEndpoint(providerId, "결제사" + providerId, providerType, "http://provider-" + providerId);
+    }
+}
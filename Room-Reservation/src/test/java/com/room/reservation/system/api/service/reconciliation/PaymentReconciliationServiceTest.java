@@ -0,0 +1,122 @@
+package com.room.reservation.system.api.service.reconciliation;
+
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.ReservationStatus;
+import com.room.reservation.system.api.persistence.entity.User;
+import com.room.reservation.system.api.persistence.repository.PaymentRepository;
+import com.room.reservation.system.api.persistence.repository.ReservationRepository;
+import com.room.reservation.system.api.service.cache.MeetingRoomAvailabilityCache;
+import com.room.reservation.system.api.service.notification.PaymentStatusNotifier;
+import com.room.reservation.system.api.service.occupancy.RoomOccupancyIndex;
+import com.room.reservation.system.api.service.refund.PaymentRefundService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RoomOccupancyIndex occupancyIndex;
+
+    @Mock
+    private MeetingRoomAvailabilityCache availabilityCache;
+
+    @Mock
+    private PaymentStatusNotifier statusNotifier;
+
+    @Mock
+    private PaymentRefundService refundService;
+
+    @InjectMocks
+    private PaymentReconciliationService reconciliationService;
+
+    @Test
+    @DisplayName("결제 성공 대사는 만료되지 않은 예약만 확정하고 만료된 예약의 결제는 환불 요청")
+    void apply_Success_ConfirmsPendingAndRefundsExpired() {
+        // given
+        Payment pending = payment(1L, reservation(10L, ReservationStatus.PENDING));
+        Payment expired = payment(2L, reservation(20L, ReservationStatus.EXPIRED));
+        when(paymentRepository.findPendingForUpdate(List.of(1L, 2L))).thenReturn(List.of(pending, expired));
+
+        // when
+        int applied = reconciliationService.apply(PaymentStatus.SUCCESS, List.of(1L, 2L));
+
+        // then
+        assertThat(applied).isEqualTo(2);
+        verify(paymentRepository).updateStatusAll(eq(List.of(1L, 2L)), eq(PaymentStatus.SUCCESS), any());
+        verify(reservationRepository).confirmAll(List.of(10L));
+        verify(refundService).enqueue(List.of(expired));
+        verify(occupancyIndex).occupy(pending.getReservation());
+    }
+
+    @Test
+    @DisplayName("결제 실패 대사는 예약을 확정하거나 환불 요청하지 않음")
+    void apply_Failed_NoConfirmOrRefund() {
+        // given
+        Payment expired = payment(2L, reservation(20L, ReservationStatus.EXPIRED));
+        when(paymentRepository.findPendingForUpdate(List.of(2L))).thenReturn(List.of(expired));
+
+        // when
+        reconciliationService.apply(PaymentStatus.FAILED, List.of(2L));
+
+        // then
+        verify(reservationRepository, never()).confirmAll(anyCollection());
+        verifyNoInteractions(refundService);
+    }
+
+    private Payment payment(Long id, Reservation reservation) {
+        Payment payment = Payment.create(50000, reservation, PaymentProviderType.CARD_PAYMENT);
+        payment.updateExternalPaymentId("ext_" + id);
+        setField(Payment.class, payment, "id", id);
+        return payment;
+    }
+
+    private Reservation reservation(Long id, ReservationStatus status) {
+        MeetingRoom meetingRoom = new MeetingRoom("A회의실", 10, 25000);
+        setField(MeetingRoom.class, meetingRoom, "id", 1L);
+        Reservation reservation = Reservation.create(
+                new User("홍길동", "010-1234-5678"),
+                meetingRoom,
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(14, 0)),
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(15, 0)),
+                50000
+        );
+        // Reflection을 사용하여 id와 상태 설정
+        setField(Reservation.class, reservation, "id", id);
+        setField(Reservation.class, reservation, "status", status);
+        return reservation;
+    }
+
+    private static <T> void setField(Class<T> type, T target, String name, Object value) {
+        try {
+            java.lang.reflect.Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.room.reservation.system.api.service.refund;
+
+import com.room.reservation.system.api.dto.payment.response.PaymentResponseDto;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.PaymentStatus;
+import com.room.reservation.system.api.service.payment.PaymentStrategy;
+import com.room.reservation.system.api.service.payment.PaymentStrategyFactory;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderGuard;
+import com.room.reservation.system.api.service.payment.guard.PaymentProviderUnavailableException;
+import com.room.reservation.system.api.service.payment.registry.PaymentProviderRegistry;
+import com.room.reservation.system.api.service.payment.registry.ProviderEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentRefundDispatcherTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final ProviderEndpoint ENDPOINT =
+            new ProviderEndpoint(3L, "A사 카드 2", PaymentProviderType.CARD_PAYMENT, "http://card-2:8081");
+
+    @Mock
+    private PaymentRefundService refundService;
+
+    @Mock
+    private PaymentStrategyFactory strategyFactory;
+
+    @Mock
+    private PaymentStrategy paymentStrategy;
+
+    @Mock
+    private PaymentProviderGuard providerGuard;
+
+    @Mock
+    private PaymentProviderRegistry providerRegistry;
+
+    private PaymentRefundDispatcher dispatcher;
+    private RefundDispatch dispatch;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PaymentRefundDispatcher(
+                refundService, strategyFactory, providerGuard, providerRegistry, BATCH_SIZE, 2);
+        lenient().when(providerGuard.execute(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(strategyFactory.getPaymentStrategy(PaymentProviderType.CARD_PAYMENT)).thenReturn(paymentStrategy);
+        lenient().when(providerRegistry.endpointOf(PaymentProviderType.CARD_PAYMENT, 3L)).thenReturn(ENDPOINT);
+        dispatch = new RefundDispatch(1L, 10L, "CARD_ABC", PaymentProviderType.CARD_PAYMENT, 3L, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 환불 요청을 결제를 만든 엔드포인트에 취소 요청하고 완료로 기록")
+    void dispatch_Success_Completes() {
+        // given
+        when(refundService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        when(paymentStrategy.cancelPayment(ENDPOINT, "CARD_ABC")).thenReturn(cancelled());
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(refundService).complete(dispatch, PaymentStatus.CANCELLED);
+        verify(refundService, never()).retryLater(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제사에 없는 결제면 재시도 없이 환불 실패로 기록")
+    void dispatch_ProviderRejected_Rejects() {
+        // given
+        when(refundService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        when(paymentStrategy.cancelPayment(ENDPOINT, "CARD_ABC")).thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(refundService).reject(dispatch, "결제사 응답 코드 404");
+        verify(refundService, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제사 응답 시간 초과 시 재시도 예약")
+    void dispatch_ProviderTimeout_RetriesLater() {
+        // given
+        when(refundService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        when(paymentStrategy.cancelPayment(ENDPOINT, "CARD_ABC")).thenThrow(new ResourceAccessException("Read timed out"));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(refundService).retryLater(dispatch, "Read timed out");
+        verify(refundService, never()).reject(any(), any());
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 결제사에 보내지 못하면 시도 횟수를 쓰지 않고 미룸")
+    void dispatch_CircuitOpen_Postpones() {
+        // given
+        when(refundService.claimDue(BATCH_SIZE)).thenReturn(List.of(dispatch));
+        doThrow(new PaymentProviderUnavailableException(
+                PaymentProviderType.CARD_PAYMENT, "서킷 열림", Duration.ofSeconds(30)))
+                .when(providerGuard).execute(eq(PaymentProviderType.CARD_PAYMENT), any());
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(refundService).postpone(eq(dispatch), eq(Duration.ofSeconds(30)), anyString());
+        verifyNoInteractions(paymentStrategy);
+    }
+
+    private PaymentResponseDto cancelled() {
+        return new PaymentResponseDto("CARD_ABC", PaymentStatus.CANCELLED, null,
+                PaymentProviderType.CARD_PAYMENT, null, null, null, LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.room.reservation.system.api.service.refund;
+
+import com.room.reservation.system.api.persistence.entity.MeetingRoom;
+import com.room.reservation.system.api.persistence.entity.Payment;
+import com.room.reservation.system.api.persistence.entity.PaymentProviderType;
+import com.room.reservation.system.api.persistence.entity.PaymentRefund;
+import com.room.reservation.system.api.persistence.entity.Reservation;
+import com.room.reservation.system.api.persistence.entity.User;
+import com.room.reservation.system.api.persistence.repository.PaymentRefundRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentRefundServiceTest {
+
+    @Mock
+    private PaymentRefundRepository refundRepository;
+
+    private PaymentRefundService refundService;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        refundService = new PaymentRefundService(refundRepository, Duration.ofSeconds(30), Duration.ofSeconds(2), 8);
+        reservation = Reservation.create(
+                new User("홍길동", "010-1234-5678"),
+                new MeetingRoom("A회의실", 10, 25000),
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(14, 0)),
+                LocalDateTime.now().plusDays(1).with(LocalTime.of(15, 0)),
+                50000
+        );
+        // Reflection을 사용하여 id 설정
+        setId(Reservation.class, reservation, 1L);
+    }
+
+    @Test
+    @DisplayName("이미 환불 요청이 있는 결제는 다시 환불 요청하지 않음")
+    @SuppressWarnings("unchecked")
+    void enqueue_AlreadyRequested_Skipped() {
+        // given
+        Payment requested = payment(10L, "ext_10");
+        Payment fresh = payment(11L, "ext_11");
+        when(refundRepository.findPaymentIdsIn(List.of(10L, 11L))).thenReturn(Set.of(10L));
+
+        // when
+        int enqueued = refundService.enqueue(List.of(requested, fresh));
+
+        // then
+        ArgumentCaptor<List<PaymentRefund>> captor = ArgumentCaptor.forClass(List.class);
+        verify(refundRepository).saveAll(captor.capture());
+        assertThat(enqueued).isEqualTo(1);
+        assertThat(captor.getValue()).extracting(PaymentRefund::getPaymentId).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("결제사에 전달되지 않은 결제는 환불 요청 대상이 아님")
+    void enqueue_NotSentToProvider_Skipped() {
+        // given
+        Payment payment = payment(10L, null);
+
+        // when
+        int enqueued = refundService.enqueue(List.of(payment));
+
+        // then
+        assertThat(enqueued).isZero();
+        verify(refundRepository, never()).findPaymentIdsIn(anyCollection());
+        verify(refundRepository, never()).saveAll(anyCollection());
+    }
+
+    private Payment payment(Long id, String externalPaymentId) {
+        Payment payment = Payment.create(50000, reservation, PaymentProviderType.CARD_PAYMENT);
+        payment.updateExternalPaymentId(externalPaymentId);
+        setId(Payment.class, payment, id);
+        return payment;
+    }
+
+    private static <T> void setId(Class<T> type, T target, Long id) {
+        try {
+            java.lang.reflect.Field idField = type.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(target, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
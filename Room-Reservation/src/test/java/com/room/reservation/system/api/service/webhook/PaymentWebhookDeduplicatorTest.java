@@ -0,0 +1,113 @@
+package com.room.reservation.system.api.service.webhook;
+
+import com.room.reservation.system.api.persistence.entity.ProcessedWebhookEvent;
+import com.room.reservation.system.api.persistence.repository.ProcessedWebhookEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookDeduplicatorTest {
+
+    @Mock
+    private ProcessedWebhookEventRepository processedWebhookEventRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("처리 기록을 남긴 웹훅은 DB 조회 없이 중복으로 판별")
+    void isDuplicate_Recorded_ServedFromMemory() {
+        // given
+        PaymentWebhookDeduplicator deduplicator = deduplicator(100);
+        deduplicator.record("ext_1", "txn_1");
+
+        // when
+        boolean duplicate = deduplicator.isDuplicate("ext_1", "txn_1");
+
+        // then
+        assertThat(duplicate).isTrue();
+        verify(processedWebhookEventRepository).saveAndFlush(any(ProcessedWebhookEvent.class));
+        verify(processedWebhookEventRepository, never()).existsByExternalPaymentIdAndTransactionId(anyString(), anyString());
+        assertThat(meterRegistry.get("payment.webhook.dedup.requests").tag("result", "memory_hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("메모리에 없으면 처리 기록 테이블에서 확인하고, 찾은 웹훅은 메모리에 올림")
+    void isDuplicate_StoredOnly_ChecksTableOnce() {
+        // given
+        PaymentWebhookDeduplicator deduplicator = deduplicator(100);
+        when(processedWebhookEventRepository.existsByExternalPaymentIdAndTransactionId("ext_1", "txn_1")).thenReturn(true);
+
+        // when
+        boolean first = deduplicator.isDuplicate("ext_1", "txn_1");
+        boolean second = deduplicator.isDuplicate("ext_1", "txn_1");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(processedWebhookEventRepository, times(1)).existsByExternalPaymentIdAndTransactionId("ext_1", "txn_1");
+    }
+
+    @Test
+    @DisplayName("처음 받은 웹훅은 중복이 아니며 적중률에 반영")
+    void isDuplicate_New_Miss() {
+        // given
+        PaymentWebhookDeduplicator deduplicator = deduplicator(100);
+        when(processedWebhookEventRepository.existsByExternalPaymentIdAndTransactionId(anyString(), anyString()))
+                .thenReturn(false);
+        deduplicator.record("ext_1", "txn_1");
+
+        // when
+        boolean duplicate = deduplicator.isDuplicate("ext_2", "txn_2");
+        deduplicator.isDuplicate("ext_1", "txn_1");
+
+        // then
+        assertThat(duplicate).isFalse();
+        assertThat(deduplicator.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 기록부터 메모리에서 제거")
+    void isDuplicate_OverMaxSize_EvictsEldest() {
+        // given
+        PaymentWebhookDeduplicator deduplicator = deduplicator(1);
+        deduplicator.record("ext_1", "txn_1");
+        deduplicator.record("ext_2", "txn_2");
+        when(processedWebhookEventRepository.existsByExternalPaymentIdAndTransactionId("ext_1", "txn_1")).thenReturn(true);
+
+        // when
+        boolean duplicate = deduplicator.isDuplicate("ext_1", "txn_1");
+
+        // then
+        assertThat(duplicate).isTrue();
+        verify(processedWebhookEventRepository).existsByExternalPaymentIdAndTransactionId("ext_1", "txn_1");
+    }
+
+    @Test
+    @DisplayName("외부 결제 ID나 거래 ID가 없는 웹훅은 판별하거나 기록하지 않음")
+    void isDuplicate_MissingKey_NotChecked() {
+        // given
+        PaymentWebhookDeduplicator deduplicator = deduplicator(100);
+
+        // when
+        boolean duplicate = deduplicator.isDuplicate("ext_1", null);
+        deduplicator.record(null, "txn_1");
+
+        // then
+        assertThat(duplicate).isFalse();
+        verifyNoInteractions(processedWebhookEventRepository);
+    }
+
+    private PaymentWebhookDeduplicator deduplicator(int maxSize) {
+        return new PaymentWebhookDeduplicator(processedWebhookEventRepository, maxSize, meterRegistry);
+    }
+}
@@ -0,0 +1,162 @@
+package com.room.reservation.system.api.service.webhook;
+
+import com.room.reservation.system.api.dto.payment.WebhookPaymentDto;
+import com.room.reservation.system.global.error.exception.NotFoundException;
+import com.room.reservation.system.global.error.model.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookQueueTest {
+
+    private static final long TIMEOUT_MILLIS = 1000;
+
+    @Mock
+    private PaymentWebhookInboxService inboxService;
+
+    private PaymentWebhookQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("웹훅을 수신함에 저장하고 작업 스레드에서 처리")
+    void offer_StoresAndProcesses() {
+        // given
+        queue = queue(4, 100);
+        WebhookPaymentDto webhook = webhook("1");
+        when(inboxService.enqueue("CARD_PAYMENT", webhook)).thenReturn(task(10L, "1"));
+
+        // when
+        boolean accepted = queue.offer("CARD_PAYMENT", webhook);
+
+        // then
+        assertThat(accepted).isTrue();
+        verify(inboxService, timeout(TIMEOUT_MILLIS)).process(10L);
+    }
+
+    @Test
+    @DisplayName("같은 결제의 웹훅은 받은 순서대로 처리")
+    void offer_SamePayment_ProcessedInOrder() {
+        // given
+        queue = queue(4, 100);
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> processed.add(invocation.getArgument(0))).when(inboxService).process(any());
+        when(inboxService.enqueue(anyString(), any()))
+                .thenReturn(task(1L, "7"), task(2L, "7"), task(3L, "7"));
+
+        // when
+        queue.offer("CARD_PAYMENT", webhook("7"));
+        queue.offer("CARD_PAYMENT", webhook("7"));
+        queue.offer("CARD_PAYMENT", webhook("7"));
+
+        // then
+        verify(inboxService, timeout(TIMEOUT_MILLIS).times(3)).process(any());
+        assertThat(processed).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("처리 대기 중인 웹훅이 capacity에 이르면 저장하지 않고 거절")
+    void offer_QueueFull_Rejects() throws InterruptedException {
+        // given
+        queue = queue(1, 1);
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processing.countDown();
+            release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(inboxService).process(1L);
+        when(inboxService.enqueue(anyString(), any())).thenReturn(task(1L, "1"));
+        queue.offer("CARD_PAYMENT", webhook("1"));
+        processing.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        // when
+        boolean accepted = queue.offer("CARD_PAYMENT", webhook("2"));
+
+        // then
+        assertThat(accepted).isFalse();
+        verify(inboxService, times(1)).enqueue(anyString(), any());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("일시적인 처리 실패는 재시도 예약")
+    void process_TransientFailure_RetriesLater() {
+        // given
+        queue = queue(4, 100);
+        when(inboxService.enqueue(anyString(), any())).thenReturn(task(1L, "1"));
+        doThrow(new CannotAcquireLockException("lock timeout")).when(inboxService).process(1L);
+
+        // when
+        queue.offer("CARD_PAYMENT", webhook("1"));
+
+        // then
+        verify(inboxService, timeout(TIMEOUT_MILLIS)).retryLater(1L, "lock timeout");
+        verify(inboxService, never()).reject(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제를 찾을 수 없는 웹훅은 재시도 없이 실패로 기록")
+    void process_PaymentNotFound_Rejects() {
+        // given
+        queue = queue(4, 100);
+        when(inboxService.enqueue(anyString(), any())).thenReturn(task(1L, "1"));
+        doThrow(new NotFoundException(ErrorCode.FAIL_NOT_PAYMENT)).when(inboxService).process(1L);
+
+        // when
+        queue.offer("CARD_PAYMENT", webhook("1"));
+
+        // then
+        verify(inboxService, timeout(TIMEOUT_MILLIS)).reject(1L, ErrorCode.FAIL_NOT_PAYMENT.getMessage());
+        verify(inboxService, never()).retryLater(any(), any());
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 웹훅을 남은 자리만큼 선점해 다시 처리")
+    void sweep_ClaimsDueWebhooks() {
+        // given
+        queue = queue(4, 100);
+        when(inboxService.claimDue(anyInt())).thenReturn(List.of(task(1L, "1"), task(2L, "2")));
+
+        // when
+        queue.sweep();
+
+        // then
+        verify(inboxService).claimDue(50);
+        verify(inboxService, timeout(TIMEOUT_MILLIS)).process(1L);
+        verify(inboxService, timeout(TIMEOUT_MILLIS)).process(2L);
+    }
+
+    private PaymentWebhookQueue queue(int partitions, int capacity) {
+        return new PaymentWebhookQueue(inboxService, partitions, capacity, 50, new SimpleMeterRegistry());
+    }
+
+    private WebhookTask task(Long inboxId, String paymentId) {
+        return new WebhookTask(inboxId, paymentId, LocalDateTime.now());
+    }
+
+    private WebhookPaymentDto webhook(String paymentId) {
+        return new WebhookPaymentDto("ext_" + paymentId, "SUCCESS", 50000, "txn_" + paymentId, "결제 성공",
+                "테스트결제사", "http://test.com", "auth", "CARD_PAYMENT", paymentId);
+    }
+}